@@ -0,0 +1,77 @@
+package com.planB.myexpressionfriend.common.security;
+
+import com.planB.myexpressionfriend.common.config.JWTProperties;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import com.planB.myexpressionfriend.common.util.JWTUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 검증 처리량 비교
+ *
+ * - rebuildParserPerRequest: 기존 방식 (요청마다 JwtParser 빌드 + 클레임 파싱)
+ * - sharedParser: JwtParser 재사용 (JWTUtil.validateToken)
+ * - principalCache: 토큰 해시 → 인증 주체 캐시 적중 (JWTPrincipalCache.resolve)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JWTValidationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey secretKey;
+    private JWTUtil jwtUtil;
+    private JWTPrincipalCache principalCache;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JWTProperties properties = new JWTProperties();
+        properties.setSecret(SECRET);
+
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtUtil = new JWTUtil(properties);
+        principalCache = new JWTPrincipalCache(jwtUtil, new OpsMetricService(), 1000);
+        accessToken = jwtUtil.generateToken(Map.of(
+                "type", "access",
+                "userId", UUID.randomUUID().toString(),
+                "email", "bench@example.com",
+                "name", "bench",
+                "roles", List.of("PARENT")
+        ), 60);
+    }
+
+    @Benchmark
+    public Object rebuildParserPerRequest() {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+
+    @Benchmark
+    public Object sharedParser() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Object principalCache() {
+        return principalCache.resolve(accessToken);
+    }
+}
@@ -0,0 +1,217 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.util.StripedLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게임 세션 생성 동시 처리량 비교 (PostgreSQL 필요)
+ *
+ * - childRowLock*: 이전 방식. 아동 행을 SELECT ... FOR UPDATE로 잠근 뒤 기존 세션 종료 + INSERT
+ * - partialIndex*: 현재 GameSessionService.createSession 방식. 아동 단위 스트라이프 락을 커밋까지 잡고
+ *   기존 세션 종료 + INSERT ... ON CONFLICT (child_id) WHERE is_active DO NOTHING (충돌 시 최대 3회 재시도)
+ * - *SameChild: 모든 스레드가 같은 아동, *DifferentChildren: 스레드마다 다른 아동
+ *
+ * 두 방식은 같은 구조의 별도 테이블(bench_game_sessions_locked / bench_game_sessions_indexed)을 사용하며,
+ * 세션 테이블은 반복(iteration)마다 비웁니다.
+ * 접속 정보는 BENCH_JDBC_URL / BENCH_JDBC_USERNAME / BENCH_JDBC_PASSWORD 환경 변수로 지정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class GameSessionCreateBenchmark {
+
+    private static final int CHILD_COUNT = 64;
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+    private static final UUID SHARED_CHILD_ID = childId(0);
+
+    private final StripedLock childLocks = new StripedLock(64);
+
+    @State(Scope.Thread)
+    public static class Worker {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        private Connection connection;
+        private UUID ownChildId;
+
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            connection = connect();
+            connection.setAutoCommit(false);
+            ownChildId = childId(SEQUENCE.getAndIncrement() % CHILD_COUNT + 1);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void createSchema() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_game_sessions_locked, bench_game_sessions_indexed, bench_children");
+            statement.execute("CREATE TABLE bench_children (child_id UUID PRIMARY KEY)");
+            for (String table : new String[]{"bench_game_sessions_locked", "bench_game_sessions_indexed"}) {
+                statement.execute("""
+                        CREATE TABLE %s (
+                            session_id UUID PRIMARY KEY,
+                            session_token VARCHAR(255) NOT NULL UNIQUE,
+                            child_id UUID NOT NULL REFERENCES bench_children (child_id),
+                            is_active BOOLEAN NOT NULL,
+                            created_at TIMESTAMP NOT NULL
+                        )
+                        """.formatted(table));
+                statement.execute("CREATE INDEX ON %s (child_id)".formatted(table));
+            }
+            statement.execute("""
+                    CREATE UNIQUE INDEX bench_uk_game_session_active_child
+                        ON bench_game_sessions_indexed (child_id)
+                        WHERE is_active
+                    """);
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO bench_children VALUES (?)")) {
+                for (int i = 0; i <= CHILD_COUNT; i++) {
+                    insert.setObject(1, childId(i));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncateSessions() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE bench_game_sessions_locked, bench_game_sessions_indexed");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void dropSchema() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_game_sessions_locked, bench_game_sessions_indexed, bench_children");
+        }
+    }
+
+    @Benchmark
+    public void childRowLockSameChild(Worker worker) throws SQLException {
+        createWithChildRowLock(worker.connection, SHARED_CHILD_ID);
+    }
+
+    @Benchmark
+    public void childRowLockDifferentChildren(Worker worker) throws SQLException {
+        createWithChildRowLock(worker.connection, worker.ownChildId);
+    }
+
+    @Benchmark
+    public void partialIndexSameChild(Worker worker) throws SQLException, InterruptedException {
+        createWithPartialIndex(worker.connection, SHARED_CHILD_ID);
+    }
+
+    @Benchmark
+    public void partialIndexDifferentChildren(Worker worker) throws SQLException, InterruptedException {
+        createWithPartialIndex(worker.connection, worker.ownChildId);
+    }
+
+    private void createWithChildRowLock(Connection connection, UUID childId) throws SQLException {
+        try {
+            try (PreparedStatement lock = connection.prepareStatement(
+                    "SELECT child_id FROM bench_children WHERE child_id = ? FOR UPDATE")) {
+                lock.setObject(1, childId);
+                lock.executeQuery().close();
+            }
+            terminateActive(connection, "bench_game_sessions_locked", childId);
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO bench_game_sessions_locked (session_id, session_token, child_id, is_active, created_at)
+                    VALUES (?, ?, ?, true, ?)
+                    """)) {
+                bindSession(insert, childId);
+                insert.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    private void createWithPartialIndex(Connection connection, UUID childId) throws SQLException, InterruptedException {
+        if (!childLocks.tryLock(childId, 3, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("lock timeout");
+        }
+        try {
+            for (int attempt = 1; attempt <= MAX_CREATE_ATTEMPTS; attempt++) {
+                terminateActive(connection, "bench_game_sessions_indexed", childId);
+                try (PreparedStatement insert = connection.prepareStatement("""
+                        INSERT INTO bench_game_sessions_indexed (session_id, session_token, child_id, is_active, created_at)
+                        VALUES (?, ?, ?, true, ?)
+                        ON CONFLICT (child_id) WHERE is_active DO NOTHING
+                        """)) {
+                    bindSession(insert, childId);
+                    if (insert.executeUpdate() == 1) {
+                        connection.commit();
+                        return;
+                    }
+                }
+            }
+            throw new IllegalStateException("session insert kept conflicting");
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            childLocks.unlock(childId);
+        }
+    }
+
+    private static void terminateActive(Connection connection, String table, UUID childId) throws SQLException {
+        try (PreparedStatement terminate = connection.prepareStatement(
+                "UPDATE " + table + " SET is_active = false WHERE child_id = ? AND is_active")) {
+            terminate.setObject(1, childId);
+            terminate.executeUpdate();
+        }
+    }
+
+    private static void bindSession(PreparedStatement insert, UUID childId) throws SQLException {
+        insert.setObject(1, UUID.randomUUID());
+        insert.setString(2, UUID.randomUUID().toString());
+        insert.setObject(3, childId);
+        insert.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static UUID childId(int index) {
+        return new UUID(0L, index);
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                env("BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/mydb"),
+                env("BENCH_JDBC_USERNAME", "admin"),
+                env("BENCH_JDBC_PASSWORD", "admin123"));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,156 @@
+package com.planB.myexpressionfriend.unity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Unity 미션 10,000건 임포트 시간 비교 (PostgreSQL 필요)
+ *
+ * - identity: GenerationType.IDENTITY (행마다 INSERT 왕복, 배치 불가)
+ * - pooledSequence: allocationSize=50 시퀀스 + hibernate.jdbc.batch_size=50
+ *
+ * 접속 정보는 BENCH_JDBC_URL / BENCH_JDBC_USERNAME / BENCH_JDBC_PASSWORD 환경 변수로 지정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class UnityMissionImportBenchmark {
+
+    private static final int MISSION_COUNT = 10_000;
+
+    private SessionFactory sessionFactory;
+
+    @Entity
+    @Table(name = "bench_identity_missions")
+    public static class IdentityMission {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false)
+        private Integer missionId;
+
+        @Column(nullable = false, length = 200)
+        private String missionName;
+
+        @Column(nullable = false, length = 100)
+        private String targetEmotion;
+
+        private LocalDateTime createdAt;
+
+        protected IdentityMission() {
+        }
+
+        IdentityMission(int missionId) {
+            this.missionId = missionId;
+            this.missionName = "mission-" + missionId;
+            this.targetEmotion = "HAPPY";
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_sequence_missions")
+    public static class SequenceMission {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_sequence_missions_seq")
+        @SequenceGenerator(name = "bench_sequence_missions_seq", sequenceName = "bench_sequence_missions_seq", allocationSize = 50)
+        private Long id;
+
+        @Column(nullable = false)
+        private Integer missionId;
+
+        @Column(nullable = false, length = 200)
+        private String missionName;
+
+        @Column(nullable = false, length = 100)
+        private String targetEmotion;
+
+        private LocalDateTime createdAt;
+
+        protected SequenceMission() {
+        }
+
+        SequenceMission(int missionId) {
+            this.missionId = missionId;
+            this.missionName = "mission-" + missionId;
+            this.targetEmotion = "HAPPY";
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityMission.class)
+                .addAnnotatedClass(SequenceMission.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, env("BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/mydb"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, env("BENCH_JDBC_USERNAME", "admin"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, env("BENCH_JDBC_PASSWORD", "admin123"))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> session
+                .createNativeMutationQuery("TRUNCATE bench_identity_missions, bench_sequence_missions")
+                .executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void identity() {
+        sessionFactory.inTransaction(session -> persistAll(session, IdentityMission::new));
+    }
+
+    @Benchmark
+    public void pooledSequence() {
+        sessionFactory.inTransaction(session -> persistAll(session, SequenceMission::new));
+    }
+
+    private void persistAll(Session session, IntFunction<Object> factory) {
+        for (int i = 0; i < MISSION_COUNT; i++) {
+            session.persist(factory.apply(i));
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,90 @@
+package com.planB.myexpressionfriend.common.cache;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Redis 기반 원격 캐시 저장소 (값 저장 + pub/sub 무효화 채널)
+ */
+public class RedisRemoteCacheStore implements RemoteCacheStore {
+
+    private static final int DELETE_CHUNK_SIZE = 500;
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+
+    public RedisRemoteCacheStore(
+            RedisConnectionFactory connectionFactory,
+            RedisMessageListenerContainer listenerContainer,
+            String channel
+    ) {
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setKeySerializer(RedisSerializer.string());
+        this.redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        this.redisTemplate.afterPropertiesSet();
+        this.stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        this.listenerContainer = listenerContainer;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public void set(String key, byte[] value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+
+    @Override
+    public void deleteByPrefix(String prefix) {
+        List<String> chunk = new ArrayList<>(DELETE_CHUNK_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(DELETE_CHUNK_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                chunk.add(cursor.next());
+                if (chunk.size() == DELETE_CHUNK_SIZE) {
+                    redisTemplate.delete(chunk);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            redisTemplate.delete(chunk);
+        }
+    }
+
+    @Override
+    public void publish(String message) {
+        stringRedisTemplate.convertAndSend(topic.getTopic(), message);
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                topic
+        );
+    }
+}
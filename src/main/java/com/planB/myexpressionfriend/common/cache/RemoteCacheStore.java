@@ -0,0 +1,28 @@
+package com.planB.myexpressionfriend.common.cache;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * 2단 캐시의 원격(공유) 저장소와 무효화 브로드캐스트 채널
+ *
+ * 운영에서는 Redis(RedisRemoteCacheStore)를 사용하며,
+ * 테스트에서는 메모리 기반 대체 구현으로 여러 노드를 흉내낼 수 있습니다.
+ */
+public interface RemoteCacheStore {
+
+    byte[] get(String key);
+
+    void set(String key, byte[] value, Duration ttl);
+
+    void delete(String key);
+
+    void deleteByPrefix(String prefix);
+
+    /**
+     * 모든 노드에 무효화 메시지 전송 (자기 자신 포함)
+     */
+    void publish(String message);
+
+    void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,171 @@
+package com.planB.myexpressionfriend.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬 Caffeine(near) + 원격 저장소(far) 2단 캐시
+ *
+ * 조회는 로컬 → 원격 → 로더 순서로 진행하며, 같은 키의 동시 미스는 Caffeine이 노드당 한 번만 로드합니다.
+ * put/evict/clear는 원격 저장소를 갱신한 뒤 무효화 메시지를 브로드캐스트해 다른 노드의 로컬 사본을 제거합니다.
+ * 원격 저장소 장애 시에는 로컬 캐시와 로더만으로 동작합니다.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final String remoteKeyPrefix;
+    private final Cache<String, Object> local;
+    private final RemoteCacheStore remoteStore;
+    private final RedisSerializer<Object> serializer;
+    private final Duration remoteTtl;
+    private final TwoTierCacheManager manager;
+
+    TwoTierCache(
+            String name,
+            RemoteCacheStore remoteStore,
+            RedisSerializer<Object> serializer,
+            long localMaximumSize,
+            Duration localTtl,
+            Duration remoteTtl,
+            TwoTierCacheManager manager
+    ) {
+        super(true);
+        this.name = name;
+        this.remoteKeyPrefix = "cache:" + name + "::";
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        this.remoteStore = remoteStore;
+        this.serializer = serializer;
+        this.remoteTtl = remoteTtl;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = key.toString();
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            manager.recordLocalHit();
+            return value;
+        }
+        value = remoteGet(localKey);
+        if (value != null) {
+            local.put(localKey, value);
+            return value;
+        }
+        manager.recordMiss();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = key.toString();
+        boolean[] computed = {false};
+        Object value = local.get(localKey, k -> {
+            computed[0] = true;
+            Object remote = remoteGet(k);
+            if (remote != null) {
+                return remote;
+            }
+            manager.recordMiss();
+            Object storeValue = toStoreValue(load(key, valueLoader));
+            remoteSet(k, storeValue);
+            return storeValue;
+        });
+        if (!computed[0]) {
+            manager.recordLocalHit();
+        }
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = key.toString();
+        Object storeValue = toStoreValue(value);
+        remoteSet(localKey, storeValue);
+        local.put(localKey, storeValue);
+        manager.broadcastEvict(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = key.toString();
+        runRemote(() -> remoteStore.delete(remoteKeyPrefix + localKey), "evict");
+        local.invalidate(localKey);
+        manager.broadcastEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        runRemote(() -> remoteStore.deleteByPrefix(remoteKeyPrefix), "clear");
+        local.invalidateAll();
+        manager.broadcastClear(name);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 반영 (원격 저장소는 이미 갱신됨)
+     */
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private Object remoteGet(String key) {
+        try {
+            byte[] bytes = remoteStore.get(remoteKeyPrefix + key);
+            if (bytes == null) {
+                return null;
+            }
+            manager.recordRemoteHit();
+            return serializer.deserialize(bytes);
+        } catch (Exception e) {
+            manager.recordRemoteError();
+            log.warn("원격 캐시 조회 실패 - cache: {}, key: {}, reason: {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void remoteSet(String key, Object storeValue) {
+        runRemote(() -> remoteStore.set(remoteKeyPrefix + key, serializer.serialize(storeValue), remoteTtl), "put");
+    }
+
+    private void runRemote(Runnable operation, String operationName) {
+        try {
+            operation.run();
+        } catch (Exception e) {
+            manager.recordRemoteError();
+            log.warn("원격 캐시 {} 실패 - cache: {}, reason: {}", operationName, name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.planB.myexpressionfriend.common.cache;
+
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 2단 캐시 매니저
+ *
+ * 캐시 이름별 TwoTierCache를 필요 시 생성하고, 원격 저장소의 무효화 채널을 구독해
+ * 다른 노드에서 발생한 evict/clear를 로컬 캐시에 반영합니다.
+ * 메시지 형식: "노드ID|캐시 이름|키" (clear는 키 생략)
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    private static final String SEPARATOR = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final RemoteCacheStore remoteStore;
+    private final RedisSerializer<Object> serializer;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final Duration remoteTtl;
+
+    private final AtomicLong localHitCount = new AtomicLong();
+    private final AtomicLong remoteHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong remoteErrorCount = new AtomicLong();
+    private final AtomicLong invalidationReceivedCount = new AtomicLong();
+
+    public TwoTierCacheManager(
+            RemoteCacheStore remoteStore,
+            OpsMetricService opsMetricService,
+            long localMaximumSize,
+            Duration localTtl,
+            Duration remoteTtl
+    ) {
+        this.remoteStore = remoteStore;
+        this.serializer = RedisSerializer.java(getClass().getClassLoader());
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        this.remoteTtl = remoteTtl;
+
+        opsMetricService.registerGauge("twoTierCacheLocalHitCount", localHitCount::get);
+        opsMetricService.registerGauge("twoTierCacheRemoteHitCount", remoteHitCount::get);
+        opsMetricService.registerGauge("twoTierCacheMissCount", missCount::get);
+        opsMetricService.registerGauge("twoTierCacheRemoteErrorCount", remoteErrorCount::get);
+        opsMetricService.registerGauge("twoTierCacheInvalidationReceivedCount", invalidationReceivedCount::get);
+
+        remoteStore.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> new TwoTierCache(
+                cacheName, remoteStore, serializer, localMaximumSize, localTtl, remoteTtl, this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Set.copyOf(caches.keySet());
+    }
+
+    void broadcastEvict(String cacheName, String key) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    void broadcastClear(String cacheName) {
+        publish(nodeId + SEPARATOR + cacheName);
+    }
+
+    void recordLocalHit() {
+        localHitCount.incrementAndGet();
+    }
+
+    void recordRemoteHit() {
+        remoteHitCount.incrementAndGet();
+    }
+
+    void recordMiss() {
+        missCount.incrementAndGet();
+    }
+
+    void recordRemoteError() {
+        remoteErrorCount.incrementAndGet();
+    }
+
+    private void publish(String message) {
+        try {
+            remoteStore.publish(message);
+        } catch (Exception e) {
+            remoteErrorCount.incrementAndGet();
+            log.warn("캐시 무효화 브로드캐스트 실패 - message: {}, reason: {}", message, e.getMessage());
+        }
+    }
+
+    private void onInvalidation(String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        invalidationReceivedCount.incrementAndGet();
+        if (parts.length == 3) {
+            cache.evictLocal(parts[2]);
+        } else {
+            cache.clearLocal();
+        }
+    }
+}
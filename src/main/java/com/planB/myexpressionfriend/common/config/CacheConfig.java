@@ -1,9 +1,55 @@
 package com.planB.myexpressionfriend.common.config;
 
+import com.planB.myexpressionfriend.common.cache.RedisRemoteCacheStore;
+import com.planB.myexpressionfriend.common.cache.TwoTierCacheManager;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+import java.time.Duration;
+
+/**
+ * 캐시 설정
+ *
+ * 기본은 spring.cache.type(Caffeine) 단일 노드 캐시를 사용합니다.
+ * cache.two-tier.enabled=true이면 로컬 Caffeine + Redis 2단 캐시를 사용하고,
+ * Redis pub/sub으로 노드 간 무효화를 전파합니다.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.two-tier.enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.two-tier.enabled", havingValue = "true")
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            RedisMessageListenerContainer cacheInvalidationListenerContainer,
+            OpsMetricService opsMetricService,
+            @Value("${cache.two-tier.channel:cache-invalidation}") String channel,
+            @Value("${cache.two-tier.local.maximum-size:1000}") long localMaximumSize,
+            @Value("${cache.two-tier.local.ttl-seconds:60}") long localTtlSeconds,
+            @Value("${cache.two-tier.remote.ttl-seconds:3600}") long remoteTtlSeconds
+    ) {
+        return new TwoTierCacheManager(
+                new RedisRemoteCacheStore(connectionFactory, cacheInvalidationListenerContainer, channel),
+                opsMetricService,
+                localMaximumSize,
+                Duration.ofSeconds(localTtlSeconds),
+                Duration.ofSeconds(remoteTtlSeconds)
+        );
+    }
 }
@@ -1,13 +1,14 @@
 package com.planB.myexpressionfriend.common.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.planB.myexpressionfriend.common.repository.GameSessionRepository;
+import com.planB.myexpressionfriend.common.security.GameSessionTokenCache;
+import com.planB.myexpressionfriend.common.security.JWTPrincipalCache;
+import com.planB.myexpressionfriend.common.security.PasswordHashingService;
 import com.planB.myexpressionfriend.common.security.filter.GameSessionAuthenticationFilter;
 import com.planB.myexpressionfriend.common.security.filter.JWTCheckFilter;
 import com.planB.myexpressionfriend.common.security.handler.APILoginFailHandler;
 import com.planB.myexpressionfriend.common.security.handler.APILoginSuccessHandler;
 import com.planB.myexpressionfriend.common.security.handler.CustomAccessDeniedHandler;
-import com.planB.myexpressionfriend.common.util.JWTUtil;
 import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +19,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -45,17 +45,17 @@ public class CustomSecurityConfig {
 
     @Bean
     public JWTCheckFilter jwtCheckFilter(
-            JWTUtil jwtUtil,
+            JWTPrincipalCache principalCache,
             ObjectMapper objectMapper
     ) {
-        return new JWTCheckFilter(jwtUtil, objectMapper);
+        return new JWTCheckFilter(principalCache, objectMapper);
     }
 
     @Bean
     public GameSessionAuthenticationFilter gameSessionAuthenticationFilter(
-            GameSessionRepository sessionRepository
+            GameSessionTokenCache sessionTokenCache
     ) {
-        return new GameSessionAuthenticationFilter(sessionRepository);
+        return new GameSessionAuthenticationFilter(sessionTokenCache);
     }
 
     @Bean
@@ -133,7 +133,7 @@ public class CustomSecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingService passwordHashingService) {
+        return passwordHashingService.passwordEncoder();
     }
 }
\ No newline at end of file
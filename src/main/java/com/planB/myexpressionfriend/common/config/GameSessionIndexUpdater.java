@@ -0,0 +1,78 @@
+package com.planB.myexpressionfriend.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아동당 활성 게임 세션을 하나로 제한하는 부분 유니크 인덱스 생성.
+ *
+ * 인덱스 생성 전 남아 있는 중복 활성 세션은 최신 세션만 남기고 비활성화합니다.
+ * GameSessionRepository.insertActiveSessionIfAbsent의 ON CONFLICT 대상이며, 인덱스가 없으면 세션 생성이
+ * 모두 실패하므로 생성하지 못하면 요청을 받기 전에 애플리케이션 기동을 중단합니다.
+ * (JPA 스키마 생성 이후, 웹 서버 시작 전인 싱글톤 초기화 완료 시점에 실행)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameSessionIndexUpdater implements SmartInitializingSingleton {
+
+    private static final String INDEX_NAME = "uk_game_session_active_child";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        createActiveSessionIndex();
+    }
+
+    public void createActiveSessionIndex() {
+        String sql = """
+                DO $$
+                BEGIN
+                    IF EXISTS (
+                        SELECT 1
+                        FROM information_schema.tables
+                        WHERE table_schema = current_schema()
+                          AND table_name = 'game_sessions'
+                    ) THEN
+                        UPDATE game_sessions gs
+                        SET is_active = false
+                        WHERE gs.is_active
+                          AND gs.session_id <> (
+                              SELECT latest.session_id
+                              FROM game_sessions latest
+                              WHERE latest.child_id = gs.child_id
+                                AND latest.is_active
+                              ORDER BY latest.created_at DESC NULLS LAST, latest.session_id
+                              LIMIT 1
+                          );
+
+                        CREATE UNIQUE INDEX IF NOT EXISTS uk_game_session_active_child
+                            ON game_sessions (child_id)
+                            WHERE is_active;
+                    END IF;
+                END $$;
+                """;
+
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to create game session index " + INDEX_NAME, e);
+        }
+
+        Integer indexCount = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM pg_indexes
+                WHERE schemaname = current_schema()
+                  AND tablename = 'game_sessions'
+                  AND indexname = ?
+                """, Integer.class, INDEX_NAME);
+        if (indexCount == null || indexCount == 0) {
+            throw new IllegalStateException("Game session index " + INDEX_NAME + " is missing");
+        }
+        log.info("Game session active-child unique index is up to date.");
+    }
+}
@@ -15,5 +15,36 @@ public class GeminiProperties {
     private String apiKey;
     private String model = "gemini-2.0-flash";
     private String baseUrl = "https://generativelanguage.googleapis.com";
+    private double temperature = 0.4;
+    /**
+     * 요청 전체(연결 대기 + 응답 본문 수신) 제한 시간
+     */
     private int timeoutMs = 45000;
+    private int connectTimeoutMs = 5000;
+    /**
+     * 요청 전송 후 응답 헤더(첫 바이트)까지의 제한 시간
+     * Gemini는 생성을 마친 뒤 응답 헤더를 보내므로 사실상 생성 시간 제한이며, 0 이하이면 timeoutMs를 따릅니다.
+     */
+    private int readTimeoutMs = 0;
+    /**
+     * Gemini 엔드포인트로 동시에 열 수 있는 최대 요청(연결) 수
+     */
+    private int maxConnectionsPerRoute = 20;
+
+    /**
+     * 실제 적용할 응답 헤더 제한 시간 (미설정이면 전체 제한 시간, 설정해도 전체 제한 시간을 넘지 않음)
+     */
+    public int resolveReadTimeoutMs() {
+        return readTimeoutMs > 0 ? Math.min(readTimeoutMs, timeoutMs) : timeoutMs;
+    }
+
+    /**
+     * 요청 모델명이 비어 있거나 "default"이면 기본 모델을 사용합니다.
+     */
+    public String resolveModel(String requestedModel) {
+        if (requestedModel == null || requestedModel.isBlank() || "default".equalsIgnoreCase(requestedModel)) {
+            return model;
+        }
+        return requestedModel.trim();
+    }
 }
@@ -0,0 +1,26 @@
+package com.planB.myexpressionfriend.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * LLM 호출용 공용 HTTP 클라이언트 설정
+ *
+ * 요청마다 클라이언트를 만들지 않고 하나를 공유해 keep-alive 연결을 재사용합니다.
+ * HTTPS에서는 ALPN으로 HTTP/2를 협상하고, 지원하지 않는 서버에는 HTTP/1.1로 연결합니다.
+ */
+@Configuration
+public class LlmHttpClientConfig {
+
+    @Bean
+    public HttpClient llmHttpClient(GeminiProperties geminiProperties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(geminiProperties.getConnectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+}
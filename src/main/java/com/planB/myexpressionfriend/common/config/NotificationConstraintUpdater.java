@@ -34,6 +34,7 @@ public class NotificationConstraintUpdater {
                                 'MISSION_COMPLETED',
                                 'MISSION_PHOTO_UPLOADED',
                                 'REPORT_GENERATED',
+                                'REPORT_FAILED',
                                 'NOTE_COMMENT_ADDED',
                                 'NOTE_REPLY_ADDED',
                                 'NOTE_ASSET_UPLOADED'
@@ -0,0 +1,50 @@
+package com.planB.myexpressionfriend.common.config;
+
+import com.planB.myexpressionfriend.common.notification.LocalRealtimeNotificationBus;
+import com.planB.myexpressionfriend.common.notification.RealtimeNotificationBus;
+import com.planB.myexpressionfriend.common.notification.RedisRealtimeNotificationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 실시간 알림 전달 채널 설정
+ *
+ * 기본은 단일 노드용 로컬 채널을 사용합니다.
+ * notification.cluster.enabled=true이면 Redis pub/sub 사용자별 채널로 노드 간 알림을 전달합니다.
+ */
+@Configuration
+public class RealtimeNotificationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.cluster.enabled", havingValue = "true")
+    public RedisMessageListenerContainer notificationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.cluster.enabled", havingValue = "true")
+    public RealtimeNotificationBus redisRealtimeNotificationBus(
+            RedisConnectionFactory connectionFactory,
+            RedisMessageListenerContainer notificationListenerContainer,
+            @Value("${notification.cluster.channel-prefix:notifications:user:}") String channelPrefix
+    ) {
+        return new RedisRealtimeNotificationBus(
+                new StringRedisTemplate(connectionFactory),
+                notificationListenerContainer,
+                channelPrefix
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.cluster.enabled", havingValue = "false", matchIfMissing = true)
+    public RealtimeNotificationBus localRealtimeNotificationBus() {
+        return new LocalRealtimeNotificationBus();
+    }
+}
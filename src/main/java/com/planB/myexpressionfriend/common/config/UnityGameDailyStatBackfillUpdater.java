@@ -0,0 +1,128 @@
+package com.planB.myexpressionfriend.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Unity 게임 일별 집계 초기 적재.
+ *
+ * 기존 unity_game_results를 (아동, 미션, 날짜)로 묶어 한 번 채우고, schema_data_migrations에 완료 표시를 남깁니다.
+ * 이후에는 UnityGameStatsService가 결과 저장 시 증분 갱신합니다.
+ *
+ * - 완료 표시 행을 먼저 INSERT해 여러 노드가 동시에 기동해도 한 노드만 적재합니다.
+ * - 적재 중에는 집계 테이블을 SHARE ROW EXCLUSIVE로 잠가 증분 UPSERT를 잠시 막고,
+ *   이미 있는 (아동, 미션, 날짜) 행은 커밋된 결과 전체로 다시 계산한 값으로 덮어씁니다.
+ * 웹 서버 시작 전인 싱글톤 초기화 완료 시점에 실행하고, 실패하면 기동을 중단합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnityGameDailyStatBackfillUpdater implements SmartInitializingSingleton {
+
+    private static final String MIGRATION_NAME = "unity_game_daily_stats_backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        backfillDailyStats();
+    }
+
+    public void backfillDailyStats() {
+        String sql = """
+                DO $$
+                DECLARE
+                    claimed INTEGER;
+                BEGIN
+                    IF EXISTS (
+                        SELECT 1
+                        FROM information_schema.tables
+                        WHERE table_schema = current_schema()
+                          AND table_name = 'unity_game_daily_stats'
+                    ) AND EXISTS (
+                        SELECT 1
+                        FROM information_schema.tables
+                        WHERE table_schema = current_schema()
+                          AND table_name = 'unity_game_results'
+                    ) THEN
+                        CREATE TABLE IF NOT EXISTS schema_data_migrations (
+                            migration_name VARCHAR(100) PRIMARY KEY,
+                            applied_at TIMESTAMP NOT NULL
+                        );
+
+                        INSERT INTO schema_data_migrations (migration_name, applied_at)
+                        VALUES ('%1$s', now())
+                        ON CONFLICT (migration_name) DO NOTHING;
+                        GET DIAGNOSTICS claimed = ROW_COUNT;
+                        IF claimed = 0 THEN
+                            RETURN;
+                        END IF;
+
+                        LOCK TABLE unity_game_daily_stats IN SHARE ROW EXCLUSIVE MODE;
+
+                        CREATE SEQUENCE IF NOT EXISTS unity_game_daily_stats_seq INCREMENT BY 50;
+
+                        INSERT INTO unity_game_daily_stats (
+                            stat_id, child_id, mission_id, target_emotion, stat_date,
+                            attempt_count, success_count, score_sum, max_score, duration_seconds_sum, retry_sum,
+                            last_played_at, updated_at
+                        )
+                        SELECT nextval('unity_game_daily_stats_seq'),
+                               agg.child_id,
+                               agg.mission_id,
+                               (SELECT um.target_emotion
+                                  FROM unity_missions um
+                                 WHERE um.external_mission_id = agg.mission_id
+                                   AND (um.child_id = agg.child_id OR um.child_id IS NULL)
+                                 ORDER BY (um.child_id IS NULL), um.created_at DESC
+                                 LIMIT 1),
+                               agg.stat_date,
+                               agg.attempt_count,
+                               agg.success_count,
+                               agg.score_sum,
+                               agg.max_score,
+                               agg.duration_seconds_sum,
+                               agg.retry_sum,
+                               agg.last_played_at,
+                               now()
+                        FROM (
+                            SELECT gs.child_id,
+                                   r.mission_id,
+                                   r.created_at::date AS stat_date,
+                                   COUNT(*) AS attempt_count,
+                                   COUNT(*) FILTER (WHERE r.is_success) AS success_count,
+                                   SUM(r.score) AS score_sum,
+                                   MAX(r.score) AS max_score,
+                                   SUM(r.duration_seconds) AS duration_seconds_sum,
+                                   SUM(r.retry_count) AS retry_sum,
+                                   MAX(r.created_at) AS last_played_at
+                            FROM unity_game_results r
+                            JOIN game_sessions gs ON gs.session_id = r.game_session_id
+                            WHERE r.created_at IS NOT NULL
+                            GROUP BY gs.child_id, r.mission_id, r.created_at::date
+                        ) agg
+                        ON CONFLICT (child_id, mission_id, stat_date) DO UPDATE SET
+                            target_emotion = COALESCE(unity_game_daily_stats.target_emotion, EXCLUDED.target_emotion),
+                            attempt_count = EXCLUDED.attempt_count,
+                            success_count = EXCLUDED.success_count,
+                            score_sum = EXCLUDED.score_sum,
+                            max_score = EXCLUDED.max_score,
+                            duration_seconds_sum = EXCLUDED.duration_seconds_sum,
+                            retry_sum = EXCLUDED.retry_sum,
+                            last_played_at = GREATEST(unity_game_daily_stats.last_played_at, EXCLUDED.last_played_at),
+                            updated_at = now();
+                    END IF;
+                END $$;
+                """.formatted(MIGRATION_NAME);
+
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to backfill Unity game daily stats", e);
+        }
+        log.info("Unity game daily stats are initialized.");
+    }
+}
@@ -0,0 +1,78 @@
+package com.planB.myexpressionfriend.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Unity 테이블 PK를 IDENTITY에서 pooled 시퀀스(allocationSize=50)로 전환.
+ *
+ * - IDENTITY 속성을 제거하고 컬럼 기본값을 시퀀스로 바꿔 JDBC 직접 INSERT와 Hibernate가 같은 시퀀스를 사용합니다.
+ * - 기존 행과 충돌하지 않도록 시퀀스를 현재 최대 ID 이상으로 맞춥니다.
+ *
+ * 보정 전에는 Hibernate가 만든 시퀀스가 1부터 시작해 기존 행과 PK가 충돌하므로,
+ * 웹 서버 시작 전인 싱글톤 초기화 완료 시점에 실행하고 실패하면 기동을 중단합니다.
+ * (UnityGameResultWriteQueue 작업 스레드는 그 이후 ApplicationReadyEvent에서 시작)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnityIdSequenceUpdater implements SmartInitializingSingleton {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTarget> TARGETS = List.of(
+            new SequenceTarget("unity_missions", "unity_mission_id", "unity_missions_seq"),
+            new SequenceTarget("unity_game_results", "unity_game_result_id", "unity_game_results_seq")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrateToPooledSequences();
+    }
+
+    public void migrateToPooledSequences() {
+        for (SequenceTarget target : TARGETS) {
+            try {
+                jdbcTemplate.execute(target.migrationSql());
+            } catch (Exception e) {
+                throw new IllegalStateException(
+                        "Failed to migrate " + target.table() + "." + target.idColumn() + " to pooled sequence", e);
+            }
+            log.info("{}.{} uses pooled sequence {}.", target.table(), target.idColumn(), target.sequence());
+        }
+    }
+
+    private record SequenceTarget(String table, String idColumn, String sequence) {
+
+        String migrationSql() {
+            return """
+                    DO $$
+                    BEGIN
+                        IF EXISTS (
+                            SELECT 1
+                            FROM information_schema.tables
+                            WHERE table_schema = current_schema()
+                              AND table_name = '%1$s'
+                        ) THEN
+                            CREATE SEQUENCE IF NOT EXISTS %3$s INCREMENT BY %4$d;
+
+                            ALTER TABLE %1$s ALTER COLUMN %2$s DROP IDENTITY IF EXISTS;
+                            ALTER TABLE %1$s ALTER COLUMN %2$s SET DEFAULT nextval('%3$s');
+
+                            PERFORM setval('%3$s', GREATEST(
+                                (SELECT COALESCE(MAX(%2$s), 1) FROM %1$s),
+                                (SELECT last_value FROM %3$s)
+                            ));
+                        END IF;
+                    END $$;
+                    """.formatted(table, idColumn, sequence, ALLOCATION_SIZE);
+        }
+    }
+}
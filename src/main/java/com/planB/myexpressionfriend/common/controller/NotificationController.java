@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -39,9 +40,16 @@ public class NotificationController {
 
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @PreAuthorize("hasAnyRole('PARENT', 'THERAPIST')")
-    @Operation(summary = "SSE 구독", description = "실시간 알림 스트림에 연결합니다.")
-    public SseEmitter stream(@Parameter(hidden = true) @AuthenticationPrincipal UserDTO currentUser) {
-        return notificationService.subscribe(currentUser.getUserId());
+    @Operation(
+            summary = "SSE 구독",
+            description = "실시간 알림 스트림에 연결합니다. 기기/탭마다 별도 연결을 유지하며, "
+                    + "Last-Event-ID 헤더가 있으면 이후 알림을 재전송합니다."
+    )
+    public SseEmitter stream(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDTO currentUser,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return notificationService.subscribe(currentUser.getUserId(), lastEventId);
     }
 
     @GetMapping
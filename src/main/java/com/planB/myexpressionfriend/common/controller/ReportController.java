@@ -21,6 +21,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -140,17 +141,22 @@ public class ReportController {
 
     @PostMapping("/test-generate")
     @PreAuthorize("hasAnyRole('PARENT', 'THERAPIST')")
-    @Operation(summary = "리포트 테스트 생성", description = "LLM 결과로 리포트를 1회 수동 생성합니다.")
+    @Operation(
+            summary = "리포트 테스트 생성",
+            description = "LLM 리포트 생성을 1회 요청합니다. PENDING 상태 리포트를 즉시 반환하며, "
+                    + "완료 여부는 리포트 상세 조회 또는 SSE 알림(REPORT_GENERATED/REPORT_FAILED)으로 확인합니다."
+    )
     public ResponseEntity<ApiResponse<GeneratedReportDTO>> generateTestReport(
             @Parameter(hidden = true) @AuthenticationPrincipal UserDTO currentUser,
             @Valid @RequestBody ReportGenerateTestRequestDTO requestDTO
     ) {
-        GeneratedReportDTO report = reportGenerationService.generateTestReport(
+        GeneratedReportDTO report = reportGenerationService.requestTestReport(
                 currentUser.getUserId(),
                 requestDTO.getTargetChildId(),
                 requestDTO.getPromptOverride(),
                 requestDTO.getMaxTokens()
         );
-        return ResponseEntity.ok(ApiResponse.success("리포트가 생성되었습니다.", report));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("리포트 생성이 요청되었습니다.", report));
     }
 }
\ No newline at end of file
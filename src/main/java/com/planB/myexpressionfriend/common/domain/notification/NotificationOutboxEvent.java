@@ -0,0 +1,61 @@
+package com.planB.myexpressionfriend.common.domain.notification;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 알림 발송 대상 도메인 이벤트 아웃박스
+ *
+ * 업무 변경과 같은 트랜잭션에서 기록되고, NotificationOutbox 릴레이가 알림으로 변환한 뒤 삭제합니다.
+ * 처리에 실패한 행은 attempts/last_error를 남기고 next_attempt_at까지 미뤄지며,
+ * 최대 시도 횟수를 넘으면 parked_at이 기록되어 릴레이 대상에서 빠집니다.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_created", columnList = "created_at")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutboxEvent {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "outbox_id", updatable = false, nullable = false)
+    private UUID outboxId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "attempts", nullable = false, columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private int attempts;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+}
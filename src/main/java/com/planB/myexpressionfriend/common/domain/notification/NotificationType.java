@@ -4,6 +4,7 @@ public enum NotificationType {
     MISSION_COMPLETED,
     MISSION_PHOTO_UPLOADED,
     REPORT_GENERATED,
+    REPORT_FAILED,
     NOTE_COMMENT_ADDED,
     NOTE_REPLY_ADDED,
     NOTE_ASSET_UPLOADED
@@ -0,0 +1,16 @@
+package com.planB.myexpressionfriend.common.dto.game;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게임 세션 인증 캐시 항목
+ *
+ * 필터 인증에 필요한 최소 정보만 보관합니다.
+ */
+public record CachedGameSession(UUID sessionId, UUID childId, LocalDateTime expiresAt, Boolean isActive) {
+
+    public boolean isValidAt(LocalDateTime now) {
+        return Boolean.TRUE.equals(isActive) && expiresAt.isAfter(now);
+    }
+}
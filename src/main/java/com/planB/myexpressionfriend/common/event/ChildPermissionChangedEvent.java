@@ -0,0 +1,22 @@
+package com.planB.myexpressionfriend.common.event;
+
+import java.util.UUID;
+
+/**
+ * 아동 권한 변경 이벤트
+ *
+ * userId가 null이면 해당 아동에 연결된 모든 사용자의 권한이 변경된 것으로 처리합니다.
+ */
+public record ChildPermissionChangedEvent(
+        UUID childId,
+        UUID userId
+) {
+
+    public static ChildPermissionChangedEvent ofUser(UUID childId, UUID userId) {
+        return new ChildPermissionChangedEvent(childId, userId);
+    }
+
+    public static ChildPermissionChangedEvent ofChild(UUID childId) {
+        return new ChildPermissionChangedEvent(childId, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.planB.myexpressionfriend.common.event;
+
+import java.util.UUID;
+
+public record ReportFailedEvent(
+        UUID reportId,
+        UUID userId
+) {
+}
@@ -0,0 +1,13 @@
+package com.planB.myexpressionfriend.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 처리 대기열이 가득 차 요청을 즉시 거절할 때 발생하는 예외 (HTTP 503).
+ */
+public class ServiceBusyException extends BusinessException {
+
+    public ServiceBusyException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_BUSY", message);
+    }
+}
@@ -0,0 +1,37 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 채널 (같은 JVM의 구독자에게 바로 전달)
+ */
+public class LocalRealtimeNotificationBus implements RealtimeNotificationBus {
+
+    private final Map<UUID, Consumer<String>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(UUID userId, String message) {
+        Consumer<String> listener = listeners.get(userId);
+        if (listener != null) {
+            listener.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(UUID userId, Consumer<String> listener) {
+        listeners.putIfAbsent(userId, listener);
+    }
+
+    @Override
+    public void unsubscribe(UUID userId) {
+        listeners.remove(userId);
+    }
+
+    @Override
+    public int subscriptionCount() {
+        return listeners.size();
+    }
+}
@@ -0,0 +1,24 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 실시간 알림 전달 채널
+ *
+ * 알림을 만든 노드는 수신자 채널에 publish하고, 해당 사용자의 SSE 연결을 가진 노드만 subscribe해 전송합니다.
+ * 단일 노드에서는 LocalRealtimeNotificationBus, 여러 노드에서는 RedisRealtimeNotificationBus를 사용합니다.
+ */
+public interface RealtimeNotificationBus {
+
+    void publish(UUID userId, String message);
+
+    /**
+     * 사용자 채널 구독 (이미 구독 중이면 무시)
+     */
+    void subscribe(UUID userId, Consumer<String> listener);
+
+    void unsubscribe(UUID userId);
+
+    int subscriptionCount();
+}
@@ -0,0 +1,67 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 채널 (사용자별 채널: {prefix}{userId})
+ *
+ * 노드는 자신에게 SSE 연결이 있는 사용자 채널만 구독하므로, 알림은 연결을 가진 노드에만 전달됩니다.
+ */
+public class RedisRealtimeNotificationBus implements RealtimeNotificationBus {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String channelPrefix;
+    private final Map<UUID, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    public RedisRealtimeNotificationBus(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            String channelPrefix
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.channelPrefix = channelPrefix;
+    }
+
+    @Override
+    public void publish(UUID userId, String message) {
+        stringRedisTemplate.convertAndSend(channel(userId).getTopic(), message);
+    }
+
+    @Override
+    public void subscribe(UUID userId, Consumer<String> listener) {
+        listeners.computeIfAbsent(userId, id -> {
+            MessageListener messageListener =
+                    (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+            listenerContainer.addMessageListener(messageListener, channel(id));
+            return messageListener;
+        });
+    }
+
+    @Override
+    public void unsubscribe(UUID userId) {
+        MessageListener messageListener = listeners.remove(userId);
+        if (messageListener != null) {
+            listenerContainer.removeMessageListener(messageListener, channel(userId));
+        }
+    }
+
+    @Override
+    public int subscriptionCount() {
+        return listeners.size();
+    }
+
+    private ChannelTopic channel(UUID userId) {
+        return new ChannelTopic(channelPrefix + userId);
+    }
+}
@@ -0,0 +1,147 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 SSE 연결 하나 (연결 ID + 제한된 송신 큐)
+ *
+ * 큐가 가득 차면 가장 오래된 이벤트를 버리고, heartbeat처럼 합칠 수 있는 이벤트는 큐에 하나만 둡니다.
+ * emitter에는 한 번에 한 스레드(SseDispatcher 작업)만 쓰며, 느린 클라이언트에 쓰는 동안 들어온 이벤트는 큐에 쌓였다가 이어서 전송됩니다.
+ */
+public class SseConnection {
+
+    public enum OfferResult {
+        QUEUED,
+        DROPPED_OLDEST,
+        COALESCED
+    }
+
+    /**
+     * id는 SSE id 필드(Last-Event-ID 재전송 기준)이며, 없으면 보내지 않습니다.
+     */
+    record OutboundEvent(String id, String name, String data, boolean coalescible) {
+    }
+
+    private record QueuedEvent(OutboundEvent event, long enqueuedAtNanos) {
+    }
+
+    private final UUID connectionId = UUID.randomUUID();
+    private final UUID userId;
+    private final SseEmitter emitter;
+    private final int queueCapacity;
+    private final long openedAtNanos = System.nanoTime();
+    private final Deque<QueuedEvent> queue = new ArrayDeque<>();
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    private volatile long lastQueueLagNanos;
+
+    SseConnection(UUID userId, SseEmitter emitter, int queueCapacity) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public UUID getConnectionId() {
+        return connectionId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    long openedAtNanos() {
+        return openedAtNanos;
+    }
+
+    OfferResult offer(OutboundEvent event) {
+        synchronized (queue) {
+            if (event.coalescible()
+                    && queue.stream().map(QueuedEvent::event)
+                    .anyMatch(queued -> queued.coalescible() && queued.name().equals(event.name()))) {
+                return OfferResult.COALESCED;
+            }
+            OfferResult result = OfferResult.QUEUED;
+            if (queue.size() >= queueCapacity) {
+                queue.pollFirst();
+                result = OfferResult.DROPPED_OLDEST;
+            }
+            queue.addLast(new QueuedEvent(event, System.nanoTime()));
+            return result;
+        }
+    }
+
+    /**
+     * 큐의 이벤트를 순서대로 전송합니다. 다른 스레드가 전송 중이면 그 스레드에 맡기고 바로 반환합니다.
+     *
+     * @return 이번 호출에서 전송한 이벤트 수
+     */
+    int drain() throws IOException {
+        int sent = 0;
+        while (sendLock.tryLock()) {
+            try {
+                QueuedEvent queued;
+                while ((queued = poll()) != null) {
+                    lastQueueLagNanos = System.nanoTime() - queued.enqueuedAtNanos();
+                    send(queued.event());
+                    sent++;
+                }
+            } finally {
+                sendLock.unlock();
+            }
+            // 잠금 해제 직전에 들어온 이벤트를 놓치지 않도록 다시 확인
+            if (queueSize() == 0) {
+                break;
+            }
+        }
+        return sent;
+    }
+
+    int queueSize() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * 디스패처에 전송 작업이 아직 예약되지 않았으면 예약 상태로 바꿉니다.
+     */
+    boolean markDispatchScheduled() {
+        return dispatchScheduled.compareAndSet(false, true);
+    }
+
+    void clearDispatchScheduled() {
+        dispatchScheduled.set(false);
+    }
+
+    /**
+     * 마지막으로 보낸 이벤트가 큐에서 기다린 시간
+     */
+    long lastQueueLagNanos() {
+        return lastQueueLagNanos;
+    }
+
+    private QueuedEvent poll() {
+        synchronized (queue) {
+            return queue.pollFirst();
+        }
+    }
+
+    private void send(OutboundEvent event) throws IOException {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name()).data(event.data());
+        if (event.id() != null) {
+            builder.id(event.id());
+        }
+        emitter.send(builder);
+    }
+}
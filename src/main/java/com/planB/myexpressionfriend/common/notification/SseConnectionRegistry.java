@@ -0,0 +1,259 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 연결 레지스트리
+ *
+ * 이 노드에 연결된 사용자별 SseConnection(기기/탭마다 하나)을 보관하고,
+ * 연결이 하나라도 있는 동안만 사용자 채널을 구독합니다.
+ * 전송은 항상 채널을 거치므로 수신자가 어느 노드에 연결되어 있어도 전달됩니다.
+ */
+@Component
+@Slf4j
+public class SseConnectionRegistry {
+
+    private static final String HEARTBEAT_EVENT = "heartbeat";
+    private static final String HEARTBEAT_DATA = "ping";
+
+    private final RealtimeNotificationBus notificationBus;
+    private final SseDispatcher sseDispatcher;
+    private final ObjectMapper objectMapper;
+    private final int maxConnectionsPerUser;
+    private final int queueCapacity;
+    private final Map<UUID, Map<UUID, SseConnection>> connections = new ConcurrentHashMap<>();
+
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong publishFailureCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong noConnectionCount = new AtomicLong();
+    private final AtomicLong sendFailureCount = new AtomicLong();
+    private final AtomicLong droppedEventCount = new AtomicLong();
+    private final AtomicLong coalescedEventCount = new AtomicLong();
+    private final AtomicLong evictedConnectionCount = new AtomicLong();
+
+    public SseConnectionRegistry(
+            RealtimeNotificationBus notificationBus,
+            SseDispatcher sseDispatcher,
+            ObjectMapper objectMapper,
+            OpsMetricService opsMetricService,
+            @Value("${notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${notification.sse.queue-capacity:100}") int queueCapacity
+    ) {
+        this.notificationBus = notificationBus;
+        this.sseDispatcher = sseDispatcher;
+        this.objectMapper = objectMapper;
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+        this.queueCapacity = queueCapacity;
+
+        opsMetricService.registerGauge("sseConnectedUserCount", connections::size);
+        opsMetricService.registerGauge("sseConnectionCount", this::connectionCount);
+        opsMetricService.registerGauge("sseSubscribedChannelCount", notificationBus::subscriptionCount);
+        opsMetricService.registerGauge("ssePublishedCount", publishedCount::get);
+        opsMetricService.registerGauge("ssePublishFailureCount", publishFailureCount::get);
+        opsMetricService.registerGauge("sseDeliveredCount", deliveredCount::get);
+        opsMetricService.registerGauge("sseQueuedEventCount", this::queuedEventCount);
+        opsMetricService.registerGauge("sseNoConnectionCount", noConnectionCount::get);
+        opsMetricService.registerGauge("sseSendFailureCount", sendFailureCount::get);
+        opsMetricService.registerGauge("sseDroppedEventCount", droppedEventCount::get);
+        opsMetricService.registerGauge("sseCoalescedEventCount", coalescedEventCount::get);
+        opsMetricService.registerGauge("sseEvictedConnectionCount", evictedConnectionCount::get);
+    }
+
+    /**
+     * 사용자의 새 연결 등록 (사용자당 최대 연결 수를 넘으면 가장 오래된 연결을 종료)
+     */
+    public SseConnection register(UUID userId, SseEmitter emitter) {
+        SseConnection connection = new SseConnection(userId, emitter, queueCapacity);
+        List<SseConnection> evicted = new ArrayList<>();
+        AtomicBoolean firstConnection = new AtomicBoolean();
+        connections.compute(userId, (id, current) -> {
+            Map<UUID, SseConnection> userConnections = current != null ? current : new ConcurrentHashMap<>();
+            firstConnection.set(current == null);
+            while (userConnections.size() >= maxConnectionsPerUser) {
+                SseConnection oldest = userConnections.values().stream()
+                        .min(Comparator.comparingLong(SseConnection::openedAtNanos))
+                        .orElseThrow();
+                userConnections.remove(oldest.getConnectionId());
+                evicted.add(oldest);
+            }
+            userConnections.put(connection.getConnectionId(), connection);
+            return userConnections;
+        });
+        // 채널 구독은 Redis 왕복이 있을 수 있으므로 compute 밖에서 처리
+        if (firstConnection.get()) {
+            syncSubscription(userId);
+        }
+        // 완료 콜백이 레지스트리를 다시 수정하므로 compute 밖에서 종료
+        evicted.forEach(oldest -> oldest.emitter().complete());
+        evictedConnectionCount.addAndGet(evicted.size());
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(ex -> remove(connection));
+        return connection;
+    }
+
+    /**
+     * 수신자 채널로 이벤트 발행 (수신자가 연결된 노드가 전송)
+     *
+     * @param eventId SSE id (Last-Event-ID 재전송 기준), 없으면 null
+     */
+    public void send(UUID userId, String eventId, String eventName, Object payload) {
+        try {
+            RealtimeMessage message = new RealtimeMessage(eventId, eventName, serialize(payload));
+            notificationBus.publish(userId, objectMapper.writeValueAsString(message));
+            publishedCount.incrementAndGet();
+        } catch (JsonProcessingException | RuntimeException e) {
+            publishFailureCount.incrementAndGet();
+            log.warn("Realtime notification publish failed. userId={}, event={}, reason={}",
+                    userId, eventName, e.getMessage());
+        }
+    }
+
+    /**
+     * 채널을 거치지 않고 특정 연결에만 전송 (연결 확인, Last-Event-ID 재전송)
+     */
+    public void sendTo(SseConnection connection, String eventId, String eventName, Object payload) {
+        try {
+            enqueue(connection, new SseConnection.OutboundEvent(eventId, eventName, serialize(payload), false));
+        } catch (JsonProcessingException e) {
+            log.warn("Realtime notification serialization failed. connectionId={}, event={}",
+                    connection.getConnectionId(), eventName);
+        }
+    }
+
+    /**
+     * 특정 연결에 heartbeat 전송 (이미 대기 중인 heartbeat가 있으면 합쳐짐)
+     */
+    public void heartbeat(SseConnection connection) {
+        enqueue(connection, new SseConnection.OutboundEvent(null, HEARTBEAT_EVENT, HEARTBEAT_DATA, true));
+    }
+
+    /**
+     * 이 노드의 모든 연결 (heartbeat 순회용)
+     */
+    public List<SseConnection> getAllConnections() {
+        return connections.values().stream()
+                .flatMap(userConnections -> userConnections.values().stream())
+                .toList();
+    }
+
+    public boolean isConnected(UUID userId) {
+        return connections.containsKey(userId);
+    }
+
+    public Collection<SseConnection> getConnections(UUID userId) {
+        Map<UUID, SseConnection> userConnections = connections.get(userId);
+        return userConnections == null ? List.of() : List.copyOf(userConnections.values());
+    }
+
+    private void deliver(UUID userId, String message) {
+        Map<UUID, SseConnection> userConnections = connections.get(userId);
+        if (userConnections == null || userConnections.isEmpty()) {
+            noConnectionCount.incrementAndGet();
+            return;
+        }
+
+        RealtimeMessage realtimeMessage;
+        try {
+            realtimeMessage = objectMapper.readValue(message, RealtimeMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Malformed realtime notification message. userId={}", userId);
+            return;
+        }
+
+        boolean coalescible = realtimeMessage.id() == null;
+        for (SseConnection connection : List.copyOf(userConnections.values())) {
+            enqueue(connection, new SseConnection.OutboundEvent(
+                    realtimeMessage.id(), realtimeMessage.event(), realtimeMessage.data(), coalescible));
+        }
+    }
+
+    /**
+     * 연결 큐에 넣고 전송은 SseDispatcher에 맡깁니다. (호출 스레드는 emitter에 쓰지 않음)
+     */
+    private void enqueue(SseConnection connection, SseConnection.OutboundEvent event) {
+        switch (connection.offer(event)) {
+            case DROPPED_OLDEST -> droppedEventCount.incrementAndGet();
+            case COALESCED -> coalescedEventCount.incrementAndGet();
+            case QUEUED -> {
+            }
+        }
+        deliveredCount.incrementAndGet();
+        sseDispatcher.dispatch(connection, this::handleSendFailure);
+    }
+
+    private void handleSendFailure(SseConnection connection) {
+        sendFailureCount.incrementAndGet();
+        remove(connection);
+        connection.emitter().complete();
+    }
+
+    private void remove(SseConnection connection) {
+        AtomicBoolean lastConnection = new AtomicBoolean();
+        connections.computeIfPresent(connection.getUserId(), (id, userConnections) -> {
+            userConnections.remove(connection.getConnectionId(), connection);
+            if (!userConnections.isEmpty()) {
+                return userConnections;
+            }
+            lastConnection.set(true);
+            return null;
+        });
+        if (lastConnection.get()) {
+            syncSubscription(connection.getUserId());
+        }
+    }
+
+    /**
+     * 채널 구독 상태를 현재 연결 유무에 맞춤
+     *
+     * 구독/해제는 connections의 compute 밖에서 호출되므로 그 사이 다른 스레드가 연결을 추가/제거할 수 있습니다.
+     * 호출 후 연결 유무가 바뀌었으면 다시 맞춥니다. (subscribe/unsubscribe는 반복 호출해도 안전)
+     */
+    private void syncSubscription(UUID userId) {
+        boolean connected;
+        do {
+            connected = connections.containsKey(userId);
+            if (connected) {
+                notificationBus.subscribe(userId, message -> deliver(userId, message));
+            } else {
+                notificationBus.unsubscribe(userId);
+            }
+        } while (connected != connections.containsKey(userId));
+    }
+
+    private long queuedEventCount() {
+        return getAllConnections().stream().mapToLong(SseConnection::queueSize).sum();
+    }
+
+    private long connectionCount() {
+        return connections.values().stream().mapToLong(Map::size).sum();
+    }
+
+    private String serialize(Object payload) throws JsonProcessingException {
+        return payload instanceof String text ? text : objectMapper.writeValueAsString(payload);
+    }
+
+    /**
+     * 노드 간 전달 메시지 (data는 SSE로 그대로 쓰는 문자열/JSON)
+     */
+    record RealtimeMessage(String id, String event, String data) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * SSE 전송 전용 디스패처
+ *
+ * 알림을 만든 요청(트랜잭션 커밋) 스레드는 연결 큐에 넣기만 하고, 실제 emitter 쓰기는 이 실행기에서 수행합니다.
+ * 연결마다 동시에 하나의 전송 작업만 예약하므로 느린 클라이언트는 자기 큐만 밀리고 다른 연결을 막지 않습니다.
+ */
+@Component
+public class SseDispatcher {
+
+    private final Executor executor;
+    private final ThreadPoolExecutor threadPool;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong lastQueueLagMs = new AtomicLong();
+    private final AtomicLong maxQueueLagMs = new AtomicLong();
+
+    public SseDispatcher(
+            OpsMetricService opsMetricService,
+            @Value("${notification.sse.dispatcher-threads:4}") int threads,
+            @Value("${notification.sse.dispatcher-queue-capacity:10000}") int queueCapacity
+    ) {
+        this(opsMetricService, newThreadPool(threads, queueCapacity));
+    }
+
+    SseDispatcher(OpsMetricService opsMetricService, Executor executor) {
+        this.executor = executor;
+        this.threadPool = executor instanceof ThreadPoolExecutor pool ? pool : null;
+
+        opsMetricService.registerGauge("sseDispatcherSentCount", sentCount::get);
+        opsMetricService.registerGauge("sseDispatcherRejectedCount", rejectedCount::get);
+        opsMetricService.registerGauge("sseDispatcherActiveCount",
+                () -> threadPool != null ? threadPool.getActiveCount() : 0);
+        opsMetricService.registerGauge("sseDispatcherPendingTaskCount",
+                () -> threadPool != null ? threadPool.getQueue().size() : 0);
+        opsMetricService.registerGauge("sseLastQueueLagMs", lastQueueLagMs::get);
+        opsMetricService.registerGauge("sseMaxQueueLagMs", maxQueueLagMs::get);
+    }
+
+    /**
+     * 연결 큐 전송 예약 (이미 예약되어 있으면 그 작업이 이어서 처리)
+     */
+    public void dispatch(SseConnection connection, Consumer<SseConnection> onSendFailure) {
+        if (!connection.markDispatchScheduled()) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(connection, onSendFailure));
+        } catch (RejectedExecutionException e) {
+            // 이벤트는 연결 큐에 남아 다음 전송/heartbeat 때 함께 보내집니다.
+            connection.clearDispatchScheduled();
+            rejectedCount.incrementAndGet();
+        }
+    }
+
+    private void drain(SseConnection connection, Consumer<SseConnection> onSendFailure) {
+        try {
+            int sent = connection.drain();
+            if (sent > 0) {
+                sentCount.addAndGet(sent);
+                recordLag(TimeUnit.NANOSECONDS.toMillis(connection.lastQueueLagNanos()));
+            }
+        } catch (IOException | RuntimeException e) {
+            connection.clearDispatchScheduled();
+            onSendFailure.accept(connection);
+            return;
+        }
+        connection.clearDispatchScheduled();
+        if (connection.queueSize() > 0) {
+            dispatch(connection, onSendFailure);
+        }
+    }
+
+    private void recordLag(long lagMs) {
+        lastQueueLagMs.set(lagMs);
+        maxQueueLagMs.accumulateAndGet(lagMs, Math::max);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (threadPool != null) {
+            threadPool.shutdownNow();
+        }
+    }
+
+    private static ThreadPoolExecutor newThreadPool(int threads, int queueCapacity) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-dispatch-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
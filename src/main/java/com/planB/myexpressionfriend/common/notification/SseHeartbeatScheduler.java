@@ -0,0 +1,86 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버 측 SSE heartbeat 타이머 휠
+ *
+ * heartbeat 주기를 여러 슬롯으로 나누고, 틱마다 해당 슬롯에 속한 연결에만 heartbeat를 보냅니다.
+ * 모든 연결에 한꺼번에 쓰지 않고 주기 전체에 고르게 나누며, 끊어진 연결은 전송 실패 시 정리됩니다.
+ */
+@Component
+@Slf4j
+public class SseHeartbeatScheduler {
+
+    private final SseConnectionRegistry sseConnectionRegistry;
+    private final long heartbeatIntervalMs;
+    private final int wheelSlots;
+    private final AtomicLong tick = new AtomicLong();
+    private final AtomicLong heartbeatCount = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+
+    public SseHeartbeatScheduler(
+            SseConnectionRegistry sseConnectionRegistry,
+            OpsMetricService opsMetricService,
+            @Value("${notification.sse.heartbeat-interval-ms:25000}") long heartbeatIntervalMs,
+            @Value("${notification.sse.heartbeat-wheel-slots:10}") int wheelSlots
+    ) {
+        this.sseConnectionRegistry = sseConnectionRegistry;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.wheelSlots = Math.max(1, wheelSlots);
+
+        opsMetricService.registerGauge("sseHeartbeatCount", heartbeatCount::get);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (heartbeatIntervalMs <= 0) {
+            return;
+        }
+        long tickMs = Math.max(1L, heartbeatIntervalMs / wheelSlots);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::safeTick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 현재 슬롯의 연결에 heartbeat를 보내고 다음 슬롯으로 이동합니다.
+     */
+    void tick() {
+        int slot = (int) (tick.getAndIncrement() % wheelSlots);
+        for (SseConnection connection : sseConnectionRegistry.getAllConnections()) {
+            if (Math.floorMod(connection.getConnectionId().hashCode(), wheelSlots) == slot) {
+                sseConnectionRegistry.heartbeat(connection);
+                heartbeatCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void safeTick() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.warn("SSE heartbeat tick failed. reason={}", e.getMessage());
+        }
+    }
+}
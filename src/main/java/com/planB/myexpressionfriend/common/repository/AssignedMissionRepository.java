@@ -50,6 +50,22 @@ public interface AssignedMissionRepository extends JpaRepository<AssignedMission
             @Param("userId") UUID userId
     );
 
+    /**
+     * 미션 단건 상세 조회 (권한 검증은 호출 측에서 권한 인덱스로 수행)
+     *
+     * @param missionId 미션 ID
+     * @return Optional<AssignedMission>
+     */
+    @Query("""
+        SELECT m FROM AssignedMission m
+        JOIN FETCH m.child
+        JOIN FETCH m.therapist
+        JOIN FETCH m.template
+        LEFT JOIN FETCH m.photos
+        WHERE m.missionId = :missionId
+        """)
+    Optional<AssignedMission> findByIdWithDetails(@Param("missionId") UUID missionId);
+
     /**
      * 권한 검증을 포함한 아동별 미션 목록 조회
      *
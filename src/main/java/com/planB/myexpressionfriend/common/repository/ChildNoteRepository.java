@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,120 +27,104 @@ import java.util.UUID;
 public interface ChildNoteRepository extends JpaRepository<ChildNote, UUID> {
 
     /**
-     * 사용자 기준 접근 가능한 전체 노트 조회
+     * 접근 가능한 아동 ID 목록 기준 전체 노트 조회
      *
-     * @param userId 사용자 ID
+     * @param childIds 접근 가능한 아동 ID 목록 (권한 인덱스에서 계산)
      * @param pageable 페이징 정보
      * @return Page<ChildNote>
      */
-    @Query("""
+    @Query(value = """
         SELECT n FROM ChildNote n
         JOIN FETCH n.author
         JOIN FETCH n.child
-        WHERE EXISTS (
-            SELECT 1 FROM ChildrenAuthorizedUser au
-            WHERE au.child.childId = n.child.childId
-            AND au.user.userId = :userId
-            AND au.isActive = true
-            AND (
-                au.isPrimary = true
-                OR com.planB.myexpressionfriend.common.domain.child.ChildPermissionType.VIEW_REPORT MEMBER OF au.permissions
-            )
-        )
+        WHERE n.child.childId IN :childIds
+        """,
+        countQuery = """
+        SELECT COUNT(n) FROM ChildNote n
+        WHERE n.child.childId IN :childIds
         """)
-    Page<ChildNote> findAllAccessibleByUserId(
-            @Param("userId") UUID userId,
+    Page<ChildNote> findAllByChildIds(
+            @Param("childIds") Collection<UUID> childIds,
             Pageable pageable
     );
 
     /**
-     * 사용자 기준 노트 타입별 접근 가능한 노트 조회
+     * 접근 가능한 아동 ID 목록 기준 노트 타입별 조회
      *
-     * @param userId 사용자 ID
+     * @param childIds 접근 가능한 아동 ID 목록
      * @param type 노트 타입
      * @param pageable 페이징 정보
      * @return Page<ChildNote>
      */
-    @Query("""
+    @Query(value = """
         SELECT n FROM ChildNote n
         JOIN FETCH n.author
         JOIN FETCH n.child
-        WHERE n.type = :type
-        AND EXISTS (
-            SELECT 1 FROM ChildrenAuthorizedUser au
-            WHERE au.child.childId = n.child.childId
-            AND au.user.userId = :userId
-            AND au.isActive = true
-            AND (
-                au.isPrimary = true
-                OR com.planB.myexpressionfriend.common.domain.child.ChildPermissionType.VIEW_REPORT MEMBER OF au.permissions
-            )
-        )
+        WHERE n.child.childId IN :childIds
+        AND n.type = :type
+        """,
+        countQuery = """
+        SELECT COUNT(n) FROM ChildNote n
+        WHERE n.child.childId IN :childIds
+        AND n.type = :type
         """)
-    Page<ChildNote> findAllAccessibleByUserIdAndType(
-            @Param("userId") UUID userId,
+    Page<ChildNote> findAllByChildIdsAndType(
+            @Param("childIds") Collection<UUID> childIds,
             @Param("type") NoteType type,
             Pageable pageable
     );
 
     /**
-     * 사용자 기준 전체 노트 키워드 검색
+     * 접근 가능한 아동 ID 목록 기준 키워드 검색
      *
-     * @param userId 사용자 ID
+     * @param childIds 접근 가능한 아동 ID 목록
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
      * @return Page<ChildNote>
      */
-    @Query("""
+    @Query(value = """
         SELECT n FROM ChildNote n
         JOIN FETCH n.author
         JOIN FETCH n.child
-        WHERE (n.title LIKE %:keyword% OR n.content LIKE %:keyword%)
-        AND EXISTS (
-            SELECT 1 FROM ChildrenAuthorizedUser au
-            WHERE au.child.childId = n.child.childId
-            AND au.user.userId = :userId
-            AND au.isActive = true
-            AND (
-                au.isPrimary = true
-                OR com.planB.myexpressionfriend.common.domain.child.ChildPermissionType.VIEW_REPORT MEMBER OF au.permissions
-            )
-        )
+        WHERE n.child.childId IN :childIds
+        AND (n.title LIKE %:keyword% OR n.content LIKE %:keyword%)
+        """,
+        countQuery = """
+        SELECT COUNT(n) FROM ChildNote n
+        WHERE n.child.childId IN :childIds
+        AND (n.title LIKE %:keyword% OR n.content LIKE %:keyword%)
         """)
-    Page<ChildNote> searchAllAccessibleByUserId(
-            @Param("userId") UUID userId,
+    Page<ChildNote> searchAllByChildIds(
+            @Param("childIds") Collection<UUID> childIds,
             @Param("keyword") String keyword,
             Pageable pageable
     );
 
     /**
-     * 사용자 기준 노트 타입별 키워드 검색
+     * 접근 가능한 아동 ID 목록 기준 노트 타입별 키워드 검색
      *
-     * @param userId 사용자 ID
+     * @param childIds 접근 가능한 아동 ID 목록
      * @param type 노트 타입
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
      * @return Page<ChildNote>
      */
-    @Query("""
+    @Query(value = """
         SELECT n FROM ChildNote n
         JOIN FETCH n.author
         JOIN FETCH n.child
-        WHERE n.type = :type
+        WHERE n.child.childId IN :childIds
+        AND n.type = :type
+        AND (n.title LIKE %:keyword% OR n.content LIKE %:keyword%)
+        """,
+        countQuery = """
+        SELECT COUNT(n) FROM ChildNote n
+        WHERE n.child.childId IN :childIds
+        AND n.type = :type
         AND (n.title LIKE %:keyword% OR n.content LIKE %:keyword%)
-        AND EXISTS (
-            SELECT 1 FROM ChildrenAuthorizedUser au
-            WHERE au.child.childId = n.child.childId
-            AND au.user.userId = :userId
-            AND au.isActive = true
-            AND (
-                au.isPrimary = true
-                OR com.planB.myexpressionfriend.common.domain.child.ChildPermissionType.VIEW_REPORT MEMBER OF au.permissions
-            )
-        )
         """)
-    Page<ChildNote> searchAllAccessibleByUserIdAndType(
-            @Param("userId") UUID userId,
+    Page<ChildNote> searchAllByChildIdsAndType(
+            @Param("childIds") Collection<UUID> childIds,
             @Param("type") NoteType type,
             @Param("keyword") String keyword,
             Pageable pageable
@@ -415,4 +400,21 @@ public interface ChildNoteRepository extends JpaRepository<ChildNote, UUID> {
         ORDER BY n.createdAt DESC
         """)
     List<ChildNote> findAllByAuthorId(@Param("authorId") UUID authorId);
-}
\ No newline at end of file
+
+    /**
+     * 노트가 해당 아동에 속하는지 확인 (알림 일괄 발송 시 아동 단위 권한 확인용)
+     *
+     * @param noteId 노트 ID
+     * @param childId 아동 ID
+     * @return 소속 여부
+     */
+    @Query("""
+        SELECT COUNT(n) > 0 FROM ChildNote n
+        WHERE n.noteId = :noteId
+        AND n.child.childId = :childId
+        """)
+    boolean existsByIdAndChildId(
+            @Param("noteId") UUID noteId,
+            @Param("childId") UUID childId
+    );
+}
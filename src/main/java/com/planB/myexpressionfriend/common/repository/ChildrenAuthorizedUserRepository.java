@@ -47,6 +47,17 @@ public interface ChildrenAuthorizedUserRepository extends JpaRepository<Children
         """)
     List<ChildrenAuthorizedUser> findActiveByChildId(@Param("childId") UUID childId);
 
+    /**
+     * 사용자의 활성 권한 목록 조회 (권한 인덱스 적재용)
+     */
+    @Query("""
+        SELECT DISTINCT au FROM ChildrenAuthorizedUser au
+        LEFT JOIN FETCH au.permissions
+        WHERE au.user.userId = :userId
+        AND au.isActive = true
+        """)
+    List<ChildrenAuthorizedUser> findActiveWithPermissionsByUserId(@Param("userId") UUID userId);
+
     /**
      * 특정 아동의 주보호자 조회
      */
@@ -1,6 +1,7 @@
 package com.planB.myexpressionfriend.common.repository;
 
 import com.planB.myexpressionfriend.common.domain.game.GameSession;
+import com.planB.myexpressionfriend.common.dto.game.CachedGameSession;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -32,6 +33,23 @@ public interface GameSessionRepository extends JpaRepository<GameSession, UUID>
             @Param("now") LocalDateTime now
     );
 
+    /**
+     * 유효한 세션 토큰의 인증 정보 조회 (Child 지연 로딩 없이 sessionId/childId만 조회)
+     */
+    @Query("""
+        SELECT new com.planB.myexpressionfriend.common.dto.game.CachedGameSession(
+            gs.sessionId, gs.child.childId, gs.expiresAt, gs.isActive
+        )
+        FROM GameSession gs
+        WHERE gs.sessionToken = :sessionToken
+        AND gs.isActive = true
+        AND gs.expiresAt > :now
+        """)
+    Optional<CachedGameSession> findValidSessionSummaryByToken(
+            @Param("sessionToken") String sessionToken,
+            @Param("now") LocalDateTime now
+    );
+
     /**
      * 아동의 활성 세션 목록
      */
@@ -59,6 +77,31 @@ public interface GameSessionRepository extends JpaRepository<GameSession, UUID>
         """)
     void terminateAllSessionsByChildId(@Param("childId") UUID childId);
 
+    /**
+     * 활성 세션이 없을 때만 신규 세션 삽입
+     * uk_game_session_active_child(child_id WHERE is_active)와 충돌하면 삽입하지 않고 0을 반환합니다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO game_sessions (
+            session_id, session_token, child_id, authenticated_by, expires_at, is_active,
+            created_by, last_modified_by, created_at, updated_at
+        )
+        VALUES (
+            :sessionId, :sessionToken, :childId, :userId, :expiresAt, true,
+            :userId, :userId, :now, :now
+        )
+        ON CONFLICT (child_id) WHERE is_active DO NOTHING
+        """, nativeQuery = true)
+    int insertActiveSessionIfAbsent(
+            @Param("sessionId") UUID sessionId,
+            @Param("sessionToken") String sessionToken,
+            @Param("childId") UUID childId,
+            @Param("userId") UUID userId,
+            @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("now") LocalDateTime now
+    );
+
     /**
      * 만료된 세션 삭제 (배치용)
      */
@@ -10,6 +10,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,26 +44,32 @@ public interface GeneratedReportRepository extends JpaRepository<GeneratedReport
 
     @Query("""
             SELECT r FROM GeneratedReport r
-            WHERE r.targetChildId IS NOT NULL
-              AND EXISTS (
-                SELECT 1 FROM ChildrenAuthorizedUser au
-                WHERE au.child.childId = r.targetChildId
-                  AND au.user.userId = :requesterUserId
-                  AND au.isActive = true
-                  AND (
-                    au.isPrimary = true
-                    OR com.planB.myexpressionfriend.common.domain.child.ChildPermissionType.VIEW_REPORT MEMBER OF au.permissions
-                  )
-              )
+            WHERE r.targetChildId IN :childIds
             ORDER BY r.createdAt DESC
             """)
-    Page<GeneratedReport> findAuthorizedReports(
-            @Param("requesterUserId") UUID requesterUserId,
+    Page<GeneratedReport> findByTargetChildIds(
+            @Param("childIds") Collection<UUID> childIds,
             Pageable pageable
     );
 
     long countByUserIdAndStatus(UUID userId, ReportStatus status);
 
+    /**
+     * 생성 중 중단된(오래된 PENDING) 리포트 조회 (여러 노드가 동시에 정리해도 겹치지 않도록 SKIP LOCKED)
+     */
+    @Query(value = """
+            SELECT * FROM generated_reports
+            WHERE status = 'PENDING'
+              AND created_at < :createdBefore
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<GeneratedReport> findStalePendingForUpdate(
+            @Param("createdBefore") LocalDateTime createdBefore,
+            @Param("limit") int limit
+    );
+
     Page<GeneratedReport> findByStatusAndCreatedAtAfter(
             ReportStatus status,
             LocalDateTime createdAfter,
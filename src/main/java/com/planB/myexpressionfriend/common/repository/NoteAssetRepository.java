@@ -32,32 +32,18 @@ public interface NoteAssetRepository extends JpaRepository<NoteAsset, UUID> {
     List<NoteAsset> findByNoteId(@Param("noteId") UUID noteId);
 
     /**
-     * 권한 검증을 포함한 첨부파일 단건 조회
+     * 노트/아동을 포함한 첨부파일 단건 조회 (권한 검증은 호출 측에서 권한 인덱스로 수행)
      *
      * @param assetId 첨부파일 ID
-     * @param userId 사용자 ID
      * @return Optional<NoteAsset>
      */
     @Query("""
         SELECT a FROM NoteAsset a
         JOIN FETCH a.note n
-        JOIN FETCH n.child c
+        JOIN FETCH n.child
         WHERE a.assetId = :assetId
-        AND EXISTS (
-            SELECT 1 FROM ChildrenAuthorizedUser au
-            WHERE au.child.childId = c.childId
-            AND au.user.userId = :userId
-            AND au.isActive = true
-            AND (
-                au.isPrimary = true
-                OR com.planB.myexpressionfriend.common.domain.child.ChildPermissionType.VIEW_REPORT MEMBER OF au.permissions
-            )
-        )
         """)
-    Optional<NoteAsset> findByIdWithAuth(
-            @Param("assetId") UUID assetId,
-            @Param("userId") UUID userId
-    );
+    Optional<NoteAsset> findByIdWithNote(@Param("assetId") UUID assetId);
 
     /**
      * 노트 ID와 첨부파일 타입으로 조회
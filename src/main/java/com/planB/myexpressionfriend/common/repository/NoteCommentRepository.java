@@ -208,4 +208,21 @@ public interface NoteCommentRepository extends JpaRepository<NoteComment, UUID>
         WHERE c.note.noteId = :noteId
         """)
     void deleteByNoteId(@Param("noteId") UUID noteId);
-}
\ No newline at end of file
+
+    /**
+     * 댓글이 해당 아동의 노트에 속하는지 확인 (알림 일괄 발송 시 아동 단위 권한 확인용)
+     *
+     * @param commentId 댓글 ID
+     * @param childId 아동 ID
+     * @return 소속 여부
+     */
+    @Query("""
+        SELECT COUNT(c) > 0 FROM NoteComment c
+        WHERE c.commentId = :commentId
+        AND c.note.child.childId = :childId
+        """)
+    boolean existsByIdAndChildId(
+            @Param("commentId") UUID commentId,
+            @Param("childId") UUID childId
+    );
+}
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,6 +20,25 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
 
     Optional<Notification> findByNotificationIdAndReceiverUserId(UUID notificationId, UUID receiverUserId);
 
+    /**
+     * 기준 시각 이후의 알림 (SSE Last-Event-ID 재전송용, 오래된 순)
+     * created_at이 같은 알림은 notificationId로 순서를 고정합니다.
+     */
+    @Query("""
+            SELECT n
+            FROM Notification n
+            WHERE n.receiverUserId = :receiverUserId
+              AND n.createdAt >= :since
+              AND n.notificationId <> :lastNotificationId
+            ORDER BY n.createdAt ASC, n.notificationId ASC
+            """)
+    List<Notification> findMissedNotifications(
+            @Param("receiverUserId") UUID receiverUserId,
+            @Param("lastNotificationId") UUID lastNotificationId,
+            @Param("since") java.time.LocalDateTime since,
+            Pageable pageable
+    );
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
             UPDATE Notification n
@@ -0,0 +1,68 @@
+package com.planB.myexpressionfriend.common.scheduler;
+
+import com.planB.myexpressionfriend.common.domain.report.GeneratedReport;
+import com.planB.myexpressionfriend.common.event.ReportFailedEvent;
+import com.planB.myexpressionfriend.common.repository.GeneratedReportRepository;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 중단된 리포트 생성 정리
+ *
+ * 배포/장애로 생성 작업이 사라지면 리포트가 PENDING으로 남아 조회하는 클라이언트가 끝나지 않으므로,
+ * stale-pending-ms보다 오래된 PENDING 리포트를 FAILED로 바꾸고 실패 알림(ReportFailedEvent)을 발행합니다.
+ * 기동 직후 한 번, 이후 주기적으로 실행합니다.
+ */
+@Component
+@Slf4j
+public class StalePendingReportCleanupScheduler {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String STALE_REASON = "리포트 생성이 중단되었습니다. 다시 요청해주세요.";
+
+    private final GeneratedReportRepository generatedReportRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OpsMetricService opsMetricService;
+    private final long stalePendingMillis;
+
+    public StalePendingReportCleanupScheduler(
+            GeneratedReportRepository generatedReportRepository,
+            ApplicationEventPublisher eventPublisher,
+            OpsMetricService opsMetricService,
+            @Value("${report.generation.stale-pending-ms:1800000}") long stalePendingMillis
+    ) {
+        this.generatedReportRepository = generatedReportRepository;
+        this.eventPublisher = eventPublisher;
+        this.opsMetricService = opsMetricService;
+        this.stalePendingMillis = stalePendingMillis;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${report.generation.stale-sweep-interval-ms:300000}",
+            initialDelayString = "${report.generation.stale-sweep-initial-delay-ms:30000}"
+    )
+    @Transactional
+    public void failStalePendingReports() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(Duration.ofMillis(stalePendingMillis));
+        List<GeneratedReport> staleReports =
+                generatedReportRepository.findStalePendingForUpdate(createdBefore, BATCH_SIZE);
+        for (GeneratedReport report : staleReports) {
+            report.markFailed(STALE_REASON);
+            opsMetricService.incrementReportGenerationFailure();
+            eventPublisher.publishEvent(new ReportFailedEvent(report.getReportId(), report.getUserId()));
+        }
+        if (!staleReports.isEmpty()) {
+            log.warn("Stale pending reports marked as failed. count={}, createdBefore={}",
+                    staleReports.size(), createdBefore);
+        }
+    }
+}
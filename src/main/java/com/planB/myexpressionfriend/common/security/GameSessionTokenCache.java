@@ -0,0 +1,82 @@
+package com.planB.myexpressionfriend.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planB.myexpressionfriend.common.dto.game.CachedGameSession;
+import com.planB.myexpressionfriend.common.repository.GameSessionRepository;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import com.planB.myexpressionfriend.common.util.TransactionalEviction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 게임 세션 토큰 캐시
+ *
+ * Unity 요청마다 game_sessions 테이블을 조회하지 않도록
+ * 세션 토큰 → (childId, expiresAt, isActive)를 메모리에 보관합니다.
+ * 세션 생성/종료 시 GameSessionService가 무효화하며,
+ * 다중 노드 환경을 고려해 TTL로 최대 지연 시간을 제한합니다.
+ */
+@Component
+public class GameSessionTokenCache {
+
+    private final GameSessionRepository sessionRepository;
+    private final OpsMetricService opsMetricService;
+    private final Cache<String, CachedGameSession> cache;
+
+    public GameSessionTokenCache(
+            GameSessionRepository sessionRepository,
+            OpsMetricService opsMetricService,
+            @Value("${game.session.cache.maximum-size:10000}") long maximumSize,
+            @Value("${game.session.cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.opsMetricService = opsMetricService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 유효한 세션 조회 (캐시 우선, 미스 시 DB 조회 후 적재)
+     */
+    public Optional<CachedGameSession> findValidSession(String sessionToken) {
+        LocalDateTime now = LocalDateTime.now();
+
+        CachedGameSession cached = cache.getIfPresent(sessionToken);
+        if (cached != null) {
+            opsMetricService.incrementGameSessionCacheHit();
+            if (cached.isValidAt(now)) {
+                return Optional.of(cached);
+            }
+            cache.invalidate(sessionToken);
+            return Optional.empty();
+        }
+
+        opsMetricService.incrementGameSessionCacheMiss();
+        Optional<CachedGameSession> loaded = sessionRepository.findValidSessionSummaryByToken(sessionToken, now);
+        loaded.ifPresent(session -> cache.put(sessionToken, session));
+        return loaded;
+    }
+
+    /**
+     * 단일 세션 토큰 무효화
+     */
+    public void invalidateToken(String sessionToken) {
+        TransactionalEviction.evictNowAndAfterCommit(() -> cache.invalidate(sessionToken));
+    }
+
+    /**
+     * 아동의 모든 세션 토큰 무효화
+     */
+    public void invalidateChild(UUID childId) {
+        TransactionalEviction.evictNowAndAfterCommit(() ->
+                cache.asMap().values().removeIf(session -> session.childId().equals(childId)));
+    }
+}
@@ -0,0 +1,25 @@
+package com.planB.myexpressionfriend.common.security;
+
+import com.planB.myexpressionfriend.common.dto.user.UserDTO;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 검증이 끝난 Access Token에서 만든 인증 주체
+ *
+ * @param pending   PENDING 역할 포함 여부 (승인 대기 계정)
+ * @param expiresAt 토큰 만료 시각 (exp)
+ */
+public record JWTPrincipal(
+        UserDTO user,
+        List<SimpleGrantedAuthority> authorities,
+        boolean pending,
+        Instant expiresAt
+) {
+
+    public boolean isExpiredAt(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,121 @@
+package com.planB.myexpressionfriend.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.planB.myexpressionfriend.common.dto.user.UserDTO;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import com.planB.myexpressionfriend.common.util.CustomJWTException;
+import com.planB.myexpressionfriend.common.util.JWTUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Access Token 검증 결과 캐시
+ *
+ * 같은 Access Token이 반복 요청될 때 HMAC 서명 검증과 클레임 디코딩을 한 번만 수행하도록
+ * 토큰 해시 → 인증 주체(JWTPrincipal)를 토큰 만료 시각(exp)까지 보관합니다.
+ * 원문 토큰은 메모리에 남기지 않고 SHA-256 해시만 키로 사용합니다.
+ */
+@Component
+public class JWTPrincipalCache {
+
+    private final JWTUtil jwtUtil;
+    private final Cache<String, JWTPrincipal> cache;
+
+    public JWTPrincipalCache(
+            JWTUtil jwtUtil,
+            OpsMetricService opsMetricService,
+            @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, JWTPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JWTPrincipal principal, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JWTPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JWTPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        opsMetricService.registerGauge("jwtPrincipalCacheHitCount", () -> cache.stats().hitCount());
+        opsMetricService.registerGauge("jwtPrincipalCacheMissCount", () -> cache.stats().missCount());
+        opsMetricService.registerGauge("jwtPrincipalCacheSize", cache::estimatedSize);
+    }
+
+    /**
+     * Access Token을 인증 주체로 변환 (캐시 우선)
+     */
+    public JWTPrincipal resolve(String token) throws CustomJWTException {
+        String key = hash(token);
+
+        JWTPrincipal cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpiredAt(Instant.now())) {
+            return cached;
+        }
+
+        JWTPrincipal principal = toPrincipal(jwtUtil.validateToken(token));
+        cache.put(key, principal);
+        return principal;
+    }
+
+    private JWTPrincipal toPrincipal(Map<String, Object> claims) throws CustomJWTException {
+        String tokenType = (String) claims.get("type");
+        if (!"access".equals(tokenType)) {
+            throw new CustomJWTException("InvalidTokenType");
+        }
+
+        String userId = (String) claims.get("userId");
+        String email = (String) claims.get("email");
+        String name = (String) claims.get("name");
+        @SuppressWarnings("unchecked")
+        List<String> roleNames = (List<String>) claims.get("roles");
+
+        List<SimpleGrantedAuthority> authorities = roleNames.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+
+        UserDTO userDTO = UserDTO.builder()
+                .userId(UUID.fromString(userId))
+                .email(email)
+                .name(name)
+                .build();
+
+        boolean pending = roleNames.stream().anyMatch("PENDING"::equalsIgnoreCase);
+        Instant expiresAt = Instant.ofEpochSecond(((Number) claims.get("exp")).longValue());
+
+        return new JWTPrincipal(userDTO, authorities, pending, expiresAt);
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.planB.myexpressionfriend.common.security;
+
+import com.planB.myexpressionfriend.common.exception.ServiceBusyException;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호/PIN 해시 전용 작업자 풀
+ *
+ * BCrypt 연산은 CPU를 오래 점유하므로 요청 스레드에서 직접 수행하지 않고
+ * 크기가 고정된 풀에서만 실행해 동시 해시 수를 제한합니다.
+ * 대기열이 가득 차면 기다리지 않고 503(SERVICE_BUSY)으로 즉시 거절합니다.
+ *
+ * 계정 비밀번호와 4자리 PIN은 각각 설정된 cost로 인코딩합니다.
+ * PIN은 경우의 수가 적어 해시가 유출되면 전수 대입이 쉬우므로 기본 cost를 비밀번호와 같게 둡니다.
+ * BCrypt 해시에는 cost가 포함되어 있어 기존 해시도 그대로 검증됩니다.
+ */
+@Component
+@Slf4j
+public class PasswordHashingService {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordEncoder pinEncoder;
+
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder totalLatencyMicros = new LongAdder();
+    private final AtomicLong maxLatencyMicros = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public PasswordHashingService(
+            OpsMetricService opsMetricService,
+            @Value("${security.hashing.pool-size:0}") int poolSize,
+            @Value("${security.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.hashing.timeout-ms:5000}") long timeoutMillis,
+            @Value("${security.hashing.password-strength:10}") int passwordStrength,
+            @Value("${security.hashing.pin-strength:10}") int pinStrength
+    ) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeoutMillis = timeoutMillis;
+        this.passwordEncoder = new OffloadedEncoder(new BCryptPasswordEncoder(passwordStrength));
+        this.pinEncoder = new OffloadedEncoder(new BCryptPasswordEncoder(pinStrength));
+
+        opsMetricService.registerGauge("passwordHashQueueDepth", () -> executor.getQueue().size());
+        opsMetricService.registerGauge("passwordHashActiveCount", executor::getActiveCount);
+        opsMetricService.registerGauge("passwordHashCompletedCount", completedCount::sum);
+        opsMetricService.registerGauge("passwordHashRejectedCount", rejectedCount::get);
+        opsMetricService.registerGauge("passwordHashAvgLatencyMicros", this::averageLatencyMicros);
+        opsMetricService.registerGauge("passwordHashMaxLatencyMicros", maxLatencyMicros::get);
+    }
+
+    /**
+     * 계정 비밀번호용 인코더 (작업자 풀에서 실행)
+     */
+    public PasswordEncoder passwordEncoder() {
+        return passwordEncoder;
+    }
+
+    /**
+     * 아동 PIN용 인코더 (작업자 풀에서 실행)
+     */
+    public PasswordEncoder pinEncoder() {
+        return pinEncoder;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    recordLatency(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            log.warn("비밀번호 해시 대기열 초과 - queue: {}", executor.getQueue().size());
+            throw new ServiceBusyException("요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.incrementAndGet();
+            throw new ServiceBusyException("요청이 많아 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceBusyException("요청 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private void recordLatency(long micros) {
+        completedCount.increment();
+        totalLatencyMicros.add(micros);
+        maxLatencyMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    private long averageLatencyMicros() {
+        long count = completedCount.sum();
+        return count == 0 ? 0 : totalLatencyMicros.sum() / count;
+    }
+
+    private class OffloadedEncoder implements PasswordEncoder {
+
+        private final PasswordEncoder delegate;
+
+        private OffloadedEncoder(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return execute(() -> delegate.encode(rawPassword));
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return execute(() -> delegate.matches(rawPassword, encodedPassword));
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return delegate.upgradeEncoding(encodedPassword);
+        }
+    }
+}
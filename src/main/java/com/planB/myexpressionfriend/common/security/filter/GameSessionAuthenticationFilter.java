@@ -1,7 +1,7 @@
 package com.planB.myexpressionfriend.common.security.filter;
 
-import com.planB.myexpressionfriend.common.domain.game.GameSession;
-import com.planB.myexpressionfriend.common.repository.GameSessionRepository;
+import com.planB.myexpressionfriend.common.dto.game.CachedGameSession;
+import com.planB.myexpressionfriend.common.security.GameSessionTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +16,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -27,7 +26,7 @@ import java.util.Optional;
 @Slf4j
 public class GameSessionAuthenticationFilter extends OncePerRequestFilter {
 
-    private final GameSessionRepository sessionRepository;
+    private final GameSessionTokenCache sessionTokenCache;
 
     @Override
     protected void doFilterInternal(
@@ -48,22 +47,20 @@ public class GameSessionAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("GameSession ")) {
             String sessionToken = authHeader.substring(12);
 
-            Optional<GameSession> sessionOpt = sessionRepository.findValidSessionByToken(
-                    sessionToken, LocalDateTime.now()
-            );
+            Optional<CachedGameSession> sessionOpt = sessionTokenCache.findValidSession(sessionToken);
 
             if (sessionOpt.isPresent()) {
-                GameSession session = sessionOpt.get();
+                CachedGameSession session = sessionOpt.get();
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                session.getChild().getChildId(),
+                                session.childId(),
                                 null,
                                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_GAME"))
                         );
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("게임 세션 인증 성공 - childId: {}", session.getChild().getChildId());
+                log.debug("게임 세션 인증 성공 - childId: {}", session.childId());
             }
         }
 
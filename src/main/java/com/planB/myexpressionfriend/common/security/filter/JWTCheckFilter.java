@@ -1,9 +1,9 @@
 package com.planB.myexpressionfriend.common.security.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.planB.myexpressionfriend.common.dto.user.UserDTO;
+import com.planB.myexpressionfriend.common.security.JWTPrincipal;
+import com.planB.myexpressionfriend.common.security.JWTPrincipalCache;
 import com.planB.myexpressionfriend.common.util.CustomJWTException;
-import com.planB.myexpressionfriend.common.util.JWTUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,21 +11,17 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.Map;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JWTCheckFilter extends OncePerRequestFilter {
 
-    private final JWTUtil jwtUtil;
+    private final JWTPrincipalCache principalCache;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -41,6 +37,7 @@ public class JWTCheckFilter extends OncePerRequestFilter {
                 || path.equals("/api/unity/missions")           // Unity 런타임 미션 조회 (공개)
                 || path.equals("/api/unity/missions/latest")    // 검증용 최근 미션 조회 (공개)
                 || path.equals("/api/unity/game-results")       // 게임 결과 저장 (sessionToken으로 인증)
+                || path.equals("/api/unity/game-results/batch") // 게임 결과 일괄 저장 (sessionToken으로 인증)
                 || path.startsWith("/api/game/")
                 || path.startsWith("/actuator/")
                 || path.startsWith("/uploads/")
@@ -72,35 +69,14 @@ public class JWTCheckFilter extends OncePerRequestFilter {
             }
 
             String token = authHeader.substring(7);
-            Map<String, Object> claims = jwtUtil.validateToken(token);
+            JWTPrincipal principal = principalCache.resolve(token);
 
-            String tokenType = (String) claims.get("type");
-            if (!"access".equals(tokenType)) {
-                throw new CustomJWTException("InvalidTokenType");
-            }
-
-            String userId = (String) claims.get("userId");
-            String email = (String) claims.get("email");
-            String name = (String) claims.get("name");
-            @SuppressWarnings("unchecked")
-            List<String> roleNames = (List<String>) claims.get("roles");
-
-            if (roleNames.stream().anyMatch("PENDING"::equalsIgnoreCase)) {
+            if (principal.pending()) {
                 throw new CustomJWTException("PendingAccount");
             }
 
-            List<SimpleGrantedAuthority> authorities = roleNames.stream()
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                    .collect(Collectors.toList());
-
-            UserDTO userDTO = UserDTO.builder()
-                    .userId(UUID.fromString(userId))
-                    .email(email)
-                    .name(name)
-                    .build();
-
             UsernamePasswordAuthenticationToken authenticationToken =
-                    new UsernamePasswordAuthenticationToken(userDTO, null, authorities);
+                    new UsernamePasswordAuthenticationToken(principal.user(), null, principal.authorities());
 
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             filterChain.doFilter(request, response);
@@ -38,6 +38,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -53,6 +54,7 @@ public class AssignedMissionService {
     private final ChildNoteRepository childNoteRepository;
     private final ChildNoteService noteService;
     private final ChildAuthorizationService childAuthorizationService;
+    private final ChildPermissionIndexService permissionIndexService;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
@@ -86,7 +88,7 @@ public class AssignedMissionService {
     }
 
     public AssignedMissionDetailDTO getMission(UUID missionId, UUID userId) {
-        AssignedMission mission = missionRepository.findByIdWithAuth(missionId, userId)
+        AssignedMission mission = findAccessibleMission(missionId, userId)
                 .orElseThrow(() -> new AccessDeniedException("미션 조회 권한이 없거나 존재하지 않는 미션입니다."));
         return AssignedMissionDetailDTO.from(mission);
     }
@@ -191,7 +193,7 @@ public class AssignedMissionService {
 
     @Transactional
     public AssignedMissionDTO startMission(UUID missionId, UUID userId) {
-        AssignedMission mission = missionRepository.findByIdWithAuth(missionId, userId)
+        AssignedMission mission = findAccessibleMission(missionId, userId)
                 .orElseThrow(() -> new AccessDeniedException("미션 조회 권한이 없거나 존재하지 않는 미션입니다."));
 
         if (!mission.canStart(userId)) {
@@ -204,7 +206,7 @@ public class AssignedMissionService {
 
     @Transactional
     public AssignedMissionDTO completeMission(UUID missionId, MissionStatusUpdateDTO dto, UUID userId) {
-        AssignedMission mission = missionRepository.findByIdWithAuth(missionId, userId)
+        AssignedMission mission = findAccessibleMission(missionId, userId)
                 .orElseThrow(() -> new AccessDeniedException("미션 조회 권한이 없거나 존재하지 않는 미션입니다."));
 
         if (!mission.canComplete(userId)) {
@@ -232,7 +234,7 @@ public class AssignedMissionService {
 
     @Transactional
     public AssignedMissionDTO reviewMission(UUID missionId, MissionStatusUpdateDTO dto, UUID userId) {
-        AssignedMission mission = missionRepository.findByIdWithAuth(missionId, userId)
+        AssignedMission mission = findAccessibleMission(missionId, userId)
                 .orElseThrow(() -> new AccessDeniedException("미션 조회 권한이 없거나 존재하지 않는 미션입니다."));
 
         if (!mission.canVerify(userId)) {
@@ -274,7 +276,7 @@ public class AssignedMissionService {
             case VERIFIED -> verifyMission(missionId, dto, userId);
             case CANCELLED -> {
                 cancelMission(missionId, userId);
-                AssignedMission mission = missionRepository.findByIdWithAuth(missionId, userId)
+                AssignedMission mission = findAccessibleMission(missionId, userId)
                         .orElseThrow(() -> new AccessDeniedException("미션 조회 권한이 없거나 존재하지 않는 미션입니다."));
                 yield AssignedMissionDTO.from(mission);
             }
@@ -284,7 +286,7 @@ public class AssignedMissionService {
 
     @Transactional
     public void cancelMission(UUID missionId, UUID userId) {
-        AssignedMission mission = missionRepository.findByIdWithAuth(missionId, userId)
+        AssignedMission mission = findAccessibleMission(missionId, userId)
                 .orElseThrow(() -> new AccessDeniedException("미션 조회 권한이 없거나 존재하지 않는 미션입니다."));
 
         if (!mission.canCancel(userId)) {
@@ -296,7 +298,7 @@ public class AssignedMissionService {
 
     @Transactional
     public void deleteMission(UUID missionId, UUID userId) {
-        AssignedMission mission = missionRepository.findByIdWithAuth(missionId, userId)
+        AssignedMission mission = findAccessibleMission(missionId, userId)
                 .orElseThrow(() -> new AccessDeniedException("미션 조회 권한이 없거나 존재하지 않는 미션입니다."));
 
         if (!mission.isTherapist(userId)) {
@@ -316,6 +318,15 @@ public class AssignedMissionService {
         return missionRepository.countByChildIdAndStatusWithAuth(childId, userId, status);
     }
 
+    /**
+     * 미션 단건 조회 후 권한 인덱스로 VIEW_REPORT 권한을 확인합니다.
+     */
+    private Optional<AssignedMission> findAccessibleMission(UUID missionId, UUID userId) {
+        return missionRepository.findByIdWithDetails(missionId)
+                .filter(mission -> permissionIndexService.hasPermission(
+                        userId, mission.getChild().getChildId(), ChildPermissionType.VIEW_REPORT));
+    }
+
     private void assertViewReportPermission(UUID childId, UUID userId) {
         boolean hasPermission = childAuthorizationService.hasPermission(childId, userId, ChildPermissionType.VIEW_REPORT);
         if (!hasPermission) {
@@ -0,0 +1,123 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planB.myexpressionfriend.common.config.GeminiProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LLM 응답 캐시
+ *
+ * (model, prompt, maxTokens, temperature) 해시를 키로 성공한 응답만 보관합니다.
+ * 같은 프롬프트 재요청(기본 템플릿 리포트, 미리보기 후 저장 등)은 Gemini를 다시 호출하지 않습니다.
+ * 캐시 적중은 ResilientReportLlmClient의 호출 예산을 소비하지 않습니다.
+ */
+@Service
+@Primary
+public class CachingReportLlmClient implements ReportLlmClient {
+
+    /**
+     * 토큰 수 추정용 (한국어/영어 혼합 기준 대략 4자당 1토큰)
+     */
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final ReportLlmClient delegate;
+    private final GeminiProperties geminiProperties;
+    private final boolean enabled;
+    private final Cache<String, String> cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong bypassCount = new AtomicLong();
+    private final AtomicLong savedTokenEstimate = new AtomicLong();
+
+    public CachingReportLlmClient(
+            ResilientReportLlmClient delegate,
+            GeminiProperties geminiProperties,
+            OpsMetricService opsMetricService,
+            @Value("${llm.response-cache.enabled:true}") boolean enabled,
+            @Value("${llm.response-cache.maximum-size:500}") long maximumSize,
+            @Value("${llm.response-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.delegate = delegate;
+        this.geminiProperties = geminiProperties;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        opsMetricService.registerGauge("llmResponseCacheHitCount", hitCount::get);
+        opsMetricService.registerGauge("llmResponseCacheMissCount", missCount::get);
+        opsMetricService.registerGauge("llmResponseCacheBypassCount", bypassCount::get);
+        opsMetricService.registerGauge("llmResponseCacheHitRatePercent", this::hitRatePercent);
+        opsMetricService.registerGauge("llmResponseCacheSavedTokenEstimate", savedTokenEstimate::get);
+        opsMetricService.registerGauge("llmResponseCacheSize", cache::estimatedSize);
+    }
+
+    @Override
+    public String generateReport(String prompt, int maxTokens, String modelName) {
+        return generateReport(prompt, maxTokens, modelName, true);
+    }
+
+    @Override
+    public String generateReport(String prompt, int maxTokens, String modelName, boolean useCache) {
+        if (!enabled || prompt == null || prompt.isBlank()) {
+            return delegate.generateReport(prompt, maxTokens, modelName);
+        }
+
+        String key = cacheKey(prompt, maxTokens, modelName);
+        if (useCache) {
+            String cached = cache.getIfPresent(key);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                savedTokenEstimate.addAndGet((prompt.length() + cached.length()) / CHARS_PER_TOKEN);
+                return cached;
+            }
+            missCount.incrementAndGet();
+        } else {
+            bypassCount.incrementAndGet();
+        }
+
+        String response = delegate.generateReport(prompt, maxTokens, modelName);
+        cache.put(key, response);
+        return response;
+    }
+
+    @Override
+    public void evictCachedResponse(String prompt, int maxTokens, String modelName) {
+        if (prompt == null || prompt.isBlank()) {
+            return;
+        }
+        cache.invalidate(cacheKey(prompt, maxTokens, modelName));
+    }
+
+    private String cacheKey(String prompt, int maxTokens, String modelName) {
+        String source = String.join("\u0000",
+                geminiProperties.resolveModel(modelName),
+                String.valueOf(maxTokens),
+                String.valueOf(geminiProperties.getTemperature()),
+                prompt);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private long hitRatePercent() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : hits * 100 / total;
+    }
+}
@@ -7,11 +7,13 @@ import com.planB.myexpressionfriend.common.domain.user.User;
 import com.planB.myexpressionfriend.common.domain.user.UserRole;
 import com.planB.myexpressionfriend.common.dto.child.AuthorizedUserDTO;
 import com.planB.myexpressionfriend.common.dto.child.ChildAuthorizationDTO;
+import com.planB.myexpressionfriend.common.event.ChildPermissionChangedEvent;
 import com.planB.myexpressionfriend.common.repository.ChildRepository;
 import com.planB.myexpressionfriend.common.repository.ChildrenAuthorizedUserRepository;
 import com.planB.myexpressionfriend.common.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,8 @@ public class ChildAuthorizationService {
     private final ChildRepository childRepository;
     private final UserRepository userRepository;
     private final ChildrenAuthorizedUserRepository  authorizedUserRepository;
+    private final ChildPermissionDecisionCache permissionDecisionCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      */
@@ -82,6 +86,7 @@ public class ChildAuthorizationService {
 
         child.addAuthorizedUser(authorization);
         authorizedUserRepository.save(authorization);
+        eventPublisher.publishEvent(ChildPermissionChangedEvent.ofUser(childId, targetUser.getUserId()));
 
         log.info("권한 부여 완료 - childId: {}, targetUserId: {}, isPrimary: {}",
                 childId, authorizationDTO.getUserId(), isPrimary);
@@ -118,6 +123,7 @@ public class ChildAuthorizationService {
 
         authorization.clearPermissions();
         authorizationDTO.getPermissions().forEach(authorization::addPermission);
+        eventPublisher.publishEvent(ChildPermissionChangedEvent.ofUser(childId, targetUserId));
 
         log.info("권한 수정 완료 - childId: {}, targetUserId: {}", childId, targetUserId);
 
@@ -147,6 +153,7 @@ public class ChildAuthorizationService {
         }
 
         authorization.deactivate();
+        eventPublisher.publishEvent(ChildPermissionChangedEvent.ofUser(childId, targetUserId));
 
         log.info("권한 해제 완료 - childId: {}, targetUserId: {}", childId, targetUserId);
     }
@@ -185,10 +192,11 @@ public class ChildAuthorizationService {
     }
 
     /**
+     * 권한 보유 여부 (판정 결과는 짧은 TTL로 캐시, 권한 변경 이벤트로 무효화)
      */
     public boolean hasPermission(UUID childId, UUID userId, ChildPermissionType permission) {
-        return authorizedUserRepository.existsByChildIdAndUserIdAndPermission(
-                childId, userId, permission
+        return permissionDecisionCache.get(childId, userId, permission, () ->
+                authorizedUserRepository.existsByChildIdAndUserIdAndPermission(childId, userId, permission)
         );
     }
 }
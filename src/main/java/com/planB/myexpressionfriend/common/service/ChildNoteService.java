@@ -20,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 import java.util.UUID;
 /**
  * ChildNote Service
@@ -36,6 +37,7 @@ public class ChildNoteService {
     private final ChildNoteRepository noteRepository;
     private final ChildRepository childRepository;
     private final UserRepository userRepository;
+    private final ChildPermissionIndexService permissionIndexService;
 
     // ============= 노트 생성 =============
 
@@ -183,15 +185,21 @@ public class ChildNoteService {
         String normalizedKeyword = keyword == null ? null : keyword.trim();
         boolean hasKeyword = normalizedKeyword != null && !normalizedKeyword.isBlank();
 
+        // 권한 인덱스에서 접근 가능한 아동 목록을 구해 IN 조건으로 조회 (행마다 EXISTS 서브쿼리 제거)
+        Set<UUID> childIds = permissionIndexService.getAccessibleChildIds(userId, ChildPermissionType.VIEW_REPORT);
+        if (childIds.isEmpty()) {
+            return PageResponseDTO.from(Page.empty(pageable), ChildNoteDTO::from);
+        }
+
         Page<ChildNote> notePage;
         if (type != null && hasKeyword) {
-            notePage = noteRepository.searchAllAccessibleByUserIdAndType(userId, type, normalizedKeyword, pageable);
+            notePage = noteRepository.searchAllByChildIdsAndType(childIds, type, normalizedKeyword, pageable);
         } else if (type != null) {
-            notePage = noteRepository.findAllAccessibleByUserIdAndType(userId, type, pageable);
+            notePage = noteRepository.findAllByChildIdsAndType(childIds, type, pageable);
         } else if (hasKeyword) {
-            notePage = noteRepository.searchAllAccessibleByUserId(userId, normalizedKeyword, pageable);
+            notePage = noteRepository.searchAllByChildIds(childIds, normalizedKeyword, pageable);
         } else {
-            notePage = noteRepository.findAllAccessibleByUserId(userId, pageable);
+            notePage = noteRepository.findAllByChildIds(childIds, pageable);
         }
 
         return PageResponseDTO.from(notePage, ChildNoteDTO::from);
@@ -0,0 +1,34 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.event.ChildPermissionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 권한 변경 커밋 후 권한 캐시(판정 캐시, 권한 인덱스)를 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChildPermissionChangedEventListener {
+
+    private final ChildPermissionDecisionCache decisionCache;
+    private final ChildPermissionIndexService permissionIndexService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePermissionChanged(ChildPermissionChangedEvent event) {
+        log.debug("권한 캐시 무효화 - childId: {}, userId: {}", event.childId(), event.userId());
+
+        if (event.userId() == null) {
+            decisionCache.evictChild(event.childId());
+            permissionIndexService.evictChild(event.childId());
+            return;
+        }
+
+        decisionCache.evict(event.childId(), event.userId());
+        permissionIndexService.evictUser(event.userId());
+    }
+}
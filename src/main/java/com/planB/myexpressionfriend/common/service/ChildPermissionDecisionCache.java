@@ -0,0 +1,66 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 아동 권한 판정 캐시
+ *
+ * (childId, userId, permission) → 허용 여부를 짧은 TTL로 보관합니다.
+ * 권한 변경 시 ChildPermissionChangedEvent 리스너가 명시적으로 제거합니다.
+ */
+@Component
+public class ChildPermissionDecisionCache {
+
+    private final Cache<DecisionKey, Boolean> cache;
+
+    public ChildPermissionDecisionCache(
+            OpsMetricService opsMetricService,
+            @Value("${child.permission.decision-cache.maximum-size:50000}") long maximumSize,
+            @Value("${child.permission.decision-cache.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        opsMetricService.registerGauge("permissionDecisionCacheHitCount", () -> stats().hitCount());
+        opsMetricService.registerGauge("permissionDecisionCacheMissCount", () -> stats().missCount());
+        opsMetricService.registerGauge("permissionDecisionCacheEvictionCount", () -> stats().evictionCount());
+        opsMetricService.registerGauge("permissionDecisionCacheSize", cache::estimatedSize);
+    }
+
+    public boolean get(UUID childId, UUID userId, ChildPermissionType permission, Supplier<Boolean> loader) {
+        return cache.get(new DecisionKey(childId, userId, permission), key -> loader.get());
+    }
+
+    /**
+     * 특정 사용자의 아동 권한 판정 제거
+     */
+    public void evict(UUID childId, UUID userId) {
+        cache.asMap().keySet().removeIf(key -> key.childId().equals(childId) && key.userId().equals(userId));
+    }
+
+    /**
+     * 아동에 대한 모든 사용자의 권한 판정 제거
+     */
+    public void evictChild(UUID childId) {
+        cache.asMap().keySet().removeIf(key -> key.childId().equals(childId));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private record DecisionKey(UUID childId, UUID userId, ChildPermissionType permission) {
+    }
+}
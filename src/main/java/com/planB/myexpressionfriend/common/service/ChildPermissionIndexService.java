@@ -0,0 +1,110 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import com.planB.myexpressionfriend.common.domain.child.ChildrenAuthorizedUser;
+import com.planB.myexpressionfriend.common.repository.ChildrenAuthorizedUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 아동 권한 인덱스
+ *
+ * 조회 쿼리마다 ChildrenAuthorizedUser EXISTS 서브쿼리를 반복하지 않도록
+ * (userId → childId → 권한 EnumSet)을 사용자 단위로 한 번 적재해 보관합니다.
+ * 주 보호자는 모든 권한을 가진 것으로 색인합니다.
+ *
+ * 권한 변경 커밋 후 ChildPermissionChangedEventListener가 해당 항목을 무효화하며,
+ * 다른 노드에서 발생한 변경은 TTL 이후 반영되므로, 권한 해제가 다른 노드에 늦게 반영되는 시간을
+ * 판정 캐시와 같은 수준으로 짧게 유지합니다.
+ */
+@Service
+@Slf4j
+public class ChildPermissionIndexService {
+
+    private final ChildrenAuthorizedUserRepository authorizedUserRepository;
+    private final Cache<UUID, Map<UUID, EnumSet<ChildPermissionType>>> index;
+
+    public ChildPermissionIndexService(
+            ChildrenAuthorizedUserRepository authorizedUserRepository,
+            @Value("${child.permission.index.maximum-size:10000}") long maximumSize,
+            @Value("${child.permission.index.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.authorizedUserRepository = authorizedUserRepository;
+        this.index = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 특정 권한으로 접근 가능한 아동 ID 목록
+     */
+    public Set<UUID> getAccessibleChildIds(UUID userId, ChildPermissionType permission) {
+        return getPermissions(userId).entrySet().stream()
+                .filter(entry -> entry.getValue().contains(permission))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 권한 보유 여부 (주 보호자는 항상 true)
+     */
+    public boolean hasPermission(UUID userId, UUID childId, ChildPermissionType permission) {
+        if (userId == null || childId == null) {
+            return false;
+        }
+        EnumSet<ChildPermissionType> permissions = getPermissions(userId).get(childId);
+        return permissions != null && permissions.contains(permission);
+    }
+
+    /**
+     * 사용자 인덱스 무효화
+     */
+    public void evictUser(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        index.invalidate(userId);
+    }
+
+    /**
+     * 아동과 연결된 모든 사용자 인덱스 무효화
+     */
+    public void evictChild(UUID childId) {
+        index.asMap().values().removeIf(permissions -> permissions.containsKey(childId));
+    }
+
+    private Map<UUID, EnumSet<ChildPermissionType>> getPermissions(UUID userId) {
+        return index.get(userId, this::load);
+    }
+
+    private Map<UUID, EnumSet<ChildPermissionType>> load(UUID userId) {
+        Map<UUID, EnumSet<ChildPermissionType>> permissionsByChild = new HashMap<>();
+        for (ChildrenAuthorizedUser authorization : authorizedUserRepository.findActiveWithPermissionsByUserId(userId)) {
+            EnumSet<ChildPermissionType> permissions = Boolean.TRUE.equals(authorization.getIsPrimary())
+                    ? EnumSet.allOf(ChildPermissionType.class)
+                    : toEnumSet(authorization.getPermissions());
+            permissionsByChild.put(authorization.getChild().getChildId(), permissions);
+        }
+        log.debug("아동 권한 인덱스 적재 - userId: {}, children: {}", userId, permissionsByChild.size());
+        return Collections.unmodifiableMap(permissionsByChild);
+    }
+
+    private EnumSet<ChildPermissionType> toEnumSet(Set<ChildPermissionType> permissions) {
+        return permissions.isEmpty()
+                ? EnumSet.noneOf(ChildPermissionType.class)
+                : EnumSet.copyOf(permissions);
+    }
+}
@@ -14,17 +14,19 @@ import com.planB.myexpressionfriend.common.dto.child.PinUpdateDTO;
 import com.planB.myexpressionfriend.common.dto.child.PinVerificationDTO;
 import com.planB.myexpressionfriend.common.dto.child.TransferPrimaryParentDTO;
 import com.planB.myexpressionfriend.common.dto.game.GameSessionDTO;
+import com.planB.myexpressionfriend.common.event.ChildPermissionChangedEvent;
 import com.planB.myexpressionfriend.common.exception.ConflictException;
 import com.planB.myexpressionfriend.common.exception.EntityNotFoundException;
 import com.planB.myexpressionfriend.common.exception.InvalidRequestException;
 import com.planB.myexpressionfriend.common.repository.ChildRepository;
 import com.planB.myexpressionfriend.common.repository.ChildrenAuthorizedUserRepository;
 import com.planB.myexpressionfriend.common.repository.UserRepository;
+import com.planB.myexpressionfriend.common.security.PasswordHashingService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -52,8 +54,9 @@ public class ChildService {
     private final ChildRepository childRepository;
     private final ChildrenAuthorizedUserRepository authorizedUserRepository;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final GameSessionService gameSessionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.storage.base-path:uploads}")
     private String storageBasePath;
@@ -111,7 +114,7 @@ public class ChildService {
         }
 
         if (createDTO.getPin() != null && !createDTO.getPin().isEmpty()) {
-            child.setPinCode(passwordEncoder.encode(createDTO.getPin()));
+            child.setPinCode(passwordHashingService.pinEncoder().encode(createDTO.getPin()));
         }
 
         ChildrenAuthorizedUser primaryAuthorization = ChildrenAuthorizedUser.builder()
@@ -125,6 +128,7 @@ public class ChildService {
 
         child.addAuthorizedUser(primaryAuthorization);
         childRepository.save(child);
+        eventPublisher.publishEvent(ChildPermissionChangedEvent.ofUser(child.getChildId(), parentUserId));
         return ChildDTO.from(child, parentUserId);
     }
 
@@ -311,12 +315,12 @@ public class ChildService {
                 throw new IllegalArgumentException("현재 PIN이 필요합니다.");
             }
 
-            if (!child.verifyPin(pinUpdateDTO.getCurrentPin(), passwordEncoder)) {
+            if (!child.verifyPin(pinUpdateDTO.getCurrentPin(), passwordHashingService.pinEncoder())) {
                 throw new IllegalArgumentException("PIN이 일치하지 않습니다.");
             }
         }
 
-        child.setPinCode(passwordEncoder.encode(pinUpdateDTO.getNewPin()));
+        child.setPinCode(passwordHashingService.pinEncoder().encode(pinUpdateDTO.getNewPin()));
     }
 
     /**
@@ -331,7 +335,7 @@ public class ChildService {
         }
 
         String tempPin = String.format("%04d", PIN_RANDOM.nextInt(10000));
-        child.setPinCode(passwordEncoder.encode(tempPin));
+        child.setPinCode(passwordHashingService.pinEncoder().encode(tempPin));
         return tempPin;
     }
 
@@ -346,7 +350,7 @@ public class ChildService {
             throw new IllegalStateException("해당 아동에 대한 접근 권한이 없습니다.");
         }
 
-        return child.verifyPin(verificationDTO.getPin(), passwordEncoder);
+        return child.verifyPin(verificationDTO.getPin(), passwordHashingService.pinEncoder());
     }
 
     /**
@@ -371,7 +375,7 @@ public class ChildService {
         if (!pin.matches("^\\d{4}$")) {
             throw new IllegalArgumentException("PIN은 4자리 숫자여야 합니다.");
         }
-        if (!child.verifyPin(pin, passwordEncoder)) {
+        if (!child.verifyPin(pin, passwordHashingService.pinEncoder())) {
             throw new IllegalArgumentException("PIN이 일치하지 않습니다.");
         }
         return gameSessionService.createSession(childId, userId);
@@ -389,7 +393,7 @@ public class ChildService {
             throw new IllegalStateException("주 보호자만 PIN을 삭제할 수 있습니다.");
         }
 
-        if (!child.verifyPin(currentPin, passwordEncoder)) {
+        if (!child.verifyPin(currentPin, passwordHashingService.pinEncoder())) {
             throw new IllegalArgumentException("PIN이 일치하지 않습니다.");
         }
 
@@ -407,7 +411,7 @@ public class ChildService {
             throw new IllegalStateException("주 보호자만 권한을 양도할 수 있습니다.");
         }
 
-        if (child.getPinEnabled() && !child.verifyPin(transferDTO.getPin(), passwordEncoder)) {
+        if (child.getPinEnabled() && !child.verifyPin(transferDTO.getPin(), passwordHashingService.pinEncoder())) {
             throw new IllegalArgumentException("PIN이 일치하지 않습니다.");
         }
 
@@ -422,6 +426,7 @@ public class ChildService {
         }
 
         child.transferPrimaryParent(transferDTO.getNewPrimaryParentUserId());
+        eventPublisher.publishEvent(ChildPermissionChangedEvent.ofChild(childId));
     }
 
     private void validateManagePermission(Child child, UUID userId) {
@@ -3,21 +3,26 @@ package com.planB.myexpressionfriend.common.service;
 import com.planB.myexpressionfriend.common.domain.child.Child;
 import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
 import com.planB.myexpressionfriend.common.domain.game.GameSession;
-import com.planB.myexpressionfriend.common.domain.user.User;
 import com.planB.myexpressionfriend.common.dto.game.GameSessionDTO;
 import com.planB.myexpressionfriend.common.repository.ChildRepository;
 import com.planB.myexpressionfriend.common.repository.GameSessionRepository;
 import com.planB.myexpressionfriend.common.repository.UserRepository;
+import com.planB.myexpressionfriend.common.security.GameSessionTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import com.planB.myexpressionfriend.common.exception.EntityNotFoundException;
+import com.planB.myexpressionfriend.common.exception.ServiceBusyException;
+import com.planB.myexpressionfriend.common.util.StripedLock;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -29,33 +34,61 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GameSessionService {
 
+    private static final int LOCK_STRIPES = 64;
+    private static final long LOCK_TIMEOUT_MILLIS = 3000;
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
     private final GameSessionRepository sessionRepository;
     private final ChildRepository childRepository;
     private final UserRepository userRepository;
+    private final GameSessionTokenCache sessionTokenCache;
+    private final GameSessionTouchBuffer sessionTouchBuffer;
+    private final StripedLock childLocks = new StripedLock(LOCK_STRIPES);
 
     /**
+     * 게임 세션 생성 (아동당 활성 세션 1개)
+     *
+     * 같은 노드의 동시 요청은 childId 스트라이프 락으로 트랜잭션 종료 시점까지 직렬화하고,
+     * 다른 노드와의 경합은 부분 유니크 인덱스(uk_game_session_active_child)로 감지해 재시도합니다.
      */
     @Transactional
     public GameSessionDTO createSession(UUID childId, UUID userId) {
-        // 비관적 락으로 Child 행을 선점해 동시 세션 생성 race condition을 방지합니다.
-        // 같은 childId로 들어온 동시 요청은 이 지점에서 순차적으로 처리됩니다.
-        Child child = childRepository.findByIdForUpdate(childId)
+        lockChildUntilCompletion(childId);
+
+        Child child = childRepository.findById(childId)
                 .orElseThrow(() -> new EntityNotFoundException("아동을 찾을 수 없습니다."));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
 
         if (!child.hasPermission(userId, ChildPermissionType.PLAY_GAME)) {
             throw new AccessDeniedException("게임 플레이 권한이 없습니다.");
         }
 
-        // 기존 활성 세션 정리 후 신규 세션 생성 (락 보유 중이므로 원자적으로 처리됨)
-        sessionRepository.terminateAllSessionsByChildId(childId);
-
-        GameSession session = GameSession.create(child, user);
-        GameSession savedSession = sessionRepository.save(session);
+        String sessionToken = UUID.randomUUID().toString();
+        for (int attempt = 1; attempt <= MAX_CREATE_ATTEMPTS; attempt++) {
+            // 기존 활성 세션 종료 후 삽입, 그 사이 다른 노드가 먼저 삽입했다면 다시 종료 후 재시도
+            sessionRepository.terminateAllSessionsByChildId(childId);
+            LocalDateTime now = LocalDateTime.now();
+            int inserted = sessionRepository.insertActiveSessionIfAbsent(
+                    UUID.randomUUID(),
+                    sessionToken,
+                    childId,
+                    userId,
+                    now.plusHours(GameSession.SESSION_DURATION_HOURS),
+                    now
+            );
+            if (inserted == 1) {
+                sessionTokenCache.invalidateChild(childId);
+                GameSession savedSession = sessionRepository.findBySessionToken(sessionToken)
+                        .orElseThrow(() -> new IllegalStateException("생성된 세션을 찾을 수 없습니다."));
+                return GameSessionDTO.from(savedSession, true);
+            }
+            log.debug("활성 세션 충돌로 재시도 - childId: {}, attempt: {}", childId, attempt);
+        }
 
-        return GameSessionDTO.from(savedSession, true);
+        throw new ServiceBusyException("세션 생성 요청이 몰려 있습니다. 잠시 후 다시 시도해 주세요.");
     }
 
     /**
@@ -69,12 +102,13 @@ public class GameSessionService {
     }
 
     /**
+     * 세션 사용 시각 갱신 (GameSessionTouchBuffer를 통해 주기적으로 일괄 반영)
      */
-    @Transactional
     public void refreshSession(String sessionToken) {
-        GameSession session = sessionRepository.findValidSessionByToken(sessionToken, LocalDateTime.now())
-                .orElseThrow(() -> new AccessDeniedException("유효하지 않은 세션입니다."));
-        session.refresh();
+        if (sessionTokenCache.findValidSession(sessionToken).isEmpty()) {
+            throw new AccessDeniedException("유효하지 않은 세션입니다.");
+        }
+        sessionTouchBuffer.touch(sessionToken, LocalDateTime.now());
     }
 
     /**
@@ -108,6 +142,7 @@ public class GameSessionService {
         }
 
         session.terminate();
+        sessionTokenCache.invalidateToken(sessionToken);
     }
 
     /**
@@ -122,6 +157,32 @@ public class GameSessionService {
         }
 
         sessionRepository.terminateAllSessionsByChildId(childId);
+        sessionTokenCache.invalidateChild(childId);
+    }
+
+    /**
+     * 트랜잭션이 끝날 때까지 아동 단위 락 보유
+     */
+    private void lockChildUntilCompletion(UUID childId) {
+        try {
+            if (!childLocks.tryLock(childId, LOCK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                throw new ServiceBusyException("세션 생성 요청이 몰려 있습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("세션 생성이 중단되었습니다.");
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    childLocks.unlock(childId);
+                }
+            });
+        } else {
+            childLocks.unlock(childId);
+        }
     }
 
     /**
@@ -0,0 +1,107 @@
+package com.planB.myexpressionfriend.common.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임 세션 lastUsedAt 지연 쓰기 버퍼
+ *
+ * Unity 하트비트마다 UPDATE를 실행하지 않고 세션별 마지막 사용 시각만 메모리에 모아 두었다가
+ * 주기적으로(그리고 종료 시) 한 번의 JDBC 배치로 반영합니다.
+ * lastUsedAt은 최대 flush 주기만큼 늦게 반영됩니다.
+ */
+@Component
+@Slf4j
+public class GameSessionTouchBuffer {
+
+    private static final String UPDATE_SQL = """
+            UPDATE game_sessions
+            SET last_used_at = ?
+            WHERE session_token = ?
+              AND is_active = true
+              AND (last_used_at IS NULL OR last_used_at < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<String, LocalDateTime> pendingTouches = new ConcurrentHashMap<>();
+    private final AtomicLong touchCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+
+    public GameSessionTouchBuffer(
+            JdbcTemplate jdbcTemplate,
+            OpsMetricService opsMetricService,
+            @Value("${game.session.touch.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+
+        opsMetricService.registerGauge("gameSessionTouchPending", pendingTouches::size);
+        opsMetricService.registerGauge("gameSessionTouchCount", touchCount::get);
+        opsMetricService.registerGauge("gameSessionTouchFlushedCount", flushedCount::get);
+    }
+
+    /**
+     * 세션 사용 시각 기록 (같은 세션은 가장 최근 시각만 유지)
+     */
+    public void touch(String sessionToken, LocalDateTime usedAt) {
+        touchCount.incrementAndGet();
+        record(sessionToken, usedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${game.session.touch.flush-interval-ms:10000}")
+    public void flush() {
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (String sessionToken : List.copyOf(pendingTouches.keySet())) {
+            LocalDateTime usedAt = pendingTouches.remove(sessionToken);
+            if (usedAt != null) {
+                Timestamp timestamp = Timestamp.valueOf(usedAt);
+                batch.add(new Object[]{timestamp, sessionToken, timestamp});
+            }
+            if (batch.size() >= batchSize) {
+                write(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void record(String sessionToken, LocalDateTime usedAt) {
+        pendingTouches.merge(sessionToken, usedAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    private void write(List<Object[]> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            flushedCount.addAndGet(batch.size());
+            log.debug("게임 세션 사용 시각 반영 - {}건", batch.size());
+        } catch (Exception e) {
+            // 실패한 항목은 더 최신 기록이 없을 때만 다시 대기열에 넣습니다.
+            batch.forEach(row -> record((String) row[1], ((Timestamp) row[0]).toLocalDateTime()));
+            log.warn("게임 세션 사용 시각 반영 실패 - {}건, reason={}", batch.size(), e.getMessage());
+        }
+    }
+}
@@ -4,33 +4,67 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planB.myexpressionfriend.common.config.GeminiProperties;
 import com.planB.myexpressionfriend.common.exception.LlmQuotaExceededException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class GeminiReportLlmClient implements ReportLlmClient {
 
     private final GeminiProperties geminiProperties;
     private final ObjectMapper objectMapper;
+    private final HttpClient llmHttpClient;
+    private final Semaphore connectionPermits;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong inFlightCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong timeToFirstByteTotalMs = new AtomicLong();
+    private final AtomicLong latencyTotalMs = new AtomicLong();
+    private final AtomicLong lastTimeToFirstByteMs = new AtomicLong();
+    private final AtomicLong lastLatencyMs = new AtomicLong();
+
+    public GeminiReportLlmClient(
+            GeminiProperties geminiProperties,
+            ObjectMapper objectMapper,
+            HttpClient llmHttpClient,
+            OpsMetricService opsMetricService
+    ) {
+        this.geminiProperties = geminiProperties;
+        this.objectMapper = objectMapper;
+        this.llmHttpClient = llmHttpClient;
+        this.connectionPermits = new Semaphore(geminiProperties.getMaxConnectionsPerRoute(), true);
+
+        opsMetricService.registerGauge("geminiRequestCount", requestCount::get);
+        opsMetricService.registerGauge("geminiInFlightCount", inFlightCount::get);
+        opsMetricService.registerGauge("geminiTimeoutCount", timeoutCount::get);
+        opsMetricService.registerGauge("geminiTimeToFirstByteTotalMs", timeToFirstByteTotalMs::get);
+        opsMetricService.registerGauge("geminiLatencyTotalMs", latencyTotalMs::get);
+        opsMetricService.registerGauge("geminiLastTimeToFirstByteMs", lastTimeToFirstByteMs::get);
+        opsMetricService.registerGauge("geminiLastLatencyMs", lastLatencyMs::get);
+    }
 
     @Override
     public String generateReport(String prompt, int maxTokens, String modelName) {
@@ -44,7 +78,7 @@ public class GeminiReportLlmClient implements ReportLlmClient {
             throw new IllegalArgumentException("prompt is required");
         }
 
-        String resolvedModel = resolveModel(modelName);
+        String resolvedModel = geminiProperties.resolveModel(modelName);
 
         String endpoint = String.format(
                 "%s/v1beta/models/%s:generateContent?key=%s",
@@ -53,13 +87,9 @@ public class GeminiReportLlmClient implements ReportLlmClient {
                 geminiProperties.getApiKey()
         );
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-
         Map<String, Object> generationConfig = new HashMap<>();
         generationConfig.put("maxOutputTokens", maxTokens);
-        generationConfig.put("temperature", 0.4);
+        generationConfig.put("temperature", geminiProperties.getTemperature());
 
         Map<String, Object> payload = new HashMap<>();
         payload.put("contents", List.of(
@@ -68,22 +98,29 @@ public class GeminiReportLlmClient implements ReportLlmClient {
         payload.put("generationConfig", generationConfig);
 
         try {
-            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-            requestFactory.setConnectTimeout(geminiProperties.getTimeoutMs());
-            requestFactory.setReadTimeout(geminiProperties.getTimeoutMs());
-
-            RestTemplate restTemplate = new RestTemplate(requestFactory);
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    URI.create(endpoint),
-                    new HttpEntity<>(payload, headers),
-                    String.class
-            );
-
-            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-                throw new IllegalStateException("Gemini API request failed");
+            HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint))
+                    .timeout(Duration.ofMillis(geminiProperties.resolveReadTimeoutMs()))
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload)))
+                    .build();
+
+            HttpResponse<String> response = send(request);
+
+            if (response.statusCode() == 429) {
+                Integer retryAfterSeconds = extractRetryAfterSeconds(response.body());
+                log.warn("Gemini quota exceeded. model={}, retryAfterSeconds={}",
+                        resolvedModel, retryAfterSeconds);
+                throw new LlmQuotaExceededException(
+                        "AI 리포트 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요.",
+                        retryAfterSeconds
+                );
+            }
+            if (response.statusCode() / 100 != 2 || response.body() == null) {
+                throw new IllegalStateException("Gemini API request failed. status=" + response.statusCode());
             }
 
-            JsonNode root = objectMapper.readTree(response.getBody().getBytes(StandardCharsets.UTF_8));
+            JsonNode root = objectMapper.readTree(response.body());
             JsonNode candidates = root.path("candidates");
             if (!candidates.isArray() || candidates.isEmpty()) {
                 throw new IllegalStateException("Gemini API returned no candidates");
@@ -99,24 +136,19 @@ public class GeminiReportLlmClient implements ReportLlmClient {
                 throw new IllegalStateException("Gemini API returned empty text");
             }
             return text.trim();
-        } catch (ResourceAccessException e) {
+        } catch (LlmQuotaExceededException e) {
+            throw e;
+        } catch (GeminiTimeoutException e) {
+            timeoutCount.incrementAndGet();
             log.error(
                     "Gemini request timed out or failed to connect. model={}, timeoutMs={}",
                     resolvedModel,
-                    geminiProperties.getTimeoutMs(),
-                    e
+                    e.timeoutMs,
+                    e.getCause()
             );
             throw new IllegalStateException(
                     "Gemini 응답 시간이 초과되었습니다. timeoutMs=%d, model=%s"
-                            .formatted(geminiProperties.getTimeoutMs(), resolvedModel)
-            );
-        } catch (HttpClientErrorException.TooManyRequests e) {
-            Integer retryAfterSeconds = extractRetryAfterSeconds(e.getResponseBodyAsString());
-            log.warn("Gemini quota exceeded. model={}, retryAfterSeconds={}",
-                    resolvedModel, retryAfterSeconds);
-            throw new LlmQuotaExceededException(
-                    "AI 리포트 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요.",
-                    retryAfterSeconds
+                            .formatted(e.timeoutMs, resolvedModel)
             );
         } catch (Exception e) {
             log.error("Gemini report generation failed. model={}", resolvedModel, e);
@@ -124,11 +156,61 @@ public class GeminiReportLlmClient implements ReportLlmClient {
         }
     }
 
-    private String resolveModel(String requestedModel) {
-        if (requestedModel == null || requestedModel.isBlank() || "default".equalsIgnoreCase(requestedModel)) {
-            return geminiProperties.getModel();
+    /**
+     * 공용 클라이언트로 요청을 보내고 첫 바이트(응답 헤더)까지의 시간과 전체 시간을 기록합니다.
+     * 엔드포인트별 동시 요청 수는 maxConnectionsPerRoute로 제한합니다.
+     */
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        long totalTimeoutMs = geminiProperties.getTimeoutMs();
+        long startedAt = System.nanoTime();
+        if (!connectionPermits.tryAcquire(totalTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new GeminiTimeoutException(totalTimeoutMs, null);
+        }
+
+        AtomicLong firstByteAt = new AtomicLong();
+        CompletableFuture<HttpResponse<String>> future = null;
+        inFlightCount.incrementAndGet();
+        try {
+            future = llmHttpClient.sendAsync(request, responseInfo -> {
+                firstByteAt.set(System.nanoTime());
+                return HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8);
+            });
+            long remainingMs = totalTimeoutMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            HttpResponse<String> response = future.get(Math.max(1L, remainingMs), TimeUnit.MILLISECONDS);
+            recordLatency(startedAt, firstByteAt.get(), System.nanoTime());
+            return response;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new GeminiTimeoutException(totalTimeoutMs, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HttpConnectTimeoutException) {
+                throw new GeminiTimeoutException(geminiProperties.getConnectTimeoutMs(), cause);
+            }
+            if (cause instanceof HttpTimeoutException) {
+                throw new GeminiTimeoutException(geminiProperties.resolveReadTimeoutMs(), cause);
+            }
+            throw cause instanceof Exception exception ? exception : e;
+        } catch (InterruptedException e) {
+            if (future != null) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw e;
+        } finally {
+            inFlightCount.decrementAndGet();
+            connectionPermits.release();
         }
-        return requestedModel.trim();
+    }
+
+    private void recordLatency(long startedAt, long firstByteAt, long completedAt) {
+        long timeToFirstByteMs = TimeUnit.NANOSECONDS.toMillis((firstByteAt > 0 ? firstByteAt : completedAt) - startedAt);
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(completedAt - startedAt);
+        requestCount.incrementAndGet();
+        timeToFirstByteTotalMs.addAndGet(timeToFirstByteMs);
+        latencyTotalMs.addAndGet(latencyMs);
+        lastTimeToFirstByteMs.set(timeToFirstByteMs);
+        lastLatencyMs.set(latencyMs);
     }
 
     private Integer extractRetryAfterSeconds(String body) {
@@ -154,4 +236,17 @@ public class GeminiReportLlmClient implements ReportLlmClient {
         }
         return null;
     }
+
+    /**
+     * 연결/첫 바이트/전체 제한 시간 초과
+     */
+    private static class GeminiTimeoutException extends Exception {
+
+        private final long timeoutMs;
+
+        GeminiTimeoutException(long timeoutMs, Throwable cause) {
+            super("Gemini request timed out after " + timeoutMs + "ms", cause);
+            this.timeoutMs = timeoutMs;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.planB.myexpressionfriend.common.service;
 
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
 import com.planB.myexpressionfriend.common.domain.note.ChildNote;
 import com.planB.myexpressionfriend.common.domain.note.NoteType;
 import com.planB.myexpressionfriend.common.domain.report.GeneratedReport;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -28,6 +30,7 @@ public class GeneratedReportService {
 
     private final GeneratedReportRepository generatedReportRepository;
     private final ChildNoteService childNoteService;
+    private final ChildPermissionIndexService permissionIndexService;
 
     @Transactional
     public GeneratedReport createPendingReport(
@@ -57,7 +60,9 @@ public class GeneratedReportService {
     }
 
     public GeneratedReport getUserReport(UUID userId, UUID reportId) {
-        return generatedReportRepository.findAuthorizedByReportId(reportId, userId)
+        return generatedReportRepository.findById(reportId)
+                .filter(report -> permissionIndexService.hasPermission(
+                        userId, report.getTargetChildId(), ChildPermissionType.VIEW_REPORT))
                 .orElseThrow(() -> new EntityNotFoundException("리포트를 찾을 수 없습니다."));
     }
 
@@ -66,13 +71,19 @@ public class GeneratedReportService {
     }
 
     public PageResponseDTO<GeneratedReport> getUserReports(UUID userId, Pageable pageable) {
-        Page<GeneratedReport> page = generatedReportRepository.findAuthorizedReports(userId, pageable);
-        return PageResponseDTO.from(page);
+        return PageResponseDTO.from(findAuthorizedReports(userId, pageable));
     }
 
     public PageResponseDTO<GeneratedReportDTO> getUserReportDTOs(UUID userId, Pageable pageable) {
-        Page<GeneratedReport> page = generatedReportRepository.findAuthorizedReports(userId, pageable);
-        return PageResponseDTO.from(page, GeneratedReportDTO::from);
+        return PageResponseDTO.from(findAuthorizedReports(userId, pageable), GeneratedReportDTO::from);
+    }
+
+    private Page<GeneratedReport> findAuthorizedReports(UUID userId, Pageable pageable) {
+        Set<UUID> childIds = permissionIndexService.getAccessibleChildIds(userId, ChildPermissionType.VIEW_REPORT);
+        if (childIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return generatedReportRepository.findByTargetChildIds(childIds, pageable);
     }
 
     public long countByStatus(UUID userId, ReportStatus status) {
@@ -0,0 +1,110 @@
+package com.planB.myexpressionfriend.common.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * LLM 호출 서킷 브레이커
+ *
+ * 429(retryAfterSeconds) 또는 연속 실패가 임계치를 넘으면 OPEN으로 전환해 호출을 즉시 거절합니다.
+ * OPEN 기간이 지나면 HALF_OPEN으로 한 건만 시험 호출을 허용하고, 결과에 따라 CLOSED/OPEN으로 전환합니다.
+ */
+class LlmCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long defaultOpenNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntilNanos;
+    private boolean trialInFlight;
+    private long openCount;
+
+    LlmCircuitBreaker(int failureThreshold, long defaultOpenSeconds, LongSupplier nanoClock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.defaultOpenNanos = TimeUnit.SECONDS.toNanos(Math.max(1, defaultOpenSeconds));
+        this.nanoClock = nanoClock;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openUntilNanos >= 0) {
+            state = State.HALF_OPEN;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield false;
+                }
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * 호출 한도 초과(429): 서버가 알려준 시간만큼 즉시 OPEN
+     */
+    synchronized void onQuotaExceeded(Integer retryAfterSeconds) {
+        open(retryAfterSeconds);
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            open(null);
+        }
+    }
+
+    /**
+     * 호출하지 않았거나 LLM 상태와 무관한 실패: 시험 호출 슬롯만 반납
+     */
+    synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized boolean isOpen() {
+        return state == State.OPEN && nanoClock.getAsLong() - openUntilNanos < 0;
+    }
+
+    synchronized int retryAfterSeconds() {
+        long remainingNanos = openUntilNanos - nanoClock.getAsLong();
+        if (state != State.OPEN || remainingNanos <= 0) {
+            return 1;
+        }
+        return (int) Math.max(1, (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    synchronized long openCount() {
+        return openCount;
+    }
+
+    private void open(Integer retryAfterSeconds) {
+        long openNanos = retryAfterSeconds != null && retryAfterSeconds > 0
+                ? TimeUnit.SECONDS.toNanos(retryAfterSeconds)
+                : defaultOpenNanos;
+        state = State.OPEN;
+        openUntilNanos = nanoClock.getAsLong() + openNanos;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        openCount++;
+    }
+}
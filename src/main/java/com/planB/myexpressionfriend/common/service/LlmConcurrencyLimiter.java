@@ -0,0 +1,77 @@
+package com.planB.myexpressionfriend.common.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMD 방식 LLM 동시 호출 제한기
+ *
+ * 지연 임계치 이내로 성공하면 한도를 조금씩(+1/limit) 늘리고,
+ * 타임아웃/429/지연 초과가 관찰되면 한도를 절반으로 줄입니다.
+ * 한도가 찬 경우 짧게 대기한 뒤에도 자리가 없으면 거절합니다.
+ */
+class LlmConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdMs;
+
+    private double limit;
+    private int inFlight;
+
+    LlmConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdMs) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdMs = latencyThresholdMs;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    synchronized boolean tryAcquire(long timeoutMs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (inFlight >= (int) limit) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+        }
+        inFlight++;
+        return true;
+    }
+
+    synchronized void onSuccess(long latencyMs) {
+        if (latencyMs > latencyThresholdMs) {
+            decrease();
+        } else {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        release();
+    }
+
+    synchronized void onDropped() {
+        decrease();
+        release();
+    }
+
+    synchronized void onIgnored() {
+        release();
+    }
+
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+
+    private void release() {
+        inFlight--;
+        notifyAll();
+    }
+}
@@ -0,0 +1,57 @@
+package com.planB.myexpressionfriend.common.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 분당 요청 수/토큰 수 토큰 버킷
+ *
+ * 두 버킷이 모두 충분할 때만 차감하고, 부족하면 다시 채워질 때까지 남은 시간을 반환합니다.
+ */
+class LlmRateBudget {
+
+    private static final double NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final double requestCapacity;
+    private final double tokenCapacity;
+    private final LongSupplier nanoClock;
+
+    private double availableRequests;
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    LlmRateBudget(long requestsPerMinute, long tokensPerMinute, LongSupplier nanoClock) {
+        this.requestCapacity = Math.max(1, requestsPerMinute);
+        this.tokenCapacity = Math.max(1, tokensPerMinute);
+        this.nanoClock = nanoClock;
+        this.availableRequests = requestCapacity;
+        this.availableTokens = tokenCapacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * @return 0이면 차감 성공, 양수이면 예산이 다시 채워질 때까지 필요한 시간(ms)
+     */
+    synchronized long tryAcquire(long tokens) {
+        refill();
+        double requiredTokens = Math.min(tokenCapacity, Math.max(0, tokens));
+        if (availableRequests >= 1 && availableTokens >= requiredTokens) {
+            availableRequests -= 1;
+            availableTokens -= requiredTokens;
+            return 0;
+        }
+
+        double requestWaitMinutes = Math.max(0, 1 - availableRequests) / requestCapacity;
+        double tokenWaitMinutes = Math.max(0, requiredTokens - availableTokens) / tokenCapacity;
+        long waitNanos = (long) (Math.max(requestWaitMinutes, tokenWaitMinutes) * NANOS_PER_MINUTE);
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double elapsedMinutes = (now - lastRefillNanos) / NANOS_PER_MINUTE;
+        lastRefillNanos = now;
+        availableRequests = Math.min(requestCapacity, availableRequests + elapsedMinutes * requestCapacity);
+        availableTokens = Math.min(tokenCapacity, availableTokens + elapsedMinutes * tokenCapacity);
+    }
+}
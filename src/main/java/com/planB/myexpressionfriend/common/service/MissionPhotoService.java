@@ -34,6 +34,7 @@ public class MissionPhotoService {
 
     private final MissionPhotoRepository missionPhotoRepository;
     private final AssignedMissionRepository assignedMissionRepository;
+    private final ChildPermissionIndexService permissionIndexService;
     private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.storage.base-path:uploads}")
@@ -43,7 +44,9 @@ public class MissionPhotoService {
     public MissionPhotoDTO uploadPhoto(UUID missionId, MultipartFile file, UUID userId) {
         validateUploadFile(file);
 
-        AssignedMission mission = assignedMissionRepository.findByIdWithAuth(missionId, userId)
+        AssignedMission mission = assignedMissionRepository.findByIdWithDetails(missionId)
+                .filter(found -> permissionIndexService.hasPermission(
+                        userId, found.getChild().getChildId(), ChildPermissionType.VIEW_REPORT))
                 .orElseThrow(() -> new AccessDeniedException("미션 조회 권한이 없거나 존재하지 않습니다."));
 
         if (!canManageEvidence(mission, userId)) {
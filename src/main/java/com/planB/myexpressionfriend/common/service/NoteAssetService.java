@@ -1,5 +1,6 @@
 package com.planB.myexpressionfriend.common.service;
 
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
 import com.planB.myexpressionfriend.common.domain.note.ChildNote;
 import com.planB.myexpressionfriend.common.domain.note.NoteAsset;
 import com.planB.myexpressionfriend.common.dto.note.NoteAssetDTO;
@@ -22,6 +23,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -33,6 +35,7 @@ public class NoteAssetService {
 
     private final NoteAssetRepository assetRepository;
     private final ChildNoteRepository noteRepository;
+    private final ChildPermissionIndexService permissionIndexService;
     private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.storage.base-path:uploads}")
@@ -124,13 +127,13 @@ public class NoteAssetService {
     }
 
     public NoteAssetDTO getAsset(UUID assetId, UUID userId) {
-        NoteAsset asset = assetRepository.findByIdWithAuth(assetId, userId)
+        NoteAsset asset = findAccessibleAsset(assetId, userId)
                 .orElseThrow(() -> new AccessDeniedException("첨부파일 조회 권한이 없거나 존재하지 않는 파일입니다."));
         return NoteAssetDTO.from(asset);
     }
 
     public Path getFilePath(UUID assetId, UUID userId) {
-        NoteAsset asset = assetRepository.findByIdWithAuth(assetId, userId)
+        NoteAsset asset = findAccessibleAsset(assetId, userId)
                 .orElseThrow(() -> new AccessDeniedException("첨부파일 조회 권한이 없거나 존재하지 않는 파일입니다."));
 
         Path filePath = Paths.get(storageBasePath, asset.getFileUrl());
@@ -145,7 +148,7 @@ public class NoteAssetService {
 
     @Transactional
     public void deleteAsset(UUID assetId, UUID userId) {
-        NoteAsset asset = assetRepository.findByIdWithAuth(assetId, userId)
+        NoteAsset asset = findAccessibleAsset(assetId, userId)
                 .orElseThrow(() -> new AccessDeniedException("첨부파일 조회 권한이 없거나 존재하지 않는 파일입니다."));
 
         ChildNote note = asset.getNote();
@@ -163,6 +166,15 @@ public class NoteAssetService {
         assetRepository.delete(asset);
     }
 
+    /**
+     * 첨부파일 단건 조회 후 권한 인덱스로 VIEW_REPORT 권한을 확인합니다.
+     */
+    private Optional<NoteAsset> findAccessibleAsset(UUID assetId, UUID userId) {
+        return assetRepository.findByIdWithNote(assetId)
+                .filter(asset -> permissionIndexService.hasPermission(
+                        userId, asset.getNote().getChild().getChildId(), ChildPermissionType.VIEW_REPORT));
+    }
+
     private void deleteFile(String relativePath) throws IOException {
         Path filePath = Paths.get(storageBasePath, relativePath);
         if (!filePath.normalize().startsWith(Paths.get(storageBasePath).normalize())) {
@@ -0,0 +1,215 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import com.planB.myexpressionfriend.common.domain.notification.NotificationType;
+import com.planB.myexpressionfriend.common.dto.notification.NotificationDTO;
+import com.planB.myexpressionfriend.common.repository.ChildrenAuthorizedUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 일괄 저장기
+ *
+ * 모아 둔 알림 요청의 수신자를 아동별로 한 번만 조회하고
+ * 모든 알림을 한 번의 JDBC 배치 INSERT로 저장합니다.
+ * 저장은 호출자의 트랜잭션에 참여하며, 실시간 전송은 커밋 이후 publishAll로 따로 수행합니다.
+ * created_at은 이벤트 발생 시각이 아니라 저장 시점의 DB 시각으로 찍어, Last-Event-ID 재전송 기준이
+ * 실제 저장 순서와 어긋나지 않게 합니다.
+ */
+@Component
+@Slf4j
+public class NotificationBatchWriter {
+
+    private static final String NOW_SQL = "SELECT LOCALTIMESTAMP";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (
+                notification_id, receiver_user_id, notification_type, title, message, reference_id, is_read, created_at
+            ) VALUES (?, ?, ?, ?, ?, ?, false, ?)
+            """;
+
+    /**
+     * 저장 대기 중인 알림 요청
+     *
+     * receiverUserId가 있으면 해당 사용자 한 명에게,
+     * childId가 있으면 아동의 VIEW_REPORT 권한 보유자 전체(행위자 제외)에게 발송합니다.
+     */
+    public record PendingNotification(
+            NotificationType type,
+            String title,
+            String message,
+            UUID referenceId,
+            UUID receiverUserId,
+            UUID childId,
+            UUID actorUserId
+    ) {
+        public static PendingNotification toReceiver(
+                UUID receiverUserId,
+                NotificationType type,
+                String title,
+                String message,
+                UUID referenceId
+        ) {
+            return new PendingNotification(type, title, message, referenceId,
+                    receiverUserId, null, null);
+        }
+
+        public static PendingNotification toChildViewers(
+                UUID childId,
+                UUID actorUserId,
+                NotificationType type,
+                String title,
+                String message,
+                UUID referenceId
+        ) {
+            return new PendingNotification(type, title, message, referenceId,
+                    null, childId, actorUserId);
+        }
+    }
+
+    /**
+     * 저장이 끝난 알림 (커밋 이후 전송 대상)
+     */
+    public record SavedNotification(UUID receiverUserId, NotificationDTO notification) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChildrenAuthorizedUserRepository authorizedUserRepository;
+    private final NotificationService notificationService;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+    private final AtomicLong publishFailedCount = new AtomicLong();
+
+    public NotificationBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            ChildrenAuthorizedUserRepository authorizedUserRepository,
+            NotificationService notificationService,
+            OpsMetricService opsMetricService
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.authorizedUserRepository = authorizedUserRepository;
+        this.notificationService = notificationService;
+
+        opsMetricService.registerGauge("notificationWrittenCount", writtenCount::get);
+        opsMetricService.registerGauge("notificationWriteSkippedCount", skippedCount::get);
+        opsMetricService.registerGauge("notificationPublishFailedCount", publishFailedCount::get);
+    }
+
+    /**
+     * 수신자를 확정하고 한 번의 배치 INSERT로 저장 (호출자 트랜잭션 안에서 호출)
+     */
+    public List<SavedNotification> saveAll(List<PendingNotification> batch) {
+        Map<PendingNotification, List<UUID>> receivers = resolveReceivers(batch);
+        if (receivers.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime createdAt = jdbcTemplate.queryForObject(NOW_SQL, LocalDateTime.class);
+        List<SavedNotification> rows = new ArrayList<>();
+        receivers.forEach((pending, receiverUserIds) -> receiverUserIds
+                .forEach(receiverUserId -> rows.add(toSaved(pending, receiverUserId, createdAt))));
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            NotificationDTO notification = row.notification();
+            ps.setObject(1, notification.getNotificationId());
+            ps.setObject(2, row.receiverUserId());
+            ps.setString(3, notification.getType().name());
+            ps.setString(4, notification.getTitle());
+            ps.setString(5, notification.getMessage());
+            ps.setObject(6, notification.getReferenceId());
+            ps.setTimestamp(7, Timestamp.valueOf(notification.getCreatedAt()));
+        });
+        writtenCount.addAndGet(rows.size());
+        return rows;
+    }
+
+    /**
+     * 저장된 알림을 수신자의 실시간 연결로 전송 (커밋 이후 호출)
+     */
+    public void publishAll(List<SavedNotification> saved) {
+        for (SavedNotification row : saved) {
+            try {
+                notificationService.publish(row.receiverUserId(), row.notification());
+            } catch (RuntimeException e) {
+                publishFailedCount.incrementAndGet();
+                log.warn("알림 실시간 전송 실패 - notificationId={}, reason={}",
+                        row.notification().getNotificationId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 요청별 수신자 확정
+     *
+     * 아동 단위 요청은 참조 대상이 그 아동에 속하는지 한 번 확인하고,
+     * 같은 배치 안에서는 아동별 권한 보유자 조회 결과를 재사용합니다.
+     */
+    private Map<PendingNotification, List<UUID>> resolveReceivers(List<PendingNotification> batch) {
+        Map<UUID, List<UUID>> viewersByChild = new HashMap<>();
+        Map<PendingNotification, List<UUID>> receivers = new LinkedHashMap<>();
+        for (PendingNotification pending : batch) {
+            if (pending.type() == null || pending.referenceId() == null) {
+                skip(pending);
+                continue;
+            }
+            if (pending.childId() == null) {
+                if (pending.receiverUserId() != null && notificationService.isAuthorizedReceiver(
+                        pending.receiverUserId(), pending.type(), pending.referenceId())) {
+                    receivers.computeIfAbsent(pending, key -> new ArrayList<>()).add(pending.receiverUserId());
+                } else {
+                    skip(pending);
+                }
+                continue;
+            }
+            if (!notificationService.isReferenceOfChild(pending.type(), pending.referenceId(), pending.childId())) {
+                skip(pending);
+                continue;
+            }
+            List<UUID> viewers = viewersByChild.computeIfAbsent(pending.childId(), this::findViewers).stream()
+                    .filter(userId -> !userId.equals(pending.actorUserId()))
+                    .toList();
+            if (!viewers.isEmpty()) {
+                receivers.computeIfAbsent(pending, key -> new ArrayList<>()).addAll(viewers);
+            }
+        }
+        return receivers;
+    }
+
+    private SavedNotification toSaved(PendingNotification pending, UUID receiverUserId, LocalDateTime createdAt) {
+        NotificationDTO notification = NotificationDTO.builder()
+                .notificationId(UUID.randomUUID())
+                .type(pending.type())
+                .title(pending.title())
+                .message(pending.message())
+                .referenceId(pending.referenceId())
+                .isRead(false)
+                .createdAt(createdAt)
+                .build();
+        return new SavedNotification(receiverUserId, notification);
+    }
+
+    private List<UUID> findViewers(UUID childId) {
+        return authorizedUserRepository
+                .findByChildIdAndPermission(childId, ChildPermissionType.VIEW_REPORT)
+                .stream()
+                .map(au -> au.getUser().getUserId())
+                .distinct()
+                .toList();
+    }
+
+    private void skip(PendingNotification pending) {
+        skippedCount.incrementAndGet();
+        log.warn("알림 수신 권한 확인 실패로 건너뜀 - type={}, referenceId={}, receiverUserId={}, childId={}",
+                pending.type(), pending.referenceId(), pending.receiverUserId(), pending.childId());
+    }
+}
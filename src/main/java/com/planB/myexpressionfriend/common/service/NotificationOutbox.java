@@ -0,0 +1,458 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planB.myexpressionfriend.common.domain.notification.NotificationType;
+import com.planB.myexpressionfriend.common.event.MissionCompletedEvent;
+import com.planB.myexpressionfriend.common.event.MissionPhotoUploadedEvent;
+import com.planB.myexpressionfriend.common.event.NoteAssetUploadedEvent;
+import com.planB.myexpressionfriend.common.event.NoteCommentCreatedEvent;
+import com.planB.myexpressionfriend.common.event.ReportFailedEvent;
+import com.planB.myexpressionfriend.common.event.ReportGeneratedEvent;
+import com.planB.myexpressionfriend.common.service.NotificationBatchWriter.PendingNotification;
+import com.planB.myexpressionfriend.common.service.NotificationBatchWriter.SavedNotification;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 알림용 트랜잭셔널 아웃박스
+ *
+ * 도메인 이벤트는 업무 변경과 같은 트랜잭션에서 notification_outbox 테이블에 기록되므로
+ * 커밋 직후 프로세스가 종료되어도 유실되지 않습니다.
+ * 릴레이 스레드는 FOR UPDATE SKIP LOCKED로 행을 잠가 가져오므로 여러 노드가 동시에 돌아도 같은 행을 나눠 갖지 않으며,
+ * 알림 저장과 아웃박스 행 삭제를 한 트랜잭션으로 커밋해 재시작 후에도 중복 저장되지 않습니다.
+ * 배치 저장이 실패하면 행마다 따로 다시 처리해 문제 행만 격리하고, 실패한 행은 시도 횟수와 오류를 남긴 채
+ * 지수 백오프로 미뤄지며 최대 시도 횟수를 넘으면 parked 상태로 빠져 나머지 알림을 막지 않습니다.
+ * 실시간 전송은 커밋 이후 수행하며, 그 사이 끊긴 연결은 Last-Event-ID 재전송으로 보완됩니다.
+ */
+@Component
+@Slf4j
+public class NotificationOutbox {
+
+    private static final long MAX_RETRY_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final int ERROR_MESSAGE_LIMIT = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_outbox (outbox_id, event_type, payload, created_at, attempts)
+            VALUES (?, ?, ?, ?, 0)
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT outbox_id, event_type, payload, created_at, attempts
+            FROM notification_outbox
+            WHERE parked_at IS NULL
+              AND (next_attempt_at IS NULL OR next_attempt_at <= ?)
+            ORDER BY created_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String SELECT_ONE_SQL = """
+            SELECT outbox_id, event_type, payload, created_at, attempts
+            FROM notification_outbox
+            WHERE outbox_id = ?
+              AND parked_at IS NULL
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String RECORD_FAILURE_SQL = """
+            UPDATE notification_outbox
+            SET attempts = attempts + 1,
+                last_error = ?,
+                next_attempt_at = ?,
+                parked_at = CASE WHEN attempts + 1 >= ? THEN CAST(? AS timestamp) ELSE NULL END
+            WHERE outbox_id = ?
+            """;
+
+    private static final RowMapper<OutboxRow> OUTBOX_ROW_MAPPER = (rs, rowNum) -> new OutboxRow(
+            rs.getObject("outbox_id", UUID.class),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getInt("attempts")
+    );
+
+    private static final String DELETE_SQL = "DELETE FROM notification_outbox WHERE outbox_id = ?";
+
+    private static final Map<String, Class<?>> EVENT_TYPES = Stream.of(
+            MissionCompletedEvent.class,
+            MissionPhotoUploadedEvent.class,
+            ReportGeneratedEvent.class,
+            ReportFailedEvent.class,
+            NoteCommentCreatedEvent.class,
+            NoteAssetUploadedEvent.class
+    ).collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    /**
+     * 릴레이 대상 아웃박스 행
+     */
+    record OutboxRow(UUID outboxId, String eventType, String payload, LocalDateTime createdAt, int attempts) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationBatchWriter batchWriter;
+    private final ObjectMapper objectMapper;
+    private final OpsMetricService opsMetricService;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final Semaphore wakeups = new Semaphore(0);
+    private volatile boolean running = true;
+    private Thread worker;
+
+    private final AtomicLong appendedCount = new AtomicLong();
+    private final AtomicLong relayedCount = new AtomicLong();
+    private final AtomicLong discardedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong parkedCount = new AtomicLong();
+    private final AtomicLong relayCount = new AtomicLong();
+    private final AtomicLong totalRelayMillis = new AtomicLong();
+    private final AtomicLong maxRelayMillis = new AtomicLong();
+
+    public NotificationOutbox(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            NotificationBatchWriter batchWriter,
+            ObjectMapper objectMapper,
+            OpsMetricService opsMetricService,
+            @Value("${notification.outbox.batch-size:200}") int batchSize,
+            @Value("${notification.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${notification.outbox.retry-backoff-ms:1000}") long retryBackoffMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchWriter = batchWriter;
+        this.objectMapper = objectMapper;
+        this.opsMetricService = opsMetricService;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = Math.max(0L, retryBackoffMillis);
+
+        opsMetricService.registerGauge("notificationOutboxAppendedCount", appendedCount::get);
+        opsMetricService.registerGauge("notificationOutboxRelayedCount", relayedCount::get);
+        opsMetricService.registerGauge("notificationOutboxDiscardedCount", discardedCount::get);
+        opsMetricService.registerGauge("notificationOutboxFailedCount", failedCount::get);
+        opsMetricService.registerGauge("notificationOutboxParkedCount", parkedCount::get);
+        opsMetricService.registerGauge("notificationOutboxAvgRelayMillis", this::averageRelayMillis);
+        opsMetricService.registerGauge("notificationOutboxMaxRelayMillis", maxRelayMillis::get);
+    }
+
+    /**
+     * 현재 트랜잭션에 이벤트 기록 (커밋되면 릴레이를 깨워 바로 처리)
+     */
+    public void append(Object event) {
+        String eventType = event.getClass().getSimpleName();
+        if (!EVENT_TYPES.containsKey(eventType)) {
+            throw new IllegalArgumentException("Unsupported outbox event type: " + eventType);
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox event serialization failed: " + eventType, e);
+        }
+
+        jdbcTemplate.update(INSERT_SQL, UUID.randomUUID(), eventType, payload, Timestamp.valueOf(LocalDateTime.now()));
+        appendedCount.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 릴레이 스레드를 즉시 깨움 (폴링 주기를 기다리지 않음)
+     */
+    public void wakeUp() {
+        wakeups.release();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = new Thread(this::runRelay, "notification-outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runRelay() {
+        while (running) {
+            try {
+                wakeups.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                wakeups.drainPermits();
+                while (running && relayBatch() >= batchSize) {
+                    // 가득 찬 배치가 나오면 밀린 행이 있으므로 바로 다음 배치를 처리
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    /**
+     * 아웃박스 행을 한 배치 가져와 알림으로 저장하고 삭제한 뒤, 커밋 이후 실시간 전송
+     * 배치 저장이 실패하면 가져온 행을 한 건씩 다시 처리합니다.
+     *
+     * @return 처리(삭제)한 아웃박스 행 수
+     */
+    int relayBatch() {
+        long startedAt = System.nanoTime();
+        List<OutboxRow> claimed = new ArrayList<>();
+        List<OutboxRow> discarded = new ArrayList<>();
+        List<SavedNotification> saved = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                claimed.addAll(jdbcTemplate.query(
+                        SELECT_SQL, OUTBOX_ROW_MAPPER, Timestamp.valueOf(LocalDateTime.now()), batchSize));
+                if (claimed.isEmpty()) {
+                    return;
+                }
+                saved.addAll(batchWriter.saveAll(toPendingNotifications(claimed, discarded)));
+                jdbcTemplate.batchUpdate(DELETE_SQL, claimed, claimed.size(),
+                        (ps, row) -> ps.setObject(1, row.outboxId()));
+            });
+        } catch (Exception e) {
+            if (claimed.isEmpty()) {
+                failedCount.incrementAndGet();
+                opsMetricService.incrementNotificationSaveFailure();
+                log.error("알림 아웃박스 조회 실패 - reason={}", e.getMessage(), e);
+                return 0;
+            }
+            log.warn("알림 아웃박스 배치 릴레이 실패, 건별 처리로 전환 - {}건, reason={}", claimed.size(), e.getMessage());
+            return relayIndividually(claimed);
+        }
+
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        discarded.forEach(this::logDiscarded);
+        relayedCount.addAndGet(claimed.size());
+        recordRelayMillis(startedAt);
+        batchWriter.publishAll(saved);
+        return claimed.size();
+    }
+
+    /**
+     * 행마다 별도 트랜잭션으로 다시 잠가 처리하고, 실패한 행은 시도 횟수를 올려 미루거나 parked로 뺍니다.
+     */
+    private int relayIndividually(List<OutboxRow> rows) {
+        int relayed = 0;
+        for (OutboxRow row : rows) {
+            List<OutboxRow> discarded = new ArrayList<>();
+            List<SavedNotification> saved = new ArrayList<>();
+            try {
+                Boolean processed = transactionTemplate.execute(status -> {
+                    if (jdbcTemplate.query(SELECT_ONE_SQL, OUTBOX_ROW_MAPPER, row.outboxId()).isEmpty()) {
+                        // 다른 노드가 이미 처리했거나 처리 중인 행
+                        return false;
+                    }
+                    saved.addAll(batchWriter.saveAll(toPendingNotifications(List.of(row), discarded)));
+                    jdbcTemplate.update(DELETE_SQL, row.outboxId());
+                    return true;
+                });
+                if (Boolean.TRUE.equals(processed)) {
+                    relayed++;
+                    discarded.forEach(this::logDiscarded);
+                    batchWriter.publishAll(saved);
+                }
+            } catch (Exception e) {
+                recordFailure(row, e);
+            }
+        }
+        relayedCount.addAndGet(relayed);
+        return relayed;
+    }
+
+    private void recordFailure(OutboxRow row, Exception cause) {
+        failedCount.incrementAndGet();
+        opsMetricService.incrementNotificationSaveFailure();
+        int attempts = row.attempts() + 1;
+        boolean park = attempts >= maxAttempts;
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update(RECORD_FAILURE_SQL,
+                    abbreviate(cause.getMessage()),
+                    Timestamp.valueOf(now.plus(retryBackoff(attempts), ChronoUnit.MILLIS)),
+                    maxAttempts,
+                    Timestamp.valueOf(now),
+                    row.outboxId());
+        } catch (Exception e) {
+            log.error("알림 아웃박스 실패 기록 실패 - outboxId={}, reason={}", row.outboxId(), e.getMessage());
+            return;
+        }
+        if (park) {
+            parkedCount.incrementAndGet();
+            log.error("알림 아웃박스 행 보류(parked) - outboxId={}, eventType={}, attempts={}, payload={}, reason={}",
+                    row.outboxId(), row.eventType(), attempts, row.payload(), cause.getMessage(), cause);
+        } else {
+            log.warn("알림 아웃박스 행 처리 실패 - outboxId={}, eventType={}, attempts={}, reason={}",
+                    row.outboxId(), row.eventType(), attempts, cause.getMessage());
+        }
+    }
+
+    private long retryBackoff(int attempts) {
+        long backoff = retryBackoffMillis << Math.min(attempts - 1, 20);
+        return Math.min(backoff, MAX_RETRY_BACKOFF_MILLIS);
+    }
+
+    private List<PendingNotification> toPendingNotifications(List<OutboxRow> rows, List<OutboxRow> discarded) {
+        List<PendingNotification> pending = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            PendingNotification notification = toPendingNotification(row);
+            if (notification == null) {
+                discarded.add(row);
+            } else {
+                pending.add(notification);
+            }
+        }
+        return pending;
+    }
+
+    private PendingNotification toPendingNotification(OutboxRow row) {
+        Class<?> eventClass = EVENT_TYPES.get(row.eventType());
+        if (eventClass == null) {
+            return null;
+        }
+        Object event;
+        try {
+            event = objectMapper.readValue(row.payload(), eventClass);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+        return toPendingNotification(event);
+    }
+
+    private PendingNotification toPendingNotification(Object event) {
+        if (event instanceof MissionCompletedEvent e) {
+            return PendingNotification.toReceiver(
+                    e.therapistUserId(),
+                    NotificationType.MISSION_COMPLETED,
+                    "미션 완료 알림",
+                    "부모가 미션을 완료했습니다.",
+                    e.missionId()
+            );
+        }
+        if (event instanceof MissionPhotoUploadedEvent e) {
+            return PendingNotification.toReceiver(
+                    e.therapistUserId(),
+                    NotificationType.MISSION_PHOTO_UPLOADED,
+                    "미션 사진 등록 알림",
+                    "부모가 미션 인증 사진을 업로드했습니다.",
+                    e.missionId()
+            );
+        }
+        if (event instanceof ReportGeneratedEvent e) {
+            return PendingNotification.toReceiver(
+                    e.userId(),
+                    NotificationType.REPORT_GENERATED,
+                    "분석 리포트 생성 완료",
+                    "AI 분석 리포트를 생성했습니다.",
+                    e.reportId()
+            );
+        }
+        if (event instanceof ReportFailedEvent e) {
+            return PendingNotification.toReceiver(
+                    e.userId(),
+                    NotificationType.REPORT_FAILED,
+                    "분석 리포트 생성 실패",
+                    "AI 분석 리포트 생성에 실패했습니다. 잠시 후 다시 시도해주세요.",
+                    e.reportId()
+            );
+        }
+        if (event instanceof NoteCommentCreatedEvent e) {
+            return PendingNotification.toChildViewers(
+                    e.childId(),
+                    e.actorUserId(),
+                    e.reply() ? NotificationType.NOTE_REPLY_ADDED : NotificationType.NOTE_COMMENT_ADDED,
+                    e.reply() ? "노트 답글 알림" : "노트 댓글 알림",
+                    e.reply() ? "노트에 새로운 답글이 등록되었습니다." : "노트에 새로운 댓글이 등록되었습니다.",
+                    e.commentId()
+            );
+        }
+        if (event instanceof NoteAssetUploadedEvent e) {
+            return PendingNotification.toChildViewers(
+                    e.childId(),
+                    e.actorUserId(),
+                    NotificationType.NOTE_ASSET_UPLOADED,
+                    "노트 첨부파일 등록 알림",
+                    "노트에 새로운 첨부 이미지가 업로드되었습니다.",
+                    e.noteId()
+            );
+        }
+        return null;
+    }
+
+    private void logDiscarded(OutboxRow row) {
+        discardedCount.incrementAndGet();
+        log.warn("알림 아웃박스 행 폐기(읽을 수 없는 이벤트) - outboxId={}, eventType={}, payload={}",
+                row.outboxId(), row.eventType(), row.payload());
+    }
+
+    private String abbreviate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= ERROR_MESSAGE_LIMIT ? message : message.substring(0, ERROR_MESSAGE_LIMIT) + "...";
+    }
+
+    private void recordRelayMillis(long startedAt) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        relayCount.incrementAndGet();
+        totalRelayMillis.addAndGet(elapsedMillis);
+        maxRelayMillis.accumulateAndGet(elapsedMillis, Math::max);
+    }
+
+    private long averageRelayMillis() {
+        long count = relayCount.get();
+        return count == 0 ? 0 : totalRelayMillis.get() / count;
+    }
+}
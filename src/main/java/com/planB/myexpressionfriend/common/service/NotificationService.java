@@ -4,6 +4,8 @@ import com.planB.myexpressionfriend.common.domain.notification.Notification;
 import com.planB.myexpressionfriend.common.domain.notification.NotificationType;
 import com.planB.myexpressionfriend.common.dto.note.PageResponseDTO;
 import com.planB.myexpressionfriend.common.dto.notification.NotificationDTO;
+import com.planB.myexpressionfriend.common.notification.SseConnection;
+import com.planB.myexpressionfriend.common.notification.SseConnectionRegistry;
 import com.planB.myexpressionfriend.common.repository.AssignedMissionRepository;
 import com.planB.myexpressionfriend.common.repository.ChildNoteRepository;
 import com.planB.myexpressionfriend.common.repository.GeneratedReportRepository;
@@ -12,18 +14,17 @@ import com.planB.myexpressionfriend.common.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -32,99 +33,86 @@ import java.util.concurrent.ConcurrentHashMap;
 public class NotificationService {
 
     private static final long SSE_TIMEOUT_MILLIS = 30L * 60L * 1000L;
+    private static final int SSE_REPLAY_LIMIT = 100;
+    // 먼저 시각이 찍혔지만 늦게 커밋된 알림을 놓치지 않도록 마지막 알림 시각보다 이만큼 앞부터 재전송
+    private static final Duration SSE_REPLAY_OVERLAP = Duration.ofSeconds(10);
+    private static final String NOTIFICATION_EVENT = "notification";
 
     private final NotificationRepository notificationRepository;
     private final AssignedMissionRepository assignedMissionRepository;
     private final GeneratedReportRepository generatedReportRepository;
     private final ChildNoteRepository childNoteRepository;
     private final NoteCommentRepository noteCommentRepository;
-    private final OpsMetricService opsMetricService;
-    private final Map<UUID, SseEmitter> emitters = new ConcurrentHashMap<>();
-
-    public SseEmitter subscribe(UUID userId) {
-        SseEmitter oldEmitter = emitters.remove(userId);
-        if (oldEmitter != null) {
-            oldEmitter.complete();
-        }
-
+    private final SseConnectionRegistry sseConnectionRegistry;
+
+    /**
+     * 새 SSE 연결을 추가합니다. (같은 사용자의 다른 기기/탭 연결은 유지)
+     * Last-Event-ID가 있으면 그 이후에 저장된 알림을 먼저 재전송합니다.
+     * 재전송은 마지막 알림 시각보다 조금 앞부터 수행하므로, 이미 받은 알림이나 실시간 전송과 겹친 알림이
+     * 다시 올 수 있어 클라이언트는 id로 중복을 걸러야 합니다.
+     */
+    public SseEmitter subscribe(UUID userId, String lastEventId) {
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
-        emitters.put(userId, emitter);
-
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-        emitter.onError(ex -> emitters.remove(userId));
-
-        try {
-            emitter.send(SseEmitter.event().name("connected").data("SSE connected"));
-        } catch (IOException e) {
-            emitters.remove(userId);
-            emitter.completeWithError(e);
+        SseConnection connection = sseConnectionRegistry.register(userId, emitter);
+        sseConnectionRegistry.sendTo(connection, null, "connected", "SSE connected");
+
+        UUID lastNotificationId = parseLastEventId(lastEventId);
+        if (lastNotificationId != null) {
+            notificationRepository.findByNotificationIdAndReceiverUserId(lastNotificationId, userId)
+                    .map(last -> notificationRepository.findMissedNotifications(
+                            userId,
+                            lastNotificationId,
+                            last.getCreatedAt().minus(SSE_REPLAY_OVERLAP),
+                            PageRequest.of(0, SSE_REPLAY_LIMIT)))
+                    .orElse(List.of())
+                    .forEach(missed -> sseConnectionRegistry.sendTo(
+                            connection,
+                            missed.getNotificationId().toString(),
+                            NOTIFICATION_EVENT,
+                            NotificationDTO.from(missed)
+                    ));
         }
-
         return emitter;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public NotificationDTO saveAndSend(
-            UUID receiverUserId,
-            NotificationType type,
-            String title,
-            String message,
-            UUID referenceId
-    ) {
+    private UUID parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
         try {
-            validateReceiverAuthorization(receiverUserId, type, referenceId);
-
-            Notification notification = Notification.builder()
-                    .receiverUserId(receiverUserId)
-                    .type(type)
-                    .title(title)
-                    .message(message)
-                    .referenceId(referenceId)
-                    .isRead(false)
-                    .build();
-
-            Notification saved = notificationRepository.saveAndFlush(notification);
-            NotificationDTO dto = NotificationDTO.from(saved);
-
-            log.info("Notification saved. notificationId={}, receiverUserId={}, type={}, referenceId={}",
-                    saved.getNotificationId(), receiverUserId, type, referenceId);
-
-            sendRealtime(receiverUserId, "notification", dto);
-            return dto;
-        } catch (RuntimeException e) {
-            opsMetricService.incrementNotificationSaveFailure();
-            log.error("Notification save failed. receiverUserId={}, type={}, referenceId={}",
-                    receiverUserId, type, referenceId, e);
-            throw e;
+            return UUID.fromString(lastEventId.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
 
-    private void validateReceiverAuthorization(UUID receiverUserId, NotificationType type, UUID referenceId) {
-        if (receiverUserId == null) {
-            throw new AccessDeniedException("수신자 정보가 없습니다.");
-        }
-        if (type == null) {
-            throw new AccessDeniedException("알림 유형이 없습니다.");
-        }
-        if (referenceId == null) {
-            throw new AccessDeniedException("참조 ID가 없습니다.");
-        }
-
-        boolean authorized = switch (type) {
+    /**
+     * 수신자가 알림 참조 대상에 접근할 수 있는지 확인합니다.
+     */
+    public boolean isAuthorizedReceiver(UUID receiverUserId, NotificationType type, UUID referenceId) {
+        return switch (type) {
             case MISSION_COMPLETED, MISSION_PHOTO_UPLOADED ->
                     assignedMissionRepository.findByIdWithAuth(referenceId, receiverUserId).isPresent();
-            case REPORT_GENERATED ->
+            case REPORT_GENERATED, REPORT_FAILED ->
                     generatedReportRepository.findAuthorizedByReportId(referenceId, receiverUserId).isPresent();
             case NOTE_ASSET_UPLOADED ->
                     childNoteRepository.findByIdWithAuth(referenceId, receiverUserId).isPresent();
             case NOTE_COMMENT_ADDED, NOTE_REPLY_ADDED ->
                     noteCommentRepository.findByIdWithAuth(referenceId, receiverUserId).isPresent();
         };
+    }
 
-        if (!authorized) {
-            throw new AccessDeniedException("해당 알림에 대한 접근 권한이 없습니다.");
-        }
+    /**
+     * 노트 알림의 참조 대상이 해당 아동에 속하는지 확인합니다.
+     * 수신자를 아동의 VIEW_REPORT 권한 보유자로 조회한 경우, 이 확인 한 번으로 수신자별 권한 확인을 대신합니다.
+     */
+    public boolean isReferenceOfChild(NotificationType type, UUID referenceId, UUID childId) {
+        return switch (type) {
+            case NOTE_ASSET_UPLOADED -> childNoteRepository.existsByIdAndChildId(referenceId, childId);
+            case NOTE_COMMENT_ADDED, NOTE_REPLY_ADDED ->
+                    noteCommentRepository.existsByIdAndChildId(referenceId, childId);
+            default -> false;
+        };
     }
 
     public PageResponseDTO<NotificationDTO> getNotifications(UUID userId, Pageable pageable) {
@@ -163,20 +151,18 @@ public class NotificationService {
         return notificationRepository.deleteByReceiverUserIdAndTypeAndCreatedAtBefore(userId, type, before);
     }
 
+    /**
+     * 저장이 끝난 알림을 수신자의 실시간 연결로 전송합니다.
+     */
+    public void publish(UUID receiverUserId, NotificationDTO dto) {
+        sendRealtime(receiverUserId, dto.getNotificationId().toString(), NOTIFICATION_EVENT, dto);
+    }
+
     public void sendHeartbeat(UUID userId) {
-        sendRealtime(userId, "heartbeat", "ping");
+        sendRealtime(userId, null, "heartbeat", "ping");
     }
 
-    private void sendRealtime(UUID userId, String eventName, Object payload) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter == null) {
-            return;
-        }
-        try {
-            emitter.send(SseEmitter.event().name(eventName).data(payload));
-        } catch (IOException e) {
-            emitters.remove(userId);
-            emitter.complete();
-        }
+    private void sendRealtime(UUID userId, String eventId, String eventName, Object payload) {
+        sseConnectionRegistry.send(userId, eventId, eventName, payload);
     }
 }
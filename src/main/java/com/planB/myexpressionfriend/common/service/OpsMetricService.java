@@ -2,8 +2,11 @@ package com.planB.myexpressionfriend.common.service;
 
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 @Service
 public class OpsMetricService {
@@ -11,6 +14,9 @@ public class OpsMetricService {
     private final AtomicLong reportGenerationFailureCount = new AtomicLong(0);
     private final AtomicLong notificationSaveFailureCount = new AtomicLong(0);
     private final AtomicLong accessDeniedCount = new AtomicLong(0);
+    private final AtomicLong gameSessionCacheHitCount = new AtomicLong(0);
+    private final AtomicLong gameSessionCacheMissCount = new AtomicLong(0);
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
 
     public void incrementReportGenerationFailure() {
         reportGenerationFailureCount.incrementAndGet();
@@ -24,11 +30,31 @@ public class OpsMetricService {
         accessDeniedCount.incrementAndGet();
     }
 
+    public void incrementGameSessionCacheHit() {
+        gameSessionCacheHitCount.incrementAndGet();
+    }
+
+    public void incrementGameSessionCacheMiss() {
+        gameSessionCacheMissCount.incrementAndGet();
+    }
+
+    /**
+     * 캐시/큐 등 컴포넌트가 보유한 값을 조회 시점에 읽어오는 지표 등록
+     */
+    public void registerGauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
     public Map<String, Long> snapshot() {
-        return Map.of(
-                "reportGenerationFailureCount", reportGenerationFailureCount.get(),
-                "notificationSaveFailureCount", notificationSaveFailureCount.get(),
-                "accessDeniedCount", accessDeniedCount.get()
-        );
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        snapshot.put("reportGenerationFailureCount", reportGenerationFailureCount.get());
+        snapshot.put("notificationSaveFailureCount", notificationSaveFailureCount.get());
+        snapshot.put("accessDeniedCount", accessDeniedCount.get());
+        snapshot.put("gameSessionCacheHitCount", gameSessionCacheHitCount.get());
+        snapshot.put("gameSessionCacheMissCount", gameSessionCacheMissCount.get());
+        gauges.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> snapshot.put(entry.getKey(), entry.getValue().getAsLong()));
+        return snapshot;
     }
 }
@@ -1,6 +1,7 @@
 package com.planB.myexpressionfriend.common.service;
 
 import com.planB.myexpressionfriend.common.domain.report.ReportPreference;
+import com.planB.myexpressionfriend.common.exception.ServiceBusyException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,6 +21,7 @@ public class ReportAutoPublishScheduler {
 
     private final ReportPreferenceService reportPreferenceService;
     private final ReportGenerationService reportGenerationService;
+    private final ResilientReportLlmClient resilientReportLlmClient;
     private final Set<UUID> inProgressUsers = ConcurrentHashMap.newKeySet();
 
     @Value("${report.scheduler.enabled:true}")
@@ -30,6 +32,10 @@ public class ReportAutoPublishScheduler {
         if (!schedulerEnabled) {
             return;
         }
+        if (resilientReportLlmClient.isCircuitOpen()) {
+            log.info("Report scheduler tick skipped. LLM circuit is open.");
+            return;
+        }
 
         LocalDateTime now = LocalDateTime.now();
         List<ReportPreference> targets = reportPreferenceService.findIssuablePreferences(now);
@@ -45,12 +51,22 @@ public class ReportAutoPublishScheduler {
             }
 
             try {
-                reportGenerationService.generateScheduledReport(preference);
-                log.info("Scheduled report generated. userId={}", userId);
+                reportGenerationService.submitScheduledReport(preference)
+                        .whenComplete((report, e) -> {
+                            inProgressUsers.remove(userId);
+                            if (e != null) {
+                                log.warn("Scheduled report generation failed. userId={}, reason={}", userId, e.getMessage());
+                            } else {
+                                log.info("Scheduled report generated. userId={}", userId);
+                            }
+                        });
+            } catch (ServiceBusyException e) {
+                inProgressUsers.remove(userId);
+                log.warn("Report generation queue is full. Remaining targets deferred to next tick. userId={}", userId);
+                break;
             } catch (Exception e) {
-                log.warn("Scheduled report generation failed. userId={}, reason={}", userId, e.getMessage());
-            } finally {
                 inProgressUsers.remove(userId);
+                log.warn("Scheduled report submission failed. userId={}, reason={}", userId, e.getMessage());
             }
         }
     }
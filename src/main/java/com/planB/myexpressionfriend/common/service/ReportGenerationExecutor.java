@@ -0,0 +1,81 @@
+package com.planB.myexpressionfriend.common.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 리포트 생성(LLM 호출) 전용 작업 실행기
+ *
+ * 요청 스레드와 DB 연결을 LLM 응답 대기에서 분리하고, 동시 실행 수와 대기열 크기를 제한합니다.
+ * 대기열이 가득 차면 RejectedExecutionException으로 즉시 거절합니다.
+ *
+ * 종료 시에는 새 작업을 받지 않고 진행 중인 작업을 shutdown-timeout-ms까지 기다립니다.
+ * 그래도 끝나지 않은 작업의 PENDING 리포트는 StalePendingReportCleanupScheduler가 FAILED로 정리합니다.
+ */
+@Component
+@Slf4j
+public class ReportGenerationExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long shutdownTimeoutMillis;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public ReportGenerationExecutor(
+            OpsMetricService opsMetricService,
+            @Value("${report.generation.worker-threads:4}") int workerThreads,
+            @Value("${report.generation.queue-capacity:20}") int queueCapacity,
+            @Value("${report.generation.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis
+    ) {
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workerThreads, workerThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-gen-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+
+        opsMetricService.registerGauge("reportGenerationActiveCount", executor::getActiveCount);
+        opsMetricService.registerGauge("reportGenerationQueueDepth", () -> executor.getQueue().size());
+        opsMetricService.registerGauge("reportGenerationRejectedCount", rejectedCount::get);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                List<Runnable> dropped = executor.shutdownNow();
+                log.warn("Report generation did not finish before shutdown. active={}, dropped={}",
+                        executor.getActiveCount(), dropped.size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
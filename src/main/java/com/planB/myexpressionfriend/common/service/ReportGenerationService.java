@@ -4,17 +4,32 @@ import com.planB.myexpressionfriend.common.domain.report.GeneratedReport;
 import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
 import com.planB.myexpressionfriend.common.domain.report.ReportPreference;
 import com.planB.myexpressionfriend.common.dto.report.GeneratedReportDTO;
+import com.planB.myexpressionfriend.common.event.ReportFailedEvent;
 import com.planB.myexpressionfriend.common.event.ReportGeneratedEvent;
+import com.planB.myexpressionfriend.common.exception.ServiceBusyException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 리포트 생성 서비스
+ *
+ * PENDING 리포트 생성(짧은 트랜잭션) → LLM 호출(트랜잭션 밖) → 결과 반영(짧은 트랜잭션) 순서로 처리해
+ * LLM 응답을 기다리는 동안 DB 연결을 점유하지 않습니다.
+ * request/submit 메서드는 LLM 호출을 ReportGenerationExecutor에서 비동기로 실행하고,
+ * 클라이언트는 리포트 상태 조회 또는 SSE 알림(REPORT_GENERATED/REPORT_FAILED)으로 완료를 확인합니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -27,15 +42,46 @@ public class ReportGenerationService {
     private final ChildAuthorizationService childAuthorizationService;
     private final ApplicationEventPublisher eventPublisher;
     private final OpsMetricService opsMetricService;
+    private final PlatformTransactionManager transactionManager;
+    private final ReportGenerationExecutor reportGenerationExecutor;
     private static final Duration FAILURE_BACKOFF = Duration.ofMinutes(10);
+    private static final String QUEUE_FULL_REASON = "리포트 생성 대기열이 가득 찼습니다.";
 
-    @Transactional
-    public GeneratedReportDTO generateTestReport(
+    private record ReportJob(
+            UUID reportId,
+            UUID userId,
+            ReportPreference preference,
+            String prompt,
+            int maxTokens,
+            boolean scheduled,
+            boolean useCache
+    ) {
+    }
+
+    /**
+     * PENDING 리포트만 만들어 즉시 반환하고, LLM 호출과 결과 반영은 백그라운드에서 진행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GeneratedReportDTO requestTestReport(
             UUID userId,
             UUID targetChildId,
             String promptOverride,
             Integer maxTokens
     ) {
+        ReportJob job = prepareTestReport(userId, targetChildId, promptOverride, maxTokens);
+        submitJob(job).exceptionally(e -> null);
+        return GeneratedReportDTO.from(generatedReportService.getUserReport(userId, job.reportId()));
+    }
+
+    /**
+     * 예약 리포트를 백그라운드에서 생성합니다. 완료/실패 시 반환된 future가 끝납니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<GeneratedReportDTO> submitScheduledReport(ReportPreference preference) {
+        return submitJob(prepareScheduledReport(preference));
+    }
+
+    private ReportJob prepareTestReport(UUID userId, UUID targetChildId, String promptOverride, Integer maxTokens) {
         ReportPreference preference = reportPreferenceService.getOrCreate(userId);
         UUID resolvedChildId = resolveChildId(preference, targetChildId);
         validateViewReportPermission(userId, resolvedChildId);
@@ -49,38 +95,15 @@ public class ReportGenerationService {
                 LocalDateTime.now().minusDays(7),
                 LocalDateTime.now()
         );
-
-        try {
-            String reportText = reportLlmClient.generateReport(prompt, resolvedMaxTokens, preference.getModelName());
-
-            GeneratedReport generated = generatedReportService.markGenerated(
-                    pending.getReportId(),
-                    buildTitle(preference),
-                    buildSummary(reportText),
-                    reportText,
-                    prompt,
-                    preference.getModelName(),
-                    LocalDateTime.now()
-            );
-
-            LocalDateTime issuedAt = generated.getIssuedAt();
-            LocalDateTime nextIssueAt = reportPreferenceService.calculateNextIssueAt(preference, issuedAt);
-            reportPreferenceService.markIssued(userId, issuedAt, nextIssueAt);
-            eventPublisher.publishEvent(new ReportGeneratedEvent(generated.getReportId(), userId));
-            return GeneratedReportDTO.from(generated);
-        } catch (Exception e) {
-            opsMetricService.incrementReportGenerationFailure();
-            generatedReportService.markFailed(pending.getReportId(), e.getMessage());
-            throw e;
-        }
+        // 프롬프트를 직접 지정한 테스트 생성은 매번 새 응답을 받도록 캐시를 사용하지 않습니다.
+        boolean useCache = promptOverride == null || promptOverride.isBlank();
+        return new ReportJob(pending.getReportId(), userId, preference, prompt, resolvedMaxTokens, false, useCache);
     }
 
-    @Transactional
-    public GeneratedReportDTO generateScheduledReport(ReportPreference preference) {
+    private ReportJob prepareScheduledReport(ReportPreference preference) {
         UUID userId = preference.getUserId();
         UUID resolvedChildId = preference.getTargetChildId();
         validateViewReportPermission(userId, resolvedChildId);
-        int resolvedMaxTokens = preference.getMaxTokens();
         String prompt = resolvePrompt(preference, resolvedChildId, null);
 
         GeneratedReport pending = generatedReportService.createPendingReport(
@@ -90,31 +113,70 @@ public class ReportGenerationService {
                 LocalDateTime.now().minusDays(7),
                 LocalDateTime.now()
         );
+        return new ReportJob(pending.getReportId(), userId, preference, prompt, preference.getMaxTokens(), true, true);
+    }
 
+    private CompletableFuture<GeneratedReportDTO> submitJob(ReportJob job) {
         try {
-            String reportText = reportLlmClient.generateReport(prompt, resolvedMaxTokens, preference.getModelName());
-
-            GeneratedReport generated = generatedReportService.markGenerated(
-                    pending.getReportId(),
-                    buildTitle(preference),
-                    buildSummary(reportText),
-                    reportText,
-                    prompt,
-                    preference.getModelName(),
-                    LocalDateTime.now()
-            );
-
-            LocalDateTime issuedAt = generated.getIssuedAt();
-            LocalDateTime nextIssueAt = reportPreferenceService.calculateNextIssueAt(preference, issuedAt);
-            reportPreferenceService.markIssued(userId, issuedAt, nextIssueAt);
-            eventPublisher.publishEvent(new ReportGeneratedEvent(generated.getReportId(), userId));
-            return GeneratedReportDTO.from(generated);
-        } catch (Exception e) {
-            opsMetricService.incrementReportGenerationFailure();
-            generatedReportService.markFailed(pending.getReportId(), e.getMessage());
-            reportPreferenceService.postponeNextIssue(userId, LocalDateTime.now().plus(FAILURE_BACKOFF));
+            return reportGenerationExecutor.submit(() -> runJob(job));
+        } catch (RejectedExecutionException e) {
+            markFailed(job, QUEUE_FULL_REASON);
+            throw new ServiceBusyException("리포트 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * LLM 호출은 트랜잭션 밖에서, 결과 반영은 하나의 짧은 트랜잭션에서 수행합니다.
+     */
+    private GeneratedReportDTO runJob(ReportJob job) {
+        ReportPreference preference = job.preference();
+        String reportText;
+        try {
+            reportText = reportLlmClient.generateReport(
+                    job.prompt(), job.maxTokens(), preference.getModelName(), job.useCache());
+        } catch (RuntimeException e) {
+            markFailed(job, e.getMessage());
             throw e;
         }
+
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                GeneratedReport generated = generatedReportService.markGenerated(
+                        job.reportId(),
+                        buildTitle(preference),
+                        buildSummary(reportText),
+                        reportText,
+                        job.prompt(),
+                        preference.getModelName(),
+                        LocalDateTime.now()
+                );
+
+                LocalDateTime issuedAt = generated.getIssuedAt();
+                LocalDateTime nextIssueAt = reportPreferenceService.calculateNextIssueAt(preference, issuedAt);
+                reportPreferenceService.markIssued(job.userId(), issuedAt, nextIssueAt);
+                eventPublisher.publishEvent(new ReportGeneratedEvent(generated.getReportId(), job.userId()));
+                return GeneratedReportDTO.from(generated);
+            });
+        } catch (RuntimeException e) {
+            markFailed(job, e.getMessage());
+            throw e;
+        }
+    }
+
+    private void markFailed(ReportJob job, String reason) {
+        opsMetricService.incrementReportGenerationFailure();
+        String resolvedReason = (reason == null || reason.isBlank()) ? "Report generation failed" : reason;
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                generatedReportService.markFailed(job.reportId(), resolvedReason);
+                if (job.scheduled()) {
+                    reportPreferenceService.postponeNextIssue(job.userId(), LocalDateTime.now().plus(FAILURE_BACKOFF));
+                }
+                eventPublisher.publishEvent(new ReportFailedEvent(job.reportId(), job.userId()));
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to mark report as failed. reportId={}, reason={}", job.reportId(), e.getMessage());
+        }
     }
 
     private UUID resolveChildId(ReportPreference preference, UUID requestChildId) {
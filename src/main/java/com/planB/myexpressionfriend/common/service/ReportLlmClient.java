@@ -3,4 +3,17 @@ package com.planB.myexpressionfriend.common.service;
 public interface ReportLlmClient {
 
     String generateReport(String prompt, int maxTokens, String modelName);
+
+    /**
+     * useCache=false이면 응답 캐시를 조회하지 않고 항상 LLM을 호출합니다. (새 응답은 캐시에 반영)
+     */
+    default String generateReport(String prompt, int maxTokens, String modelName, boolean useCache) {
+        return generateReport(prompt, maxTokens, modelName);
+    }
+
+    /**
+     * 파싱 실패 등으로 쓸 수 없는 응답을 캐시에서 제거해 재시도 시 새로 호출되도록 합니다.
+     */
+    default void evictCachedResponse(String prompt, int maxTokens, String modelName) {
+    }
 }
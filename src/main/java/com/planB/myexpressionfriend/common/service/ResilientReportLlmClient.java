@@ -0,0 +1,156 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.config.GeminiProperties;
+import com.planB.myexpressionfriend.common.exception.LlmQuotaExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LLM 호출 보호 계층
+ *
+ * 서킷 브레이커 → AIMD 동시 호출 제한 → 분당 요청/토큰 예산 순서로 확인한 뒤 Gemini를 호출합니다.
+ * Gemini가 느려지거나 429를 반환하는 동안에는 스레드를 오래 붙잡지 않고
+ * LlmQuotaExceededException(retryAfterSeconds)으로 즉시 거절합니다.
+ */
+@Service
+@Slf4j
+public class ResilientReportLlmClient implements ReportLlmClient {
+
+    /**
+     * 프롬프트 토큰 수 추정용 (대략 4자당 1토큰)
+     */
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final String REJECTED_MESSAGE = "AI 호출이 일시적으로 제한되었습니다. 잠시 후 다시 시도해주세요.";
+
+    private final ReportLlmClient delegate;
+    private final GeminiProperties geminiProperties;
+    private final LlmCircuitBreaker circuitBreaker;
+    private final LlmConcurrencyLimiter concurrencyLimiter;
+    private final LlmRateBudget rateBudget;
+    private final long acquireTimeoutMs;
+
+    private final AtomicLong circuitRejectedCount = new AtomicLong();
+    private final AtomicLong concurrencyRejectedCount = new AtomicLong();
+    private final AtomicLong budgetRejectedCount = new AtomicLong();
+
+    public ResilientReportLlmClient(
+            GeminiReportLlmClient delegate,
+            GeminiProperties geminiProperties,
+            OpsMetricService opsMetricService,
+            @Value("${llm.resilience.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${llm.resilience.circuit.open-seconds:30}") long openSeconds,
+            @Value("${llm.resilience.limiter.initial-limit:8}") int initialLimit,
+            @Value("${llm.resilience.limiter.min-limit:1}") int minLimit,
+            @Value("${llm.resilience.limiter.latency-threshold-ms:60000}") long latencyThresholdMs,
+            @Value("${llm.resilience.limiter.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+            @Value("${llm.resilience.budget.requests-per-minute:60}") long requestsPerMinute,
+            @Value("${llm.resilience.budget.tokens-per-minute:500000}") long tokensPerMinute
+    ) {
+        this(
+                delegate,
+                geminiProperties,
+                opsMetricService,
+                new LlmCircuitBreaker(failureThreshold, openSeconds, System::nanoTime),
+                new LlmConcurrencyLimiter(
+                        initialLimit, minLimit, geminiProperties.getMaxConnectionsPerRoute(), latencyThresholdMs),
+                new LlmRateBudget(requestsPerMinute, tokensPerMinute, System::nanoTime),
+                acquireTimeoutMs
+        );
+    }
+
+    ResilientReportLlmClient(
+            ReportLlmClient delegate,
+            GeminiProperties geminiProperties,
+            OpsMetricService opsMetricService,
+            LlmCircuitBreaker circuitBreaker,
+            LlmConcurrencyLimiter concurrencyLimiter,
+            LlmRateBudget rateBudget,
+            long acquireTimeoutMs
+    ) {
+        this.delegate = delegate;
+        this.geminiProperties = geminiProperties;
+        this.circuitBreaker = circuitBreaker;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.rateBudget = rateBudget;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        opsMetricService.registerGauge("llmCircuitState", () -> circuitBreaker.state().ordinal());
+        opsMetricService.registerGauge("llmCircuitOpenCount", circuitBreaker::openCount);
+        opsMetricService.registerGauge("llmCircuitRejectedCount", circuitRejectedCount::get);
+        opsMetricService.registerGauge("llmConcurrencyLimit", concurrencyLimiter::limit);
+        opsMetricService.registerGauge("llmConcurrencyInFlight", concurrencyLimiter::inFlight);
+        opsMetricService.registerGauge("llmConcurrencyRejectedCount", concurrencyRejectedCount::get);
+        opsMetricService.registerGauge("llmBudgetRejectedCount", budgetRejectedCount::get);
+    }
+
+    @Override
+    public String generateReport(String prompt, int maxTokens, String modelName) {
+        if (!geminiProperties.isEnabled()) {
+            // 설정 오류는 보호 계층을 거치지 않고 원래 예외를 그대로 전달
+            return delegate.generateReport(prompt, maxTokens, modelName);
+        }
+
+        if (!circuitBreaker.tryAcquire()) {
+            circuitRejectedCount.incrementAndGet();
+            throw new LlmQuotaExceededException(REJECTED_MESSAGE, circuitBreaker.retryAfterSeconds());
+        }
+        if (!acquireConcurrency()) {
+            circuitBreaker.onIgnored();
+            concurrencyRejectedCount.incrementAndGet();
+            throw new LlmQuotaExceededException(REJECTED_MESSAGE, 1);
+        }
+        long waitMs = rateBudget.tryAcquire(estimateTokens(prompt, maxTokens));
+        if (waitMs > 0) {
+            concurrencyLimiter.onIgnored();
+            circuitBreaker.onIgnored();
+            budgetRejectedCount.incrementAndGet();
+            throw new LlmQuotaExceededException(REJECTED_MESSAGE, (int) Math.max(1, (waitMs + 999) / 1000));
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            String response = delegate.generateReport(prompt, maxTokens, modelName);
+            concurrencyLimiter.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            circuitBreaker.onSuccess();
+            return response;
+        } catch (LlmQuotaExceededException e) {
+            concurrencyLimiter.onDropped();
+            circuitBreaker.onQuotaExceeded(e.getRetryAfterSeconds());
+            log.warn("LLM circuit opened by quota response. retryAfterSeconds={}", e.getRetryAfterSeconds());
+            throw e;
+        } catch (IllegalArgumentException e) {
+            concurrencyLimiter.onIgnored();
+            circuitBreaker.onIgnored();
+            throw e;
+        } catch (RuntimeException e) {
+            concurrencyLimiter.onDropped();
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * 서킷이 열려 있는 동안에는 예약 작업이 호출을 시도하지 않도록 확인합니다.
+     */
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    private boolean acquireConcurrency() {
+        try {
+            return concurrencyLimiter.tryAcquire(acquireTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long estimateTokens(String prompt, int maxTokens) {
+        long promptTokens = prompt == null ? 0 : prompt.length() / CHARS_PER_TOKEN;
+        return promptTokens + Math.max(0, maxTokens);
+    }
+}
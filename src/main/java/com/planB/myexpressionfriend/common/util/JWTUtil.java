@@ -4,6 +4,7 @@ import com.planB.myexpressionfriend.common.config.JWTProperties;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.InvalidClaimException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
@@ -22,10 +23,16 @@ public class JWTUtil {
 
     private final SecretKey secretKey;
 
+    // JwtParser는 불변/스레드 안전하므로 요청마다 빌드하지 않고 재사용합니다.
+    private final JwtParser jwtParser;
+
     public JWTUtil(JWTProperties jwtProperties) {
         this.secretKey = Keys.hmacShaKeyFor(
                 jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)
         );
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     public String generateToken(Map<String, Object> valueMap, int minutes) {
@@ -46,9 +53,7 @@ public class JWTUtil {
 
     public Map<String, Object> validateToken(String token) throws CustomJWTException {
         try {
-            Map<String, Object> claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
+            Map<String, Object> claims = jwtParser
                     .parseClaimsJws(token)
                     .getBody();
 
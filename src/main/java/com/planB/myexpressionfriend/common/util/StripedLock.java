@@ -0,0 +1,42 @@
+package com.planB.myexpressionfriend.common.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키 해시로 고정 개수의 락 중 하나를 선택하는 스트라이프 락.
+ *
+ * 키마다 락 객체를 만들지 않고도 같은 키의 작업은 직렬화하고,
+ * 서로 다른 키의 작업은 대부분 병렬로 실행되도록 합니다.
+ */
+public final class StripedLock {
+
+    private final ReentrantLock[] stripes;
+
+    public StripedLock(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("stripeCount는 1 이상이어야 합니다.");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public ReentrantLock get(Object key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    /**
+     * 제한 시간 내 락 획득 (실패 시 false)
+     */
+    public boolean tryLock(Object key, long timeout, TimeUnit unit) throws InterruptedException {
+        return get(key).tryLock(timeout, unit);
+    }
+
+    public void unlock(Object key) {
+        get(key).unlock();
+    }
+}
@@ -0,0 +1,28 @@
+package com.planB.myexpressionfriend.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 안에서 변경한 데이터의 캐시 무효화 도우미.
+ *
+ * 커밋 전 동시 요청이 이전 상태를 다시 적재할 수 있으므로
+ * 즉시 무효화하고, 트랜잭션 중이면 커밋 시점에 한 번 더 무효화합니다.
+ */
+public final class TransactionalEviction {
+
+    private TransactionalEviction() {
+    }
+
+    public static void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.planB.myexpressionfriend.unity.controller;
 
 import com.planB.myexpressionfriend.common.dto.common.ApiResponse;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultBatchRequestDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultBatchResponseDTO;
 import com.planB.myexpressionfriend.unity.dto.UnityGameResultSaveRequestDTO;
 import com.planB.myexpressionfriend.unity.dto.UnityGameResultSaveResponseDTO;
 import com.planB.myexpressionfriend.unity.service.UnityGameResultService;
@@ -33,4 +35,13 @@ public class UnityGameResultController {
         UnityGameResultSaveResponseDTO result = unityGameResultService.saveResult(requestDTO);
         return ResponseEntity.ok(ApiResponse.success("Unity 게임 결과가 저장되었습니다.", result));
     }
-}
\ No newline at end of file
+
+    @PostMapping("/batch")
+    @Operation(summary = "Unity 게임 결과 일괄 저장", description = "한 게임 세션의 결과 여러 건을 접수하고 항목별 처리 결과를 반환합니다. 저장은 비동기로 수행됩니다.")
+    public ResponseEntity<ApiResponse<UnityGameResultBatchResponseDTO>> saveResults(
+            @Valid @RequestBody UnityGameResultBatchRequestDTO requestDTO
+    ) {
+        UnityGameResultBatchResponseDTO result = unityGameResultService.saveResults(requestDTO);
+        return ResponseEntity.ok(ApiResponse.success("Unity 게임 결과가 접수되었습니다.", result));
+    }
+}
@@ -0,0 +1,56 @@
+package com.planB.myexpressionfriend.unity.controller;
+
+import com.planB.myexpressionfriend.common.dto.common.ApiResponse;
+import com.planB.myexpressionfriend.common.dto.user.UserDTO;
+import com.planB.myexpressionfriend.common.exception.InvalidRequestException;
+import com.planB.myexpressionfriend.unity.dto.UnityGameStatsResponseDTO;
+import com.planB.myexpressionfriend.unity.service.UnityGameStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Unity 게임 통계 조회 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/unity/stats")
+@RequiredArgsConstructor
+@Tag(name = "UnityGameStats", description = "Unity 게임 통계 API")
+public class UnityGameStatsController {
+
+    private final UnityGameStatsService unityGameStatsService;
+
+    @GetMapping("/children/{childId}")
+    @PreAuthorize("hasAnyRole('PARENT', 'THERAPIST')")
+    @Operation(summary = "아동 게임 통계 조회", description = "일별 집계를 기반으로 기간 내 성공률, 연속 성공일, 감정/미션별 통계를 반환합니다. 기본 기간은 최근 30일입니다.")
+    public ResponseEntity<ApiResponse<UnityGameStatsResponseDTO>> getChildStats(
+            @PathVariable UUID childId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDTO currentUser
+    ) {
+        UUID userId = requireUserId(currentUser);
+        UnityGameStatsResponseDTO result = unityGameStatsService.getChildStats(childId, userId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    private UUID requireUserId(UserDTO currentUser) {
+        if (currentUser == null || currentUser.getUserId() == null) {
+            throw new InvalidRequestException("로그인 사용자 정보가 필요합니다.");
+        }
+        return currentUser.getUserId();
+    }
+}
@@ -16,6 +16,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,7 +28,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -59,14 +62,24 @@ public class UnityMissionController {
     }
 
     @GetMapping
-    @Operation(summary = "Unity 런타임용 승인 미션 조회", description = "세션 토큰으로 해당 아동의 오늘 승인된 미션 목록을 반환합니다.")
+    @Operation(summary = "Unity 런타임용 승인 미션 조회", description = "세션 토큰으로 해당 아동의 오늘 승인된 미션 목록을 반환합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
     public ResponseEntity<ApiResponse<UnityMissionListResponseDTO>> getMissionsForUnity(
-            @RequestParam String sessionToken
+            @RequestParam String sessionToken,
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
-        List<UnityMissionResponseDTO> missions = unityMissionService.getApprovedMissionsForUnity(sessionToken);
-        return ResponseEntity.ok(ApiResponse.success(UnityMissionListResponseDTO.builder()
-                .missions(missions)
-                .build()));
+        UUID childId = unityMissionService.resolveChildIdForSession(sessionToken);
+        LocalDate today = LocalDate.now();
+        String etag = unityMissionService.getApprovedMissionsEtag(childId, today);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        List<UnityMissionResponseDTO> missions = unityMissionService.getApprovedMissionsFromCache(childId, today);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(UnityMissionListResponseDTO.builder()
+                        .missions(missions)
+                        .build()));
     }
 
     @PatchMapping("/{missionId}/approve")
@@ -0,0 +1,84 @@
+package com.planB.myexpressionfriend.unity.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Unity 게임 결과 일별 집계 (아동 × 미션 × 날짜)
+ *
+ * 게임 결과 저장 시 UnityGameStatsService가 UPSERT로 증분 갱신하며,
+ * 통계 조회는 원본 결과 대신 이 테이블의 일 단위 행만 읽습니다.
+ */
+@Entity
+@Table(name = "unity_game_daily_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_unity_game_daily_stats_key",
+                columnNames = {"child_id", "mission_id", "stat_date"}
+        ),
+        indexes = @Index(name = "idx_unity_game_daily_stats_child_date", columnList = "child_id, stat_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UnityGameDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "unity_game_daily_stat_seq_generator")
+    @SequenceGenerator(name = "unity_game_daily_stat_seq_generator", sequenceName = "unity_game_daily_stats_seq", allocationSize = 50)
+    @Column(name = "stat_id", updatable = false, nullable = false)
+    private Long statId;
+
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "child_id", nullable = false)
+    private UUID childId;
+
+    @Column(name = "mission_id", nullable = false)
+    private Integer missionId;
+
+    /**
+     * 집계 시점에 unity_missions에서 찾은 목표 감정 (미션이 없으면 null)
+     */
+    @Column(name = "target_emotion", length = 100)
+    private String targetEmotion;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "success_count", nullable = false)
+    private Integer successCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum;
+
+    @Column(name = "max_score", nullable = false)
+    private Integer maxScore;
+
+    @Column(name = "duration_seconds_sum", nullable = false)
+    private Double durationSecondsSum;
+
+    @Column(name = "retry_sum", nullable = false)
+    private Long retrySum;
+
+    @Column(name = "last_played_at", nullable = false)
+    private LocalDateTime lastPlayedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -40,7 +41,8 @@ import java.time.LocalDateTime;
 public class UnityGameResult {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "unity_game_result_seq_generator")
+    @SequenceGenerator(name = "unity_game_result_seq_generator", sequenceName = "unity_game_results_seq", allocationSize = 50)
     @Column(name = "unity_game_result_id", updatable = false, nullable = false)
     private Long unityGameResultId;
 
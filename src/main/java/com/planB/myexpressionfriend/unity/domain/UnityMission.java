@@ -14,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -34,6 +35,7 @@ import java.util.UUID;
 @Entity
 @Table(name = "unity_missions", indexes = {
         @Index(name = "idx_unity_missions_external_id", columnList = "external_mission_id"),
+        @Index(name = "idx_unity_missions_external_id_created_at", columnList = "external_mission_id, created_at DESC, unity_mission_id DESC"),
         @Index(name = "idx_unity_missions_type", columnList = "mission_type"),
         @Index(name = "idx_unity_missions_child_id", columnList = "child_id"),
         @Index(name = "idx_unity_missions_approval_status", columnList = "approval_status"),
@@ -49,7 +51,8 @@ import java.util.UUID;
 public class UnityMission {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "unity_mission_seq_generator")
+    @SequenceGenerator(name = "unity_mission_seq_generator", sequenceName = "unity_missions_seq", allocationSize = 50)
     @Column(name = "unity_mission_id", updatable = false, nullable = false)
     private Long unityMissionId;
 
@@ -0,0 +1,86 @@
+package com.planB.myexpressionfriend.unity.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 아동별 다음날 미션 사전 생성 체크포인트
+ *
+ * 미션 한 건을 저장할 때마다 같은 트랜잭션에서 진행 개수를 올리므로,
+ * 재시작 후에는 마지막으로 저장된 다음 미션부터 이어서 생성합니다.
+ * RUNNING 상태는 lease_expires_at까지만 유효하며, 만료되면 다른 실행(노드)이 회수합니다.
+ */
+@Entity
+@Table(name = "unity_mission_pregeneration_checkpoints",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_unity_mission_pregeneration_child_date",
+                columnNames = {"child_id", "mission_date"}
+        ),
+        indexes = @Index(name = "idx_unity_mission_pregeneration_date_status", columnList = "mission_date, status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UnityMissionPregenerationCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "checkpoint_id", updatable = false, nullable = false)
+    private Long checkpointId;
+
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "child_id", nullable = false)
+    private UUID childId;
+
+    @Column(name = "mission_date", nullable = false)
+    private LocalDate missionDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private UnityMissionPregenerationStatus status;
+
+    @Column(name = "expression_target", nullable = false)
+    private Integer expressionTarget;
+
+    @Column(name = "situation_target", nullable = false)
+    private Integer situationTarget;
+
+    @Column(name = "expression_done", nullable = false)
+    private Integer expressionDone;
+
+    @Column(name = "situation_done", nullable = false)
+    private Integer situationDone;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,12 @@
+package com.planB.myexpressionfriend.unity.domain;
+
+/**
+ * 미션 사전 생성 체크포인트 상태
+ */
+public enum UnityMissionPregenerationStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    SKIPPED
+}
@@ -0,0 +1,45 @@
+package com.planB.myexpressionfriend.unity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Unity 게임 결과 일괄 저장 항목별 처리 결과
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnityGameResultAckDTO {
+
+    public enum Status {
+        /** 저장 대기열에 적재됨 */
+        ACCEPTED,
+        /** 검증 실패 또는 대기열 초과로 거절됨 (재전송 대상) */
+        REJECTED
+    }
+
+    private int index;
+    private String clientResultId;
+    private Status status;
+    private String reason;
+
+    public static UnityGameResultAckDTO accepted(int index, String clientResultId) {
+        return UnityGameResultAckDTO.builder()
+                .index(index)
+                .clientResultId(clientResultId)
+                .status(Status.ACCEPTED)
+                .build();
+    }
+
+    public static UnityGameResultAckDTO rejected(int index, String clientResultId, String reason) {
+        return UnityGameResultAckDTO.builder()
+                .index(index)
+                .clientResultId(clientResultId)
+                .status(Status.REJECTED)
+                .reason(reason)
+                .build();
+    }
+}
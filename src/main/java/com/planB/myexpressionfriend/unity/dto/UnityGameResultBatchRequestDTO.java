@@ -0,0 +1,32 @@
+package com.planB.myexpressionfriend.unity.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Unity 게임 결과 일괄 저장 요청 DTO (단일 세션)
+ *
+ * 항목별 검증은 서비스에서 수행하며, 실패한 항목만 ack로 거절됩니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnityGameResultBatchRequestDTO {
+
+    @NotBlank
+    private String sessionToken;
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<UnityGameResultItemDTO> results;
+}
@@ -0,0 +1,24 @@
+package com.planB.myexpressionfriend.unity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Unity 게임 결과 일괄 저장 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnityGameResultBatchResponseDTO {
+
+    private UUID childId;
+    private int acceptedCount;
+    private int rejectedCount;
+    private List<UnityGameResultAckDTO> acks;
+}
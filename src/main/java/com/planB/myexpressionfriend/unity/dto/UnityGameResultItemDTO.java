@@ -0,0 +1,47 @@
+package com.planB.myexpressionfriend.unity.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Unity 게임 결과 일괄 저장 항목 DTO
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnityGameResultItemDTO {
+
+    /**
+     * 클라이언트가 항목을 식별하기 위한 값 (응답 ack에 그대로 반환)
+     */
+    @Size(max = 64)
+    private String clientResultId;
+
+    @NotNull
+    private Integer missionId;
+
+    @NotNull
+    private Boolean success;
+
+    @NotNull
+    @Min(0)
+    @Max(100)
+    private Integer score;
+
+    @NotNull
+    @Min(0)
+    private Float durationSeconds;
+
+    @NotNull
+    @Min(0)
+    private Integer retryCount;
+}
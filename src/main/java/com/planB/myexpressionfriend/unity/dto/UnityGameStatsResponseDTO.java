@@ -0,0 +1,76 @@
+package com.planB.myexpressionfriend.unity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 아동별 Unity 게임 통계 응답 DTO (일별 집계 기반)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnityGameStatsResponseDTO {
+
+    private UUID childId;
+    private LocalDate from;
+    private LocalDate to;
+
+    private long totalAttempts;
+    private long totalSuccesses;
+    private double successRate;
+    private double averageScore;
+    private double averageRetries;
+    private long totalRetries;
+    private int activeDays;
+    private int currentStreakDays;
+    private int longestStreakDays;
+    private LocalDateTime lastPlayedAt;
+
+    private List<DailyItem> daily;
+    private List<EmotionItem> byEmotion;
+    private List<MissionItem> byMission;
+
+    @Getter
+    @Builder
+    public static class DailyItem {
+        private LocalDate date;
+        private long attempts;
+        private long successes;
+        private double averageScore;
+        private double totalDurationSeconds;
+    }
+
+    @Getter
+    @Builder
+    public static class EmotionItem {
+        private String targetEmotion;
+        private long attempts;
+        private long successes;
+        private double successRate;
+        private double averageScore;
+        private double averageRetries;
+        private long totalRetries;
+    }
+
+    @Getter
+    @Builder
+    public static class MissionItem {
+        private Integer missionId;
+        private String targetEmotion;
+        private long attempts;
+        private long successes;
+        private double successRate;
+        private int maxScore;
+        private double averageRetries;
+        private long totalRetries;
+        private LocalDateTime lastPlayedAt;
+    }
+}
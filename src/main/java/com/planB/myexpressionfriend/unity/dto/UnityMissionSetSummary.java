@@ -0,0 +1,31 @@
+package com.planB.myexpressionfriend.unity.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * (아동, 날짜) 승인 미션 집합의 버전 정보
+ *
+ * 미션 본문을 읽지 않고 건수와 최종 수정 시각만으로 ETag를 계산합니다.
+ */
+public record UnityMissionSetSummary(long count, LocalDateTime maxUpdatedAt) {
+
+    /**
+     * 강한 ETag (따옴표 포함)
+     */
+    public String toEtag(UUID childId, LocalDate missionDate) {
+        String source = childId + "|" + missionDate + "|" + count + "|" + maxUpdatedAt;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(source.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.planB.myexpressionfriend.unity.dto.prompt;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 아동 기준으로 한 번 조회해 여러 미션 프롬프트에 재사용하는 컨텍스트 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UnityMissionChildPromptContextDTO {
+
+    /**
+     * 미션 ID를 제외한 프롬프트 치환 값
+     */
+    private UnityMissionPromptContextDTO promptContext;
+
+    private Set<String> allowedTargetEmotions;
+}
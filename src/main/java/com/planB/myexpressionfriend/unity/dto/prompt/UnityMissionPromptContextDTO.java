@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
  * Unity 미션 프롬프트 컨텍스트 DTO
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class UnityMissionPromptContextDTO {
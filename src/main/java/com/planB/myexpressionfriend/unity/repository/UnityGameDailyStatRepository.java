@@ -0,0 +1,22 @@
+package com.planB.myexpressionfriend.unity.repository;
+
+import com.planB.myexpressionfriend.unity.domain.UnityGameDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Unity 게임 결과 일별 집계 저장소
+ */
+@Repository
+public interface UnityGameDailyStatRepository extends JpaRepository<UnityGameDailyStat, Long> {
+
+    /**
+     * 아동의 기간별 집계 행을 날짜순으로 조회합니다.
+     */
+    List<UnityGameDailyStat> findByChildIdAndStatDateBetweenOrderByStatDateAsc(
+            UUID childId, LocalDate from, LocalDate to);
+}
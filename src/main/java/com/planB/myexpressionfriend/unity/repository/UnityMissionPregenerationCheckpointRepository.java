@@ -0,0 +1,146 @@
+package com.planB.myexpressionfriend.unity.repository;
+
+import com.planB.myexpressionfriend.unity.domain.UnityMissionPregenerationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미션 사전 생성 체크포인트 저장소
+ */
+@Repository
+public interface UnityMissionPregenerationCheckpointRepository
+        extends JpaRepository<UnityMissionPregenerationCheckpoint, Long> {
+
+    /**
+     * 활성 아동(삭제되지 않고 주보호자가 있는 아동)마다 체크포인트 생성 (이미 있으면 유지)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO unity_mission_pregeneration_checkpoints (
+            child_id, mission_date, status, expression_target, situation_target,
+            expression_done, situation_done, attempt_count, created_at, updated_at
+        )
+        SELECT c.child_id, :missionDate, 'PENDING', :expressionTarget, :situationTarget, 0, 0, 0, :now, :now
+        FROM children c
+        WHERE c.is_deleted = false
+          AND EXISTS (
+              SELECT 1
+              FROM children_authorized_users au
+              WHERE au.child_id = c.child_id
+                AND au.is_primary = true
+                AND au.is_active = true
+          )
+        ON CONFLICT (child_id, mission_date) DO NOTHING
+        """, nativeQuery = true)
+    int seedForActiveChildren(
+            @Param("missionDate") LocalDate missionDate,
+            @Param("expressionTarget") int expressionTarget,
+            @Param("situationTarget") int situationTarget,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 처리 가능한 체크포인트 ID (대기/실패 재시도 또는 lease가 만료된 실행 중 항목)
+     */
+    @Query(value = """
+        SELECT cp.checkpoint_id
+        FROM unity_mission_pregeneration_checkpoints cp
+        WHERE cp.mission_date >= :fromDate
+          AND (
+              (cp.status IN ('PENDING', 'FAILED') AND cp.attempt_count < :maxAttempts)
+              OR (cp.status = 'RUNNING' AND cp.lease_expires_at < :now)
+          )
+        ORDER BY cp.mission_date, cp.checkpoint_id
+        """, nativeQuery = true)
+    List<Long> findClaimableIds(
+            @Param("fromDate") LocalDate fromDate,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 체크포인트 선점 (다른 실행이 먼저 가져갔으면 0)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE unity_mission_pregeneration_checkpoints
+        SET status = 'RUNNING',
+            attempt_count = attempt_count + 1,
+            lease_expires_at = :leaseExpiresAt,
+            updated_at = :now
+        WHERE checkpoint_id = :checkpointId
+          AND (
+              (status IN ('PENDING', 'FAILED') AND attempt_count < :maxAttempts)
+              OR (status = 'RUNNING' AND lease_expires_at < :now)
+          )
+        """, nativeQuery = true)
+    int claim(
+            @Param("checkpointId") Long checkpointId,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 미션 저장과 같은 트랜잭션에서 진행 개수 증가 및 lease 연장
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE unity_mission_pregeneration_checkpoints
+        SET expression_done = expression_done + :expressionDelta,
+            situation_done = situation_done + :situationDelta,
+            lease_expires_at = :leaseExpiresAt,
+            updated_at = :now
+        WHERE checkpoint_id = :checkpointId
+        """, nativeQuery = true)
+    int advance(
+            @Param("checkpointId") Long checkpointId,
+            @Param("expressionDelta") int expressionDelta,
+            @Param("situationDelta") int situationDelta,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query(value = """
+        UPDATE unity_mission_pregeneration_checkpoints
+        SET status = :status,
+            last_error = :lastError,
+            lease_expires_at = NULL,
+            completed_at = CASE WHEN :status = 'COMPLETED' THEN CAST(:now AS timestamp) ELSE completed_at END,
+            updated_at = :now
+        WHERE checkpoint_id = :checkpointId
+        """, nativeQuery = true)
+    int finish(
+            @Param("checkpointId") Long checkpointId,
+            @Param("status") String status,
+            @Param("lastError") String lastError,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 선점 반납 (LLM 쿼터/서킷 거절처럼 아동 탓이 아닌 중단은 시도 횟수에서 제외하고 대기 상태로 되돌림)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE unity_mission_pregeneration_checkpoints
+        SET status = 'PENDING',
+            attempt_count = GREATEST(attempt_count - 1, 0),
+            last_error = :lastError,
+            lease_expires_at = NULL,
+            updated_at = :now
+        WHERE checkpoint_id = :checkpointId
+        """, nativeQuery = true)
+    int release(
+            @Param("checkpointId") Long checkpointId,
+            @Param("lastError") String lastError,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -2,9 +2,12 @@ package com.planB.myexpressionfriend.unity.repository;
 
 import com.planB.myexpressionfriend.unity.domain.UnityMission;
 import com.planB.myexpressionfriend.unity.domain.UnityMissionApprovalStatus;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionSetSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -16,11 +19,40 @@ public interface UnityMissionRepository extends JpaRepository<UnityMission, Long
 
     Page<UnityMission> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
-    List<UnityMission> findAllByOrderByMissionIdAscCreatedAtDesc();
+    /**
+     * 외부 미션 ID별 최신 미션 1건씩 조회
+     * 최신 행 ID는 idx_unity_missions_external_id_created_at 인덱스만으로 고르고, 본문(jsonb)은 선택된 행만 읽습니다.
+     */
+    @Query(value = """
+            SELECT um.*
+            FROM unity_missions um
+            WHERE um.unity_mission_id IN (
+                SELECT DISTINCT ON (latest.external_mission_id) latest.unity_mission_id
+                FROM unity_missions latest
+                ORDER BY latest.external_mission_id ASC, latest.created_at DESC, latest.unity_mission_id DESC
+            )
+            ORDER BY um.external_mission_id ASC
+            """, nativeQuery = true)
+    List<UnityMission> findLatestPerMissionId();
 
     List<UnityMission> findByChild_ChildIdAndApprovalStatusAndMissionDate(
             UUID childId, UnityMissionApprovalStatus approvalStatus, LocalDate missionDate);
 
+    /**
+     * 승인 미션 집합의 건수와 최종 수정 시각 (ETag 계산용, 본문 컬럼은 읽지 않음)
+     */
+    @Query("""
+            SELECT new com.planB.myexpressionfriend.unity.dto.UnityMissionSetSummary(COUNT(um), MAX(um.updatedAt))
+            FROM UnityMission um
+            WHERE um.child.childId = :childId
+              AND um.approvalStatus = :approvalStatus
+              AND um.missionDate = :missionDate
+            """)
+    UnityMissionSetSummary summarizeByChildAndApprovalStatusAndMissionDate(
+            @Param("childId") UUID childId,
+            @Param("approvalStatus") UnityMissionApprovalStatus approvalStatus,
+            @Param("missionDate") LocalDate missionDate);
+
     List<UnityMission> findByChild_ChildIdAndApprovalStatus(
             UUID childId, UnityMissionApprovalStatus approvalStatus);
 }
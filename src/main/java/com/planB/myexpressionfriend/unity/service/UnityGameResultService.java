@@ -1,17 +1,28 @@
 package com.planB.myexpressionfriend.unity.service;
 
 import com.planB.myexpressionfriend.common.domain.game.GameSession;
+import com.planB.myexpressionfriend.common.dto.game.CachedGameSession;
 import com.planB.myexpressionfriend.common.exception.InvalidRequestException;
 import com.planB.myexpressionfriend.common.repository.GameSessionRepository;
+import com.planB.myexpressionfriend.common.security.GameSessionTokenCache;
 import com.planB.myexpressionfriend.unity.domain.UnityGameResult;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultAckDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultBatchRequestDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultBatchResponseDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultItemDTO;
 import com.planB.myexpressionfriend.unity.dto.UnityGameResultSaveRequestDTO;
 import com.planB.myexpressionfriend.unity.dto.UnityGameResultSaveResponseDTO;
 import com.planB.myexpressionfriend.unity.repository.UnityGameResultRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Unity 게임 결과 저장 서비스
@@ -23,6 +34,10 @@ public class UnityGameResultService {
 
     private final UnityGameResultRepository unityGameResultRepository;
     private final GameSessionRepository gameSessionRepository;
+    private final GameSessionTokenCache gameSessionTokenCache;
+    private final UnityGameResultWriteQueue writeQueue;
+    private final UnityGameStatsService statsService;
+    private final Validator validator;
 
     /**
      * Unity 게임 결과를 저장합니다.
@@ -47,6 +62,16 @@ public class UnityGameResultService {
                 .build();
 
         UnityGameResult saved = unityGameResultRepository.save(toSave);
+        statsService.recordResults(List.of(new UnityGameResultWriteQueue.PendingGameResult(
+                session.getSessionId(),
+                session.getChild().getChildId(),
+                saved.getMissionId(),
+                saved.getSuccess(),
+                saved.getScore(),
+                saved.getDurationSeconds(),
+                saved.getRetryCount(),
+                saved.getCreatedAt() != null ? saved.getCreatedAt() : LocalDateTime.now()
+        )));
 
         return UnityGameResultSaveResponseDTO.builder()
                 .savedId(saved.getUnityGameResultId())
@@ -55,4 +80,61 @@ public class UnityGameResultService {
                 .createdAt(saved.getCreatedAt())
                 .build();
     }
+
+    /**
+     * Unity 게임 결과를 일괄 접수합니다.
+     * 세션 토큰은 한 번만 검증하고, 항목별로 검증 후 비동기 저장 대기열에 적재합니다.
+     *
+     * @param requestDTO 일괄 저장 요청 데이터
+     * @return 항목별 ack (ACCEPTED는 저장 대기열 적재 완료를 의미)
+     */
+    public UnityGameResultBatchResponseDTO saveResults(UnityGameResultBatchRequestDTO requestDTO) {
+        CachedGameSession session = gameSessionTokenCache.findValidSession(requestDTO.getSessionToken())
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않거나 만료된 게임 세션입니다."));
+
+        LocalDateTime receivedAt = LocalDateTime.now();
+        List<UnityGameResultAckDTO> acks = new ArrayList<>(requestDTO.getResults().size());
+        int acceptedCount = 0;
+
+        for (int index = 0; index < requestDTO.getResults().size(); index++) {
+            UnityGameResultItemDTO item = requestDTO.getResults().get(index);
+            if (item == null) {
+                acks.add(UnityGameResultAckDTO.rejected(index, null, "INVALID: 빈 항목입니다."));
+                continue;
+            }
+
+            Set<ConstraintViolation<UnityGameResultItemDTO>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<UnityGameResultItemDTO> violation = violations.iterator().next();
+                acks.add(UnityGameResultAckDTO.rejected(index, item.getClientResultId(),
+                        "INVALID: " + violation.getPropertyPath() + " " + violation.getMessage()));
+                continue;
+            }
+
+            boolean queued = writeQueue.offer(new UnityGameResultWriteQueue.PendingGameResult(
+                    session.sessionId(),
+                    session.childId(),
+                    item.getMissionId(),
+                    item.getSuccess(),
+                    item.getScore(),
+                    item.getDurationSeconds(),
+                    item.getRetryCount(),
+                    receivedAt
+            ));
+            if (queued) {
+                acceptedCount++;
+                acks.add(UnityGameResultAckDTO.accepted(index, item.getClientResultId()));
+            } else {
+                acks.add(UnityGameResultAckDTO.rejected(index, item.getClientResultId(),
+                        "QUEUE_FULL: 잠시 후 다시 전송해 주세요."));
+            }
+        }
+
+        return UnityGameResultBatchResponseDTO.builder()
+                .childId(session.childId())
+                .acceptedCount(acceptedCount)
+                .rejectedCount(acks.size() - acceptedCount)
+                .acks(acks)
+                .build();
+    }
 }
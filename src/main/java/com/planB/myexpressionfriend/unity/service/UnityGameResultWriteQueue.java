@@ -0,0 +1,274 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unity 게임 결과 비동기 저장 대기열
+ *
+ * 요청 스레드는 결과를 제한된 크기의 대기열에 넣고 즉시 반환하며,
+ * 전용 작업 스레드가 최대 batchSize건씩 모아 JDBC 배치 INSERT로 저장합니다.
+ * 대기열이 가득 차면 해당 항목은 거절되어 클라이언트가 다시 전송합니다.
+ * 결과 INSERT와 일별 집계 갱신은 한 트랜잭션으로 묶여 함께 커밋됩니다.
+ *
+ * 이미 접수(ACCEPTED)된 결과이므로 저장 실패 시 버리지 않습니다.
+ * 일시적 DB 오류는 지수 백오프로 배치를 재시도하고, 그 밖의 오류(제약 조건 위반 등)는
+ * 건별 저장으로 전환해 문제 행만 격리합니다. 끝내 저장하지 못한 행은 전체 내용을 dead-letter 로그로 남깁니다.
+ *
+ * 작업 스레드는 기동 시 스키마 보정(UnityIdSequenceUpdater 등)이 끝난 뒤 ApplicationReadyEvent에서 시작합니다.
+ * 그 전에 접수된 결과는 대기열에 쌓였다가 시작 후 저장됩니다.
+ */
+@Component
+@Slf4j
+public class UnityGameResultWriteQueue {
+
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 10_000L;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO unity_game_results (
+                unity_game_result_id, game_session_id, mission_id, is_success, score, duration_seconds, retry_count, created_at
+            ) VALUES (nextval('unity_game_results_seq'), ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * 저장 대기 중인 게임 결과
+     */
+    public record PendingGameResult(
+            UUID gameSessionId,
+            UUID childId,
+            Integer missionId,
+            Boolean success,
+            Integer score,
+            Float durationSeconds,
+            Integer retryCount,
+            LocalDateTime createdAt
+    ) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UnityGameStatsService statsService;
+    private final BlockingQueue<PendingGameResult> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private volatile Thread worker;
+    private volatile boolean running = true;
+
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong isolatedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong totalFlushMillis = new AtomicLong();
+    private final AtomicLong maxFlushMillis = new AtomicLong();
+
+    public UnityGameResultWriteQueue(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            UnityGameStatsService statsService,
+            OpsMetricService opsMetricService,
+            @Value("${unity.game-result.queue.capacity:10000}") int capacity,
+            @Value("${unity.game-result.queue.batch-size:500}") int batchSize,
+            @Value("${unity.game-result.queue.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${unity.game-result.queue.max-retries:3}") int maxRetries,
+            @Value("${unity.game-result.queue.retry-backoff-ms:500}") long retryBackoffMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.statsService = statsService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMillis = Math.max(0L, retryBackoffMillis);
+
+        opsMetricService.registerGauge("unityResultQueueDepth", queue::size);
+        opsMetricService.registerGauge("unityResultFlushedCount", flushedCount::get);
+        opsMetricService.registerGauge("unityResultFailedCount", failedCount::get);
+        opsMetricService.registerGauge("unityResultRejectedCount", rejectedCount::get);
+        opsMetricService.registerGauge("unityResultRetriedCount", retriedCount::get);
+        opsMetricService.registerGauge("unityResultIsolatedCount", isolatedCount::get);
+        opsMetricService.registerGauge("unityResultAvgFlushMillis", this::averageFlushMillis);
+        opsMetricService.registerGauge("unityResultMaxFlushMillis", maxFlushMillis::get);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = new Thread(this::runWorker, "unity-result-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 대기열 적재 (가득 찬 경우 false)
+     */
+    public boolean offer(PendingGameResult result) {
+        if (!running || !queue.offer(result)) {
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중인 결과를 모두 저장 (종료 시 호출)
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<PendingGameResult> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            write(remaining);
+            remaining.clear();
+        }
+    }
+
+    private void runWorker() {
+        List<PendingGameResult> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingGameResult first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void write(List<PendingGameResult> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            writeWithRetry(batch);
+        } finally {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            flushCount.incrementAndGet();
+            totalFlushMillis.addAndGet(elapsedMillis);
+            maxFlushMillis.accumulateAndGet(elapsedMillis, Math::max);
+        }
+    }
+
+    private void writeWithRetry(List<PendingGameResult> batch) {
+        long backoffMillis = retryBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(batch);
+                flushedCount.addAndGet(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e) || attempt > maxRetries) {
+                    log.warn("Unity 게임 결과 배치 저장 실패 - {}건, 건별 저장으로 전환, reason={}",
+                            batch.size(), e.getMessage());
+                    writeIndividually(batch);
+                    return;
+                }
+                retriedCount.incrementAndGet();
+                log.warn("Unity 게임 결과 배치 저장 일시 실패 - {}건, {}ms 후 재시도 ({}/{}), reason={}",
+                        batch.size(), backoffMillis, attempt, maxRetries, e.getMessage());
+                if (!sleep(backoffMillis)) {
+                    writeIndividually(batch);
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void writeIndividually(List<PendingGameResult> batch) {
+        for (PendingGameResult result : batch) {
+            try {
+                insert(List.of(result));
+                flushedCount.incrementAndGet();
+                isolatedCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                failedCount.incrementAndGet();
+                log.error("Unity 게임 결과 저장 실패(dead-letter) - gameSessionId={}, childId={}, missionId={}, "
+                                + "success={}, score={}, durationSeconds={}, retryCount={}, createdAt={}, reason={}",
+                        result.gameSessionId(), result.childId(), result.missionId(), result.success(),
+                        result.score(), result.durationSeconds(), result.retryCount(), result.createdAt(),
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    private void insert(List<PendingGameResult> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, result) -> {
+                ps.setObject(1, result.gameSessionId());
+                ps.setInt(2, result.missionId());
+                ps.setBoolean(3, result.success());
+                ps.setInt(4, result.score());
+                ps.setFloat(5, result.durationSeconds());
+                ps.setInt(6, result.retryCount());
+                ps.setTimestamp(7, Timestamp.valueOf(result.createdAt()));
+            });
+            statsService.recordResults(rows);
+        });
+    }
+
+    /**
+     * 재시도로 해결될 수 있는 오류 (연결 실패, 데드락, 타임아웃 등)
+     */
+    private boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long averageFlushMillis() {
+        long count = flushCount.get();
+        return count == 0 ? 0 : totalFlushMillis.get() / count;
+    }
+}
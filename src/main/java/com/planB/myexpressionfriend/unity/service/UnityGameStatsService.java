@@ -0,0 +1,342 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import com.planB.myexpressionfriend.common.exception.InvalidRequestException;
+import com.planB.myexpressionfriend.common.service.ChildAuthorizationService;
+import com.planB.myexpressionfriend.unity.domain.UnityGameDailyStat;
+import com.planB.myexpressionfriend.unity.dto.UnityGameStatsResponseDTO;
+import com.planB.myexpressionfriend.unity.repository.UnityGameDailyStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Unity 게임 통계 서비스
+ *
+ * 결과 저장 시 (아동, 미션, 날짜) 단위 일별 집계를 UPSERT로 증분 갱신하고,
+ * 통계 조회는 집계 행만 읽어 조회 비용이 결과 건수가 아닌 기간(일수)에 비례하도록 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class UnityGameStatsService {
+
+    static final int DEFAULT_RANGE_DAYS = 30;
+    static final int MAX_RANGE_DAYS = 366;
+    static final String UNKNOWN_EMOTION = "UNKNOWN";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO unity_game_daily_stats (
+                stat_id, child_id, mission_id, target_emotion, stat_date,
+                attempt_count, success_count, score_sum, max_score, duration_seconds_sum, retry_sum,
+                last_played_at, updated_at
+            ) VALUES (
+                nextval('unity_game_daily_stats_seq'), ?, ?,
+                (SELECT um.target_emotion
+                   FROM unity_missions um
+                  WHERE um.external_mission_id = ?
+                    AND (um.child_id = ? OR um.child_id IS NULL)
+                  ORDER BY (um.child_id IS NULL), um.created_at DESC
+                  LIMIT 1),
+                ?, ?, ?, ?, ?, ?, ?, ?, now()
+            )
+            ON CONFLICT (child_id, mission_id, stat_date) DO UPDATE SET
+                target_emotion = COALESCE(unity_game_daily_stats.target_emotion, EXCLUDED.target_emotion),
+                attempt_count = unity_game_daily_stats.attempt_count + EXCLUDED.attempt_count,
+                success_count = unity_game_daily_stats.success_count + EXCLUDED.success_count,
+                score_sum = unity_game_daily_stats.score_sum + EXCLUDED.score_sum,
+                max_score = GREATEST(unity_game_daily_stats.max_score, EXCLUDED.max_score),
+                duration_seconds_sum = unity_game_daily_stats.duration_seconds_sum + EXCLUDED.duration_seconds_sum,
+                retry_sum = unity_game_daily_stats.retry_sum + EXCLUDED.retry_sum,
+                last_played_at = GREATEST(unity_game_daily_stats.last_played_at, EXCLUDED.last_played_at),
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UnityGameDailyStatRepository dailyStatRepository;
+    private final ChildAuthorizationService childAuthorizationService;
+
+    /**
+     * 저장된 게임 결과를 일별 집계에 반영합니다.
+     * 호출자의 트랜잭션 안에서 실행되어 결과 INSERT와 함께 커밋/롤백됩니다.
+     * 같은 키는 메모리에서 먼저 합치고, 키 순서로 UPSERT해 동시 갱신 시 교착을 피합니다.
+     */
+    @Transactional
+    public void recordResults(List<UnityGameResultWriteQueue.PendingGameResult> results) {
+        if (results == null || results.isEmpty()) {
+            return;
+        }
+
+        List<DailyDelta> deltas = aggregate(results);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setObject(1, delta.key().childId());
+            ps.setInt(2, delta.key().missionId());
+            ps.setInt(3, delta.key().missionId());
+            ps.setObject(4, delta.key().childId());
+            ps.setDate(5, Date.valueOf(delta.key().statDate()));
+            ps.setInt(6, delta.attemptCount());
+            ps.setInt(7, delta.successCount());
+            ps.setLong(8, delta.scoreSum());
+            ps.setInt(9, delta.maxScore());
+            ps.setDouble(10, delta.durationSecondsSum());
+            ps.setLong(11, delta.retrySum());
+            ps.setTimestamp(12, Timestamp.valueOf(delta.lastPlayedAt()));
+        });
+        log.debug("Unity 게임 일별 집계 반영 - results: {}, rows: {}", results.size(), deltas.size());
+    }
+
+    /**
+     * 아동의 기간별 게임 통계 조회 (VIEW_REPORT 권한 필요)
+     *
+     * @param from 시작일 (null이면 to 기준 최근 30일)
+     * @param to   종료일 (null이면 오늘)
+     */
+    public UnityGameStatsResponseDTO getChildStats(UUID childId, UUID userId, LocalDate from, LocalDate to) {
+        if (!childAuthorizationService.hasPermission(childId, userId, ChildPermissionType.VIEW_REPORT)) {
+            throw new AccessDeniedException("게임 통계 조회 권한이 없습니다.");
+        }
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1L);
+        if (start.isAfter(end)) {
+            throw new InvalidRequestException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        List<UnityGameDailyStat> rows = dailyStatRepository
+                .findByChildIdAndStatDateBetweenOrderByStatDateAsc(childId, start, end);
+        return summarize(childId, start, end, rows);
+    }
+
+    // ── private ───────────────────────────────────────────────────────────
+
+    private List<DailyDelta> aggregate(List<UnityGameResultWriteQueue.PendingGameResult> results) {
+        Map<StatKey, DailyDelta> byKey = new TreeMap<>(StatKey.ORDER);
+        for (UnityGameResultWriteQueue.PendingGameResult result : results) {
+            StatKey key = new StatKey(result.childId(), result.missionId(), result.createdAt().toLocalDate());
+            DailyDelta single = DailyDelta.of(key, result);
+            byKey.merge(key, single, DailyDelta::plus);
+        }
+        return new ArrayList<>(byKey.values());
+    }
+
+    private UnityGameStatsResponseDTO summarize(
+            UUID childId, LocalDate from, LocalDate to, List<UnityGameDailyStat> rows
+    ) {
+        long attempts = 0;
+        long successes = 0;
+        long scoreSum = 0;
+        long retrySum = 0;
+        LocalDateTime lastPlayedAt = null;
+
+        Map<LocalDate, Totals> daily = new TreeMap<>();
+        Map<String, Totals> byEmotion = new LinkedHashMap<>();
+        Map<Integer, MissionTotals> byMission = new TreeMap<>();
+
+        for (UnityGameDailyStat row : rows) {
+            attempts += row.getAttemptCount();
+            successes += row.getSuccessCount();
+            scoreSum += row.getScoreSum();
+            retrySum += row.getRetrySum();
+            if (lastPlayedAt == null || row.getLastPlayedAt().isAfter(lastPlayedAt)) {
+                lastPlayedAt = row.getLastPlayedAt();
+            }
+
+            daily.computeIfAbsent(row.getStatDate(), date -> new Totals()).add(row);
+            String emotion = row.getTargetEmotion() != null ? row.getTargetEmotion() : UNKNOWN_EMOTION;
+            byEmotion.computeIfAbsent(emotion, e -> new Totals()).add(row);
+            byMission.computeIfAbsent(row.getMissionId(), id -> new MissionTotals()).add(row);
+        }
+
+        List<LocalDate> successDays = daily.entrySet().stream()
+                .filter(entry -> entry.getValue().successes > 0)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        return UnityGameStatsResponseDTO.builder()
+                .childId(childId)
+                .from(from)
+                .to(to)
+                .totalAttempts(attempts)
+                .totalSuccesses(successes)
+                .successRate(ratio(successes, attempts))
+                .averageScore(ratio(scoreSum, attempts))
+                .averageRetries(ratio(retrySum, attempts))
+                .totalRetries(retrySum)
+                .activeDays(daily.size())
+                .currentStreakDays(currentStreak(successDays, to))
+                .longestStreakDays(longestStreak(successDays))
+                .lastPlayedAt(lastPlayedAt)
+                .daily(daily.entrySet().stream()
+                        .map(entry -> UnityGameStatsResponseDTO.DailyItem.builder()
+                                .date(entry.getKey())
+                                .attempts(entry.getValue().attempts)
+                                .successes(entry.getValue().successes)
+                                .averageScore(ratio(entry.getValue().scoreSum, entry.getValue().attempts))
+                                .totalDurationSeconds(entry.getValue().durationSecondsSum)
+                                .build())
+                        .toList())
+                .byEmotion(byEmotion.entrySet().stream()
+                        .sorted(Map.Entry.<String, Totals>comparingByValue(
+                                Comparator.comparingLong(totals -> totals.attempts)).reversed())
+                        .map(entry -> UnityGameStatsResponseDTO.EmotionItem.builder()
+                                .targetEmotion(entry.getKey())
+                                .attempts(entry.getValue().attempts)
+                                .successes(entry.getValue().successes)
+                                .successRate(ratio(entry.getValue().successes, entry.getValue().attempts))
+                                .averageScore(ratio(entry.getValue().scoreSum, entry.getValue().attempts))
+                                .averageRetries(ratio(entry.getValue().retrySum, entry.getValue().attempts))
+                                .totalRetries(entry.getValue().retrySum)
+                                .build())
+                        .toList())
+                .byMission(byMission.entrySet().stream()
+                        .map(entry -> UnityGameStatsResponseDTO.MissionItem.builder()
+                                .missionId(entry.getKey())
+                                .targetEmotion(entry.getValue().targetEmotion)
+                                .attempts(entry.getValue().attempts)
+                                .successes(entry.getValue().successes)
+                                .successRate(ratio(entry.getValue().successes, entry.getValue().attempts))
+                                .maxScore(entry.getValue().maxScore)
+                                .averageRetries(ratio(entry.getValue().retrySum, entry.getValue().attempts))
+                                .totalRetries(entry.getValue().retrySum)
+                                .lastPlayedAt(entry.getValue().lastPlayedAt)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 종료일(또는 그 전날)부터 거슬러 올라가며 성공한 날이 연속된 일수
+     */
+    private int currentStreak(List<LocalDate> successDays, LocalDate to) {
+        if (successDays.isEmpty()) {
+            return 0;
+        }
+        int index = successDays.size() - 1;
+        LocalDate expected = successDays.get(index);
+        if (expected.isBefore(to.minusDays(1))) {
+            return 0;
+        }
+        int streak = 0;
+        while (index >= 0 && successDays.get(index).equals(expected)) {
+            streak++;
+            expected = expected.minusDays(1);
+            index--;
+        }
+        return streak;
+    }
+
+    private int longestStreak(List<LocalDate> successDays) {
+        int longest = 0;
+        int streak = 0;
+        LocalDate previous = null;
+        for (LocalDate day : successDays) {
+            streak = previous != null && previous.plusDays(1).equals(day) ? streak + 1 : 1;
+            longest = Math.max(longest, streak);
+            previous = day;
+        }
+        return longest;
+    }
+
+    private double ratio(double numerator, long denominator) {
+        return denominator == 0 ? 0.0 : numerator / denominator;
+    }
+
+    private record StatKey(UUID childId, Integer missionId, LocalDate statDate) {
+
+        static final Comparator<StatKey> ORDER = Comparator.comparing(StatKey::childId)
+                .thenComparing(StatKey::missionId)
+                .thenComparing(StatKey::statDate);
+    }
+
+    private record DailyDelta(
+            StatKey key,
+            int attemptCount,
+            int successCount,
+            long scoreSum,
+            int maxScore,
+            double durationSecondsSum,
+            long retrySum,
+            LocalDateTime lastPlayedAt
+    ) {
+
+        static DailyDelta of(StatKey key, UnityGameResultWriteQueue.PendingGameResult result) {
+            return new DailyDelta(
+                    key,
+                    1,
+                    Boolean.TRUE.equals(result.success()) ? 1 : 0,
+                    result.score(),
+                    result.score(),
+                    result.durationSeconds(),
+                    result.retryCount(),
+                    result.createdAt()
+            );
+        }
+
+        DailyDelta plus(DailyDelta other) {
+            return new DailyDelta(
+                    key,
+                    attemptCount + other.attemptCount,
+                    successCount + other.successCount,
+                    scoreSum + other.scoreSum,
+                    Math.max(maxScore, other.maxScore),
+                    durationSecondsSum + other.durationSecondsSum,
+                    retrySum + other.retrySum,
+                    lastPlayedAt.isAfter(other.lastPlayedAt) ? lastPlayedAt : other.lastPlayedAt
+            );
+        }
+    }
+
+    private static class Totals {
+        long attempts;
+        long successes;
+        long scoreSum;
+        double durationSecondsSum;
+        long retrySum;
+
+        void add(UnityGameDailyStat row) {
+            attempts += row.getAttemptCount();
+            successes += row.getSuccessCount();
+            scoreSum += row.getScoreSum();
+            durationSecondsSum += row.getDurationSecondsSum();
+            retrySum += row.getRetrySum();
+        }
+    }
+
+    private static class MissionTotals extends Totals {
+        String targetEmotion;
+        int maxScore;
+        LocalDateTime lastPlayedAt;
+
+        @Override
+        void add(UnityGameDailyStat row) {
+            super.add(row);
+            if (row.getTargetEmotion() != null) {
+                targetEmotion = row.getTargetEmotion();
+            }
+            maxScore = Math.max(maxScore, row.getMaxScore());
+            if (lastPlayedAt == null || row.getLastPlayedAt().isAfter(lastPlayedAt)) {
+                lastPlayedAt = row.getLastPlayedAt();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.util.TransactionalEviction;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Unity 미션 카탈로그(외부 미션 ID별 최신 미션) 응답 캐시
+ *
+ * 미션 임포트/승인/거절 커밋 시 버전을 올리고, 조회 시 캐시된 스냅샷의 버전이 다르면 다시 적재합니다.
+ * 버전은 노드 로컬 값이므로 다른 노드의 변경은 TTL 이후 반영됩니다.
+ */
+@Component
+public class UnityMissionCatalogCache {
+
+    private record Snapshot(long version, long loadedAtNanos, List<UnityMissionResponseDTO> missions) {
+    }
+
+    private final AtomicLong version = new AtomicLong();
+    private final long ttlNanos;
+    private volatile Snapshot snapshot;
+
+    public UnityMissionCatalogCache(
+            @Value("${unity.mission.catalog-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+    }
+
+    /**
+     * 현재 버전의 카탈로그 반환 (없거나 오래된 경우 loader로 한 번만 적재)
+     */
+    public List<UnityMissionResponseDTO> get(Supplier<List<UnityMissionResponseDTO>> loader) {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current.missions();
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current.missions();
+            }
+            long loadingVersion = version.get();
+            List<UnityMissionResponseDTO> missions = List.copyOf(loader.get());
+            snapshot = new Snapshot(loadingVersion, System.nanoTime(), missions);
+            return missions;
+        }
+    }
+
+    /**
+     * 현재 카탈로그 버전
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * 버전 증가 (트랜잭션 중이면 즉시 + 커밋 후 한 번 더)
+     */
+    public void invalidate() {
+        TransactionalEviction.evictNowAndAfterCommit(version::incrementAndGet);
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null
+                && current.version() == version.get()
+                && System.nanoTime() - current.loadedAtNanos() < ttlNanos;
+    }
+}
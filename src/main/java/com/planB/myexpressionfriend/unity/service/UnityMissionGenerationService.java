@@ -2,12 +2,17 @@ package com.planB.myexpressionfriend.unity.service;
 
 import com.planB.myexpressionfriend.common.service.ReportLlmClient;
 import com.planB.myexpressionfriend.common.exception.InvalidRequestException;
+import com.planB.myexpressionfriend.common.exception.ServiceBusyException;
 import com.planB.myexpressionfriend.unity.dto.UnityMissionGenerationType;
 import com.planB.myexpressionfriend.unity.dto.UnityMissionImportRequestDTO;
 import com.planB.myexpressionfriend.unity.dto.UnityMissionImportResultDTO;
-import lombok.RequiredArgsConstructor;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionItemDTO;
+import com.planB.myexpressionfriend.unity.dto.prompt.UnityMissionChildPromptContextDTO;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -15,12 +20,24 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * LLM Unity 미션 생성 서비스
+ *
+ * 일괄 생성의 LLM 호출은 모든 요청이 함께 쓰는 크기 고정 풀에서 실행합니다.
+ * 대기열이 가득 차면 기다리지 않고 503(SERVICE_BUSY)으로 거절하고,
+ * 요청 스레드는 bulk-timeout-ms까지만 결과를 기다립니다.
  */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class UnityMissionGenerationService {
@@ -29,6 +46,40 @@ public class UnityMissionGenerationService {
     private final UnityMissionLlmParsingService unityMissionLlmParsingService;
     private final UnityMissionService unityMissionService;
     private final UnityMissionPromptBuilderService unityMissionPromptBuilderService;
+    private final ThreadPoolExecutor generationExecutor;
+    private final long bulkTimeoutMillis;
+
+    public UnityMissionGenerationService(
+            ReportLlmClient reportLlmClient,
+            UnityMissionLlmParsingService unityMissionLlmParsingService,
+            UnityMissionService unityMissionService,
+            UnityMissionPromptBuilderService unityMissionPromptBuilderService,
+            @Value("${unity.mission.generation.parallelism:5}") int parallelism,
+            @Value("${unity.mission.generation.queue-capacity:20}") int queueCapacity,
+            @Value("${unity.mission.generation.bulk-timeout-ms:180000}") long bulkTimeoutMillis
+    ) {
+        this.reportLlmClient = reportLlmClient;
+        this.unityMissionLlmParsingService = unityMissionLlmParsingService;
+        this.unityMissionService = unityMissionService;
+        this.unityMissionPromptBuilderService = unityMissionPromptBuilderService;
+        this.bulkTimeoutMillis = bulkTimeoutMillis;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.generationExecutor = new ThreadPoolExecutor(
+                parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mission-llm-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.generationExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        generationExecutor.shutdownNow();
+    }
 
     /**
      * 프롬프트로 Unity 미션을 생성하고 저장합니다.
@@ -103,9 +154,10 @@ public class UnityMissionGenerationService {
 
     /**
      * Expression/Situation 개수를 지정해 아동 맞춤 미션을 일괄 생성하고 저장합니다.
-     * 각 미션은 독립 트랜잭션으로 저장되므로 중간에 실패해도 이전 결과는 유지됩니다.
+     * 아동 컨텍스트는 한 번만 조회하고, LLM 호출은 DB 연결 없이 병렬로 수행한 뒤
+     * 검증된 결과를 하나의 짧은 트랜잭션으로 저장합니다. 하나라도 실패하면 아무것도 저장하지 않습니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UnityMissionImportResultDTO generateBulkMissionsForChild(
             UUID childId,
             UUID userId,
@@ -114,25 +166,39 @@ public class UnityMissionGenerationService {
             int maxTokens,
             String modelName
     ) {
-        List<Long> allSavedIds = new ArrayList<>();
-        int missionIdCounter = 1;
+        UnityMissionChildPromptContextDTO childContext =
+                unityMissionPromptBuilderService.buildChildContext(childId, userId);
 
+        List<Callable<UnityMissionImportRequestDTO>> tasks = new ArrayList<>(expressionCount + situationCount);
+        int missionIdCounter = 1;
         for (int i = 0; i < expressionCount; i++) {
-            UnityMissionImportResultDTO result = generateAndSaveMissionsForChild(
-                    childId, userId, UnityMissionGenerationType.EXPRESSION, missionIdCounter++, maxTokens, modelName);
-            allSavedIds.addAll(result.getSavedIds());
+            int missionIdStart = missionIdCounter++;
+            tasks.add(() -> generateMissionRequest(
+                    childContext, UnityMissionGenerationType.EXPRESSION, missionIdStart, maxTokens, modelName));
         }
-
         for (int i = 0; i < situationCount; i++) {
-            UnityMissionImportResultDTO result = generateAndSaveMissionsForChild(
-                    childId, userId, UnityMissionGenerationType.SITUATION, missionIdCounter++, maxTokens, modelName);
-            allSavedIds.addAll(result.getSavedIds());
+            int missionIdStart = missionIdCounter++;
+            tasks.add(() -> generateMissionRequest(
+                    childContext, UnityMissionGenerationType.SITUATION, missionIdStart, maxTokens, modelName));
         }
 
+        List<UnityMissionItemDTO> missions = new ArrayList<>();
+        for (UnityMissionImportRequestDTO requestDTO : runAll(tasks)) {
+            missions.addAll(requestDTO.getMissions());
+        }
+
+        List<Long> savedIds = missions.isEmpty()
+                ? List.of()
+                : unityMissionService.importMissionsForChild(
+                        UnityMissionImportRequestDTO.builder().missions(missions).build(),
+                        childId,
+                        LocalDate.now()
+                ).getSavedIds();
+
         return UnityMissionImportResultDTO.builder()
                 .requestedCount(expressionCount + situationCount)
-                .savedCount(allSavedIds.size())
-                .savedIds(allSavedIds)
+                .savedCount(savedIds.size())
+                .savedIds(savedIds)
                 .build();
     }
 
@@ -159,7 +225,56 @@ public class UnityMissionGenerationService {
     }
 
     /**
-     * LLM 응답을 파싱하고 실패 로그를 남깁니다.
+     * 미리 만든 아동 컨텍스트로 미션 DTO를 생성합니다. (DB 조회 없음)
+     */
+    private UnityMissionImportRequestDTO generateMissionRequest(
+            UnityMissionChildPromptContextDTO childContext,
+            UnityMissionGenerationType generationType,
+            int missionIdStart,
+            int maxTokens,
+            String modelName
+    ) {
+        String prompt = unityMissionPromptBuilderService.buildPrompt(childContext, missionIdStart, generationType);
+        return generateMissionRequest(
+                prompt, generationType, childContext.getAllowedTargetEmotions(), maxTokens, modelName);
+    }
+
+    /**
+     * 작업을 병렬 실행하고 요청 순서대로 결과를 반환합니다. 첫 실패 시 나머지를 취소하고 예외를 전달합니다.
+     * 대기열이 가득 차거나 bulk-timeout-ms 안에 끝나지 않으면 제출한 작업을 모두 취소하고 503으로 거절합니다.
+     */
+    private List<UnityMissionImportRequestDTO> runAll(List<Callable<UnityMissionImportRequestDTO>> tasks) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(bulkTimeoutMillis);
+        List<Future<UnityMissionImportRequestDTO>> futures = new ArrayList<>(tasks.size());
+        List<UnityMissionImportRequestDTO> results = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<UnityMissionImportRequestDTO> task : tasks) {
+                futures.add(generationExecutor.submit(task));
+            }
+            for (Future<UnityMissionImportRequestDTO> future : futures) {
+                results.add(future.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("미션 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (TimeoutException e) {
+            log.warn("Unity mission bulk generation timed out. tasks={}, timeoutMs={}", tasks.size(), bulkTimeoutMillis);
+            throw new ServiceBusyException("미션 생성이 제한 시간 안에 끝나지 않았습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Unity 미션 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Unity 미션 생성에 실패했습니다.", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * LLM 응답을 파싱하고 실패 로그를 남깁니다. 파싱에 실패한 응답은 캐시에서 제거합니다.
      */
     private UnityMissionImportRequestDTO parseMissionResponse(
             String rawResponse,
@@ -181,6 +296,7 @@ public class UnityMissionGenerationService {
                     rawResponse != null ? rawResponse.length() : 0,
                     abbreviate(rawResponse)
             );
+            reportLlmClient.evictCachedResponse(prompt, maxTokens, modelName);
             throw e;
         }
     }
@@ -0,0 +1,90 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.service.ResilientReportLlmClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 미션 사전 생성 스케줄러
+ *
+ * 새벽(비피크) 시간에 다음날 미션을 생성하고, 주기적으로 미완료 체크포인트를 이어서 처리합니다.
+ * 생성 작업은 전용 작업 스레드에 제출만 하고 바로 반환하므로 공용 스케줄러 스레드를 점유하지 않으며,
+ * 제출한 작업이 모두 끝날 때까지 다음 실행은 건너뜁니다.
+ *
+ * 다음날 체크포인트 생성은 이전 실행 중이거나 LLM 서킷이 열려 있어도 항상 수행합니다.
+ * 처리만 건너뛰어도 만들어 둔 체크포인트는 이후 resumePending 주기에 이어서 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnityMissionPregenerationScheduler {
+
+    private final UnityMissionPregenerationService pregenerationService;
+    private final ResilientReportLlmClient resilientReportLlmClient;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${unity.mission.pregeneration.enabled:false}")
+    private boolean enabled;
+
+    @Scheduled(cron = "${unity.mission.pregeneration.cron:0 0 2 * * *}")
+    public void pregenerateNextDay() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate missionDate = LocalDate.now().plusDays(1);
+        try {
+            pregenerationService.seedForDate(missionDate);
+        } catch (Exception e) {
+            log.warn("Mission pregeneration seeding failed. missionDate={}, reason={}", missionDate, e.getMessage());
+        }
+        runExclusively(() -> pregenerationService.processFromDate(missionDate).thenAccept(processed ->
+                log.info("Mission pregeneration finished. missionDate={}, processed={}", missionDate, processed)));
+    }
+
+    @Scheduled(
+            fixedDelayString = "${unity.mission.pregeneration.resume-interval-ms:900000}",
+            initialDelayString = "${unity.mission.pregeneration.resume-initial-delay-ms:60000}"
+    )
+    public void resumePending() {
+        runExclusively(() -> pregenerationService.resumePending().thenAccept(processed -> {
+            if (processed > 0) {
+                log.info("Mission pregeneration resumed. processed={}", processed);
+            }
+        }));
+    }
+
+    /**
+     * 이전 실행의 작업이 모두 끝난 경우에만 새 실행을 시작하고, 작업 완료 시 실행 표시를 해제합니다.
+     */
+    private void runExclusively(Supplier<CompletableFuture<?>> task) {
+        if (!enabled) {
+            return;
+        }
+        if (resilientReportLlmClient.isCircuitOpen()) {
+            log.info("Mission pregeneration tick skipped. LLM circuit is open.");
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            task.get().whenComplete((ignored, e) -> {
+                if (e != null) {
+                    log.warn("Mission pregeneration run failed. reason={}", e.getMessage());
+                }
+                running.set(false);
+            });
+        } catch (Exception e) {
+            log.warn("Mission pregeneration tick failed. reason={}", e.getMessage());
+            running.set(false);
+        }
+    }
+}
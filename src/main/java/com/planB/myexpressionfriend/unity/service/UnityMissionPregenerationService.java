@@ -0,0 +1,350 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.domain.child.Child;
+import com.planB.myexpressionfriend.common.exception.InvalidRequestException;
+import com.planB.myexpressionfriend.common.exception.LlmQuotaExceededException;
+import com.planB.myexpressionfriend.common.repository.ChildRepository;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import com.planB.myexpressionfriend.common.service.ReportLlmClient;
+import com.planB.myexpressionfriend.common.service.ResilientReportLlmClient;
+import com.planB.myexpressionfriend.unity.domain.UnityMissionPregenerationCheckpoint;
+import com.planB.myexpressionfriend.unity.domain.UnityMissionPregenerationStatus;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionGenerationType;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionImportRequestDTO;
+import com.planB.myexpressionfriend.unity.dto.prompt.UnityMissionChildPromptContextDTO;
+import com.planB.myexpressionfriend.unity.repository.UnityMissionPregenerationCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다음날 Unity 미션 사전 생성 파이프라인
+ *
+ * 활성 아동마다 체크포인트를 만들고, 제한된 수의 작업 스레드가 아동 단위로 미션을 생성합니다.
+ * LLM 호출은 트랜잭션 밖에서 수행하고, 파싱/검증을 통과한 미션만 짧은 트랜잭션으로
+ * 저장(PENDING)하면서 체크포인트를 함께 전진시킵니다. 치료사는 아침에 승인만 하면 됩니다.
+ *
+ * LLM 쿼터/서킷 거절(LlmQuotaExceededException)은 실패 시도로 세지 않습니다.
+ * 짧은 대기로 풀리는 거절은 기다렸다가 다시 호출하고, 서킷이 열렸거나 대기가 길면 체크포인트를 반납한 뒤
+ * 안내된 시간 동안 남은 아동 처리를 멈춥니다. 반납된 항목은 다음 재개 주기에 이어서 처리됩니다.
+ */
+@Service
+@Slf4j
+public class UnityMissionPregenerationService {
+
+    private static final int ERROR_MESSAGE_LIMIT = 500;
+    private static final int MAX_QUOTA_WAITS = 5;
+    private static final int MAX_QUOTA_WAIT_SECONDS = 30;
+
+    private final UnityMissionPregenerationCheckpointRepository checkpointRepository;
+    private final ChildRepository childRepository;
+    private final UnityMissionPromptBuilderService promptBuilderService;
+    private final UnityMissionLlmParsingService parsingService;
+    private final UnityMissionService unityMissionService;
+    private final ReportLlmClient reportLlmClient;
+    private final ResilientReportLlmClient resilientReportLlmClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    private final int expressionCount;
+    private final int situationCount;
+    private final int maxAttempts;
+    private final int stepRetries;
+    private final Duration lease;
+    private final int maxTokens;
+    private final String modelName;
+
+    private final AtomicLong generatedMissionCount = new AtomicLong();
+    private final AtomicLong completedChildCount = new AtomicLong();
+    private final AtomicLong failedChildCount = new AtomicLong();
+    private final AtomicLong deferredChildCount = new AtomicLong();
+    private final AtomicLong pausedUntilMillis = new AtomicLong();
+
+    public UnityMissionPregenerationService(
+            UnityMissionPregenerationCheckpointRepository checkpointRepository,
+            ChildRepository childRepository,
+            UnityMissionPromptBuilderService promptBuilderService,
+            UnityMissionLlmParsingService parsingService,
+            UnityMissionService unityMissionService,
+            ReportLlmClient reportLlmClient,
+            ResilientReportLlmClient resilientReportLlmClient,
+            PlatformTransactionManager transactionManager,
+            OpsMetricService opsMetricService,
+            @Value("${unity.mission.pregeneration.concurrency:2}") int concurrency,
+            @Value("${unity.mission.pregeneration.expression-count:2}") int expressionCount,
+            @Value("${unity.mission.pregeneration.situation-count:3}") int situationCount,
+            @Value("${unity.mission.pregeneration.max-attempts:3}") int maxAttempts,
+            @Value("${unity.mission.pregeneration.step-retries:2}") int stepRetries,
+            @Value("${unity.mission.pregeneration.lease-seconds:900}") long leaseSeconds,
+            @Value("${unity.mission.pregeneration.max-tokens:4000}") int maxTokens,
+            @Value("${unity.mission.pregeneration.model-name:default}") String modelName
+    ) {
+        this.checkpointRepository = checkpointRepository;
+        this.childRepository = childRepository;
+        this.promptBuilderService = promptBuilderService;
+        this.parsingService = parsingService;
+        this.unityMissionService = unityMissionService;
+        this.reportLlmClient = reportLlmClient;
+        this.resilientReportLlmClient = resilientReportLlmClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expressionCount = expressionCount;
+        this.situationCount = situationCount;
+        this.maxAttempts = maxAttempts;
+        this.stepRetries = stepRetries;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxTokens = maxTokens;
+        this.modelName = modelName;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mission-pregen-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        opsMetricService.registerGauge("unityMissionPregenerationActiveCount", executor::getActiveCount);
+        opsMetricService.registerGauge("unityMissionPregenerationQueueDepth", () -> executor.getQueue().size());
+        opsMetricService.registerGauge("unityMissionPregenerationGeneratedCount", generatedMissionCount::get);
+        opsMetricService.registerGauge("unityMissionPregenerationCompletedChildCount", completedChildCount::get);
+        opsMetricService.registerGauge("unityMissionPregenerationFailedChildCount", failedChildCount::get);
+        opsMetricService.registerGauge("unityMissionPregenerationDeferredChildCount", deferredChildCount::get);
+    }
+
+    /**
+     * 대상 날짜의 체크포인트를 활성 아동마다 만듭니다. (이미 있으면 건너뛰므로 반복 호출해도 안전)
+     *
+     * @return 새로 만든 체크포인트 수
+     */
+    public int seedForDate(LocalDate missionDate) {
+        int seeded = transactionTemplate.execute(status -> checkpointRepository.seedForActiveChildren(
+                missionDate, expressionCount, situationCount, LocalDateTime.now()));
+        log.info("미션 사전 생성 체크포인트 준비 - missionDate: {}, new: {}", missionDate, seeded);
+        return seeded;
+    }
+
+    /**
+     * 대상 날짜 이후의 처리 가능한 체크포인트를 작업 스레드에 제출합니다.
+     * 호출 스레드는 기다리지 않으며, 반환된 future는 제출한 작업이 모두 끝나면 완료됩니다.
+     *
+     * @return 이번 실행에서 처리를 시도한 아동 수 (모든 작업 종료 시 완료)
+     */
+    public CompletableFuture<Integer> processFromDate(LocalDate missionDate) {
+        return processClaimable(missionDate);
+    }
+
+    /**
+     * 오늘 이후 날짜의 미완료 체크포인트 재개 (재시작/실패 후 이어서 생성)
+     */
+    public CompletableFuture<Integer> resumePending() {
+        return processClaimable(LocalDate.now());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Integer> processClaimable(LocalDate fromDate) {
+        List<Long> checkpointIds = checkpointRepository.findClaimableIds(fromDate, maxAttempts, LocalDateTime.now());
+        if (checkpointIds.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[checkpointIds.size()];
+        for (int i = 0; i < checkpointIds.size(); i++) {
+            Long checkpointId = checkpointIds.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> processCheckpoint(checkpointId), executor)
+                    .exceptionally(e -> {
+                        log.error("미션 사전 생성 작업 오류", e);
+                        return null;
+                    });
+        }
+        return CompletableFuture.allOf(futures).thenApply(ignored -> checkpointIds.size());
+    }
+
+    void processCheckpoint(Long checkpointId) {
+        if (isLlmUnavailable()) {
+            return;
+        }
+        Integer claimed = transactionTemplate.execute(status -> checkpointRepository.claim(
+                checkpointId, maxAttempts, leaseExpiresAt(), LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        UnityMissionPregenerationCheckpoint checkpoint = checkpointRepository.findById(checkpointId).orElseThrow();
+        UUID childId = checkpoint.getChildId();
+        try {
+            Optional<UUID> generatorUserId = resolvePrimaryParentId(childId);
+            if (generatorUserId.isEmpty()) {
+                finish(checkpointId, UnityMissionPregenerationStatus.SKIPPED, "활성 주보호자가 없는 아동입니다.");
+                return;
+            }
+
+            UnityMissionChildPromptContextDTO childContext =
+                    promptBuilderService.buildChildContext(childId, generatorUserId.get());
+            for (int index = checkpoint.getExpressionDone(); index < checkpoint.getExpressionTarget(); index++) {
+                generateStep(checkpoint, childContext, UnityMissionGenerationType.EXPRESSION, index + 1);
+            }
+            for (int index = checkpoint.getSituationDone(); index < checkpoint.getSituationTarget(); index++) {
+                generateStep(checkpoint, childContext, UnityMissionGenerationType.SITUATION,
+                        checkpoint.getExpressionTarget() + index + 1);
+            }
+
+            finish(checkpointId, UnityMissionPregenerationStatus.COMPLETED, null);
+            completedChildCount.incrementAndGet();
+            log.info("미션 사전 생성 완료 - childId: {}, missionDate: {}", childId, checkpoint.getMissionDate());
+        } catch (LlmQuotaExceededException e) {
+            release(checkpointId, abbreviate(e.getMessage()));
+            pause(e.getRetryAfterSeconds());
+            deferredChildCount.incrementAndGet();
+            log.info("미션 사전 생성 보류 - childId: {}, missionDate: {}, retryAfterSeconds: {}",
+                    childId, checkpoint.getMissionDate(), e.getRetryAfterSeconds());
+        } catch (Exception e) {
+            finish(checkpointId, UnityMissionPregenerationStatus.FAILED, abbreviate(e.getMessage()));
+            failedChildCount.incrementAndGet();
+            log.warn("미션 사전 생성 실패 - childId: {}, missionDate: {}, reason: {}",
+                    childId, checkpoint.getMissionDate(), e.getMessage());
+        }
+    }
+
+    /**
+     * 미션 한 건 생성: LLM 호출/검증은 트랜잭션 밖에서, 저장과 체크포인트 전진은 한 트랜잭션으로
+     */
+    private void generateStep(
+            UnityMissionPregenerationCheckpoint checkpoint,
+            UnityMissionChildPromptContextDTO childContext,
+            UnityMissionGenerationType generationType,
+            int missionIdStart
+    ) {
+        UnityMissionImportRequestDTO requestDTO = generateWithRetries(
+                checkpoint.getChildId(), childContext, generationType, missionIdStart);
+
+        boolean expression = generationType == UnityMissionGenerationType.EXPRESSION;
+        transactionTemplate.executeWithoutResult(status -> {
+            unityMissionService.importMissionsForChild(requestDTO, checkpoint.getChildId(), checkpoint.getMissionDate());
+            checkpointRepository.advance(
+                    checkpoint.getCheckpointId(),
+                    expression ? 1 : 0,
+                    expression ? 0 : 1,
+                    leaseExpiresAt(),
+                    LocalDateTime.now()
+            );
+        });
+        generatedMissionCount.addAndGet(requestDTO.getMissions().size());
+    }
+
+    private UnityMissionImportRequestDTO generateWithRetries(
+            UUID childId,
+            UnityMissionChildPromptContextDTO childContext,
+            UnityMissionGenerationType generationType,
+            int missionIdStart
+    ) {
+        RuntimeException lastFailure = null;
+        int attempt = 0;
+        int quotaWaits = 0;
+        while (attempt < Math.max(1, stepRetries)) {
+            String prompt = null;
+            try {
+                prompt = promptBuilderService.buildPrompt(childContext, missionIdStart, generationType);
+                String rawResponse = reportLlmClient.generateReport(prompt, maxTokens, modelName);
+                UnityMissionImportRequestDTO requestDTO = parsingService.parseMissionBatch(
+                        rawResponse, generationType, childContext.getAllowedTargetEmotions());
+                if (requestDTO.getMissions() == null || requestDTO.getMissions().isEmpty()) {
+                    throw new InvalidRequestException("생성된 미션이 없습니다.");
+                }
+                return requestDTO;
+            } catch (LlmQuotaExceededException e) {
+                // 쿼터 거절은 시도 횟수에 넣지 않고, 짧은 대기로 풀리는 경우에만 기다렸다가 다시 호출
+                if (resilientReportLlmClient.isCircuitOpen()
+                        || ++quotaWaits > MAX_QUOTA_WAITS
+                        || !waitForQuota(e.getRetryAfterSeconds())) {
+                    throw e;
+                }
+            } catch (InvalidRequestException e) {
+                attempt++;
+                // 같은 프롬프트로 재시도할 때 캐시된 불량 응답을 다시 받지 않도록 제거
+                reportLlmClient.evictCachedResponse(prompt, maxTokens, modelName);
+                lastFailure = e;
+                log.debug("미션 생성 재시도 - childId: {}, type: {}, attempt: {}, reason: {}",
+                        childId, generationType, attempt, e.getMessage());
+            } catch (RuntimeException e) {
+                attempt++;
+                lastFailure = e;
+                log.debug("미션 생성 재시도 - childId: {}, type: {}, attempt: {}, reason: {}",
+                        childId, generationType, attempt, e.getMessage());
+            }
+        }
+        throw lastFailure;
+    }
+
+    private boolean isLlmUnavailable() {
+        return resilientReportLlmClient.isCircuitOpen() || System.currentTimeMillis() < pausedUntilMillis.get();
+    }
+
+    private void pause(Integer retryAfterSeconds) {
+        long seconds = retryAfterSeconds == null ? 1 : Math.max(1, retryAfterSeconds);
+        long until = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(seconds);
+        pausedUntilMillis.accumulateAndGet(until, Math::max);
+    }
+
+    private boolean waitForQuota(Integer retryAfterSeconds) {
+        long seconds = retryAfterSeconds == null ? 1 : Math.max(0, retryAfterSeconds);
+        if (seconds > MAX_QUOTA_WAIT_SECONDS) {
+            return false;
+        }
+        try {
+            TimeUnit.SECONDS.sleep(seconds);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Optional<UUID> resolvePrimaryParentId(UUID childId) {
+        return transactionTemplate.execute(status -> childRepository.findByIdWithAuthorizedUsers(childId)
+                .flatMap(Child::getPrimaryParentId));
+    }
+
+    private void finish(Long checkpointId, UnityMissionPregenerationStatus status, String lastError) {
+        transactionTemplate.executeWithoutResult(tx -> checkpointRepository.finish(
+                checkpointId, status.name(), lastError, LocalDateTime.now()));
+    }
+
+    private void release(Long checkpointId, String lastError) {
+        transactionTemplate.executeWithoutResult(tx -> checkpointRepository.release(
+                checkpointId, lastError, LocalDateTime.now()));
+    }
+
+    private LocalDateTime leaseExpiresAt() {
+        return LocalDateTime.now().plus(lease);
+    }
+
+    private String abbreviate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= ERROR_MESSAGE_LIMIT ? message : message.substring(0, ERROR_MESSAGE_LIMIT) + "...";
+    }
+}
@@ -7,10 +7,12 @@ import com.planB.myexpressionfriend.common.repository.ChildNoteRepository;
 import com.planB.myexpressionfriend.common.service.ChildService;
 import com.planB.myexpressionfriend.unity.domain.UnityGameResult;
 import com.planB.myexpressionfriend.unity.dto.UnityMissionGenerationType;
+import com.planB.myexpressionfriend.unity.dto.prompt.UnityMissionChildPromptContextDTO;
 import com.planB.myexpressionfriend.unity.dto.prompt.UnityMissionPromptContextDTO;
 import com.planB.myexpressionfriend.unity.repository.UnityGameResultRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.EnumSet;
 import java.util.List;
@@ -50,6 +52,33 @@ public class UnityMissionPromptBuilderService {
         return applyContext(templateService.loadTemplate(generationType), context);
     }
 
+    /**
+     * 아동 정보/노트/최근 결과를 한 번만 조회해 재사용 가능한 컨텍스트를 만듭니다.
+     */
+    @Transactional(readOnly = true)
+    public UnityMissionChildPromptContextDTO buildChildContext(UUID childId, UUID userId) {
+        ChildDetailDTO child = childService.getChildDetail(childId, userId);
+        return UnityMissionChildPromptContextDTO.builder()
+                .promptContext(buildContext(childId, child, 0))
+                .allowedTargetEmotions(buildAllowedEmotionSet(child))
+                .build();
+    }
+
+    /**
+     * 미리 만든 아동 컨텍스트로 프롬프트를 생성합니다. (DB 조회 없음)
+     */
+    public String buildPrompt(
+            UnityMissionChildPromptContextDTO childContext,
+            int missionIdStart,
+            UnityMissionGenerationType generationType
+    ) {
+        UnityMissionPromptContextDTO context = childContext.getPromptContext().toBuilder()
+                .missionIdStart(String.valueOf(missionIdStart))
+                .missionIdNext(String.valueOf(missionIdStart + 1))
+                .build();
+        return applyContext(templateService.loadTemplate(generationType), context);
+    }
+
     /**
      * 아동 기준 허용 감정 문자열을 반환합니다.
      */
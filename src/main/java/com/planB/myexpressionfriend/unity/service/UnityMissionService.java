@@ -2,10 +2,11 @@ package com.planB.myexpressionfriend.unity.service;
 
 import com.planB.myexpressionfriend.common.domain.child.Child;
 import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
-import com.planB.myexpressionfriend.common.domain.game.GameSession;
+import com.planB.myexpressionfriend.common.dto.game.CachedGameSession;
 import com.planB.myexpressionfriend.common.exception.EntityNotFoundException;
 import com.planB.myexpressionfriend.common.repository.ChildRepository;
-import com.planB.myexpressionfriend.common.repository.GameSessionRepository;
+import com.planB.myexpressionfriend.common.security.GameSessionTokenCache;
+import com.planB.myexpressionfriend.common.util.TransactionalEviction;
 import com.planB.myexpressionfriend.unity.domain.UnityMission;
 import com.planB.myexpressionfriend.unity.domain.UnityMissionApprovalStatus;
 import com.planB.myexpressionfriend.unity.dto.UnityMissionImportRequestDTO;
@@ -16,7 +17,8 @@ import com.planB.myexpressionfriend.unity.repository.UnityMissionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.PageRequest;
@@ -25,12 +27,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -38,9 +38,14 @@ import java.util.UUID;
 @Slf4j
 public class UnityMissionService {
 
+    private static final String APPROVED_MISSIONS_CACHE = "approvedMissions";
+    private static final String APPROVED_MISSIONS_ETAG_CACHE = "approvedMissionsEtag";
+
     private final UnityMissionRepository unityMissionRepository;
     private final ChildRepository childRepository;
-    private final GameSessionRepository gameSessionRepository;
+    private final GameSessionTokenCache gameSessionTokenCache;
+    private final CacheManager cacheManager;
+    private final UnityMissionCatalogCache catalogCache;
 
     // self-invocation 문제 해결: @Cacheable이 적용된 메서드를 같은 빈 내부에서 호출할 때
     // Spring AOP 프록시를 거치도록 자기 자신을 @Lazy로 주입
@@ -52,12 +57,11 @@ public class UnityMissionService {
 
     @Transactional
     public UnityMissionImportResultDTO importMissions(UnityMissionImportRequestDTO requestDTO) {
-        List<Long> savedIds = new ArrayList<>();
-        for (UnityMissionItemDTO dto : requestDTO.getMissions()) {
-            UnityMission mission = unityMissionRepository.save(toEntity(dto, null, null));
-            savedIds.add(mission.getUnityMissionId());
-        }
-        return buildImportResult(requestDTO.getMissions().size(), savedIds);
+        List<UnityMission> missions = requestDTO.getMissions().stream()
+                .map(dto -> toEntity(dto, null, null))
+                .toList();
+        catalogCache.invalidate();
+        return buildImportResult(requestDTO.getMissions().size(), saveAllMissions(missions));
     }
 
     // ── 아동 맞춤 저장 (LLM 생성 경로) ──────────────────────────────────
@@ -68,12 +72,11 @@ public class UnityMissionService {
         Child child = childRepository.findById(childId)
                 .orElseThrow(() -> new EntityNotFoundException("아동을 찾을 수 없습니다."));
 
-        List<Long> savedIds = new ArrayList<>();
-        for (UnityMissionItemDTO dto : requestDTO.getMissions()) {
-            UnityMission mission = unityMissionRepository.save(toEntity(dto, child, missionDate));
-            savedIds.add(mission.getUnityMissionId());
-        }
-        return buildImportResult(requestDTO.getMissions().size(), savedIds);
+        List<UnityMission> missions = requestDTO.getMissions().stream()
+                .map(dto -> toEntity(dto, child, missionDate))
+                .toList();
+        catalogCache.invalidate();
+        return buildImportResult(requestDTO.getMissions().size(), saveAllMissions(missions));
     }
 
     // ── 조회 ─────────────────────────────────────────────────────────────
@@ -85,31 +88,48 @@ public class UnityMissionService {
                 .getContent();
     }
 
+    /**
+     * 외부 미션 ID별 최신 미션 목록 (DB에서 DISTINCT ON으로 선별, 버전 기반 응답 캐시)
+     */
     public List<UnityMissionResponseDTO> getMissionsForUnity() {
-        List<UnityMission> all = unityMissionRepository.findAllByOrderByMissionIdAscCreatedAtDesc();
-        Map<Integer, UnityMission> latestByMissionId = new LinkedHashMap<>();
-        for (UnityMission mission : all) {
-            latestByMissionId.putIfAbsent(mission.getMissionId(), mission);
-        }
-        return latestByMissionId.values().stream()
+        return catalogCache.get(() -> unityMissionRepository.findLatestPerMissionId().stream()
                 .map(UnityMissionResponseDTO::from)
-                .toList();
+                .toList());
     }
 
     /**
      * 게임 클라이언트용: 세션 토큰으로 해당 아동의 오늘 승인된 미션 반환 (캐시 적용)
      */
     public List<UnityMissionResponseDTO> getApprovedMissionsForUnity(String sessionToken) {
-        GameSession session = gameSessionRepository
-                .findValidSessionByToken(sessionToken, LocalDateTime.now())
-                .orElseThrow(() -> new AccessDeniedException("유효하지 않은 세션입니다."));
-
-        UUID childId = session.getChild().getChildId();
+        UUID childId = resolveChildIdForSession(sessionToken);
         // self 호출로 @Cacheable 프록시가 적용되도록 함
         return self.getApprovedMissionsFromCache(childId, LocalDate.now());
     }
 
-    @Cacheable(value = "approvedMissions", key = "#childId + ':' + #date")
+    /**
+     * 세션 토큰의 아동 ID (세션 토큰 캐시 사용)
+     */
+    public UUID resolveChildIdForSession(String sessionToken) {
+        return gameSessionTokenCache.findValidSession(sessionToken)
+                .map(CachedGameSession::childId)
+                .orElseThrow(() -> new AccessDeniedException("유효하지 않은 세션입니다."));
+    }
+
+    /**
+     * (아동, 날짜) 승인 미션 집합의 ETag
+     * 미션 목록과 같은 키로 캐시되며 승인/거절 시 함께 무효화됩니다.
+     */
+    @Cacheable(value = APPROVED_MISSIONS_ETAG_CACHE, key = "#childId + ':' + #date", sync = true)
+    public String getApprovedMissionsEtag(UUID childId, LocalDate date) {
+        return unityMissionRepository
+                .summarizeByChildAndApprovalStatusAndMissionDate(childId, UnityMissionApprovalStatus.APPROVED, date)
+                .toEtag(childId, date);
+    }
+
+    /**
+     * sync = true: 같은 (아동, 날짜) 키의 동시 미스는 한 스레드만 DB를 조회하고 나머지는 결과를 기다립니다.
+     */
+    @Cacheable(value = APPROVED_MISSIONS_CACHE, key = "#childId + ':' + #date", sync = true)
     public List<UnityMissionResponseDTO> getApprovedMissionsFromCache(UUID childId, LocalDate date) {
         log.debug("[CACHE MISS] DB 조회 - childId={}, date={}", childId, date);
         return unityMissionRepository
@@ -123,18 +143,20 @@ public class UnityMissionService {
     // ── 승인 / 거절 ───────────────────────────────────────────────────────
 
     @Transactional
-    @CacheEvict(value = "approvedMissions", allEntries = true)
     public UnityMissionResponseDTO approveMission(Long missionId, UUID userId) {
         UnityMission mission = findMissionWithPermissionCheck(missionId, userId);
         mission.approve(userId);
+        evictApprovedMissions(mission);
+        catalogCache.invalidate();
         return UnityMissionResponseDTO.from(mission);
     }
 
     @Transactional
-    @CacheEvict(value = "approvedMissions", allEntries = true)
     public UnityMissionResponseDTO rejectMission(Long missionId, UUID userId, String reason) {
         UnityMission mission = findMissionWithPermissionCheck(missionId, userId);
         mission.reject(userId, reason);
+        evictApprovedMissions(mission);
+        catalogCache.invalidate();
         return UnityMissionResponseDTO.from(mission);
     }
 
@@ -154,6 +176,22 @@ public class UnityMissionService {
         return mission;
     }
 
+    /**
+     * 변경된 미션의 (아동, 미션 날짜) 목록/ETag 캐시 키만 무효화합니다.
+     * 커밋 전 동시 미스가 이전 상태를 다시 적재할 수 있으므로 커밋 후 한 번 더 무효화합니다.
+     */
+    private void evictApprovedMissions(UnityMission mission) {
+        if (mission.getMissionDate() == null) {
+            return;
+        }
+        String key = mission.getChild().getChildId() + ":" + mission.getMissionDate();
+        List<Cache> caches = Stream.of(APPROVED_MISSIONS_CACHE, APPROVED_MISSIONS_ETAG_CACHE)
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .toList();
+        TransactionalEviction.evictNowAndAfterCommit(() -> caches.forEach(cache -> cache.evict(key)));
+    }
+
     private UnityMission toEntity(UnityMissionItemDTO dto, Child child, LocalDate missionDate) {
         return UnityMission.builder()
                 .child(child)
@@ -168,6 +206,15 @@ public class UnityMissionService {
                 .build();
     }
 
+    /**
+     * 시퀀스 PK로 ID를 미리 할당받아 hibernate.jdbc.batch_size 단위로 일괄 INSERT
+     */
+    private List<Long> saveAllMissions(List<UnityMission> missions) {
+        return unityMissionRepository.saveAll(missions).stream()
+                .map(UnityMission::getUnityMissionId)
+                .toList();
+    }
+
     private UnityMissionImportResultDTO buildImportResult(int requested, List<Long> savedIds) {
         return UnityMissionImportResultDTO.builder()
                 .requestedCount(requested)
@@ -0,0 +1,66 @@
+package com.planB.myexpressionfriend.common.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 테스트용 Redis 대체 구현 (여러 노드가 하나의 인스턴스를 공유, 메시지는 동기 전달)
+ */
+class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+    private final Map<String, byte[]> values = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> subscribers = new CopyOnWriteArrayList<>();
+    final AtomicInteger getCount = new AtomicInteger();
+    volatile boolean down;
+
+    @Override
+    public byte[] get(String key) {
+        failIfDown();
+        getCount.incrementAndGet();
+        return values.get(key);
+    }
+
+    @Override
+    public void set(String key, byte[] value, Duration ttl) {
+        failIfDown();
+        values.put(key, value);
+    }
+
+    @Override
+    public void delete(String key) {
+        failIfDown();
+        values.remove(key);
+    }
+
+    @Override
+    public void deleteByPrefix(String prefix) {
+        failIfDown();
+        values.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    @Override
+    public void publish(String message) {
+        failIfDown();
+        subscribers.forEach(subscriber -> subscriber.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        subscribers.add(listener);
+    }
+
+    boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    private void failIfDown() {
+        if (down) {
+            throw new IllegalStateException("redis unavailable");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.planB.myexpressionfriend.common.cache;
+
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TwoTierCacheManagerTest {
+
+    private InMemoryRemoteCacheStore redis;
+    private OpsMetricService metricsA;
+    private Cache nodeA;
+    private Cache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        redis = new InMemoryRemoteCacheStore();
+        metricsA = new OpsMetricService();
+        nodeA = newNode(metricsA).getCache("approvedMissions");
+        nodeB = newNode(new OpsMetricService()).getCache("approvedMissions");
+    }
+
+    @Test
+    @DisplayName("한 노드가 적재한 값은 다른 노드가 Redis에서 재사용한다")
+    void loadOnOneNode_sharedThroughRedis() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(List.of("m1"), nodeA.get("child:2026-03-01", () -> loadOnce(loads)));
+        assertEquals(List.of("m1"), nodeB.get("child:2026-03-01", () -> loadOnce(loads)));
+
+        assertEquals(1, loads.get());
+        assertTrue(redis.contains("cache:approvedMissions::child:2026-03-01"));
+    }
+
+    @Test
+    @DisplayName("한 노드의 evict는 pub/sub으로 다른 노드의 로컬 사본까지 무효화한다")
+    void evict_invalidatesOtherNodesLocalCopy() {
+        nodeA.get("child:2026-03-01", () -> List.of("old"));
+        nodeB.get("child:2026-03-01", () -> List.of("old"));
+
+        nodeA.evict("child:2026-03-01");
+
+        assertNull(nodeB.get("child:2026-03-01"));
+        assertEquals(List.of("new"), nodeB.get("child:2026-03-01", () -> List.of("new")));
+        assertEquals(List.of("new"), nodeA.get("child:2026-03-01", () -> List.of("unused")));
+    }
+
+    @Test
+    @DisplayName("clear는 모든 노드의 해당 캐시를 비운다")
+    void clear_propagatesToAllNodes() {
+        nodeA.put("k1", "v1");
+        nodeB.get("k1");
+
+        nodeB.clear();
+
+        assertNull(nodeA.get("k1"));
+        assertNull(nodeB.get("k1"));
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 노드당 한 번만 로드한다")
+    void concurrentMisses_loadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> nodeA.get("hot", () -> {
+                    loads.incrementAndGet();
+                    release.await(1, TimeUnit.SECONDS);
+                    return "value";
+                })));
+            }
+            release.countDown();
+            for (Future<Object> future : futures) {
+                assertEquals("value", future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 로컬 캐시와 로더로 동작한다")
+    void redisDown_fallsBackToLocal() {
+        redis.down = true;
+
+        assertEquals("v", nodeA.get("k", () -> "v"));
+        assertEquals("v", nodeA.get("k", () -> "reloaded"));
+        assertTrue(metricsA.snapshot().get("twoTierCacheRemoteErrorCount") > 0);
+    }
+
+    private TwoTierCacheManager newNode(OpsMetricService metrics) {
+        return new TwoTierCacheManager(redis, metrics, 100, Duration.ofMinutes(1), Duration.ofHours(1));
+    }
+
+    private List<String> loadOnce(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return List.of("m1");
+    }
+}
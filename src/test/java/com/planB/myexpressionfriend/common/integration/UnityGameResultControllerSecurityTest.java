@@ -0,0 +1,66 @@
+package com.planB.myexpressionfriend.common.integration;
+
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultBatchResponseDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultSaveResponseDTO;
+import com.planB.myexpressionfriend.unity.service.UnityGameResultService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UnityGameResultControllerSecurityTest {
+
+    private static final String RESULT_ITEM = """
+            {"clientResultId":"r-1","missionId":1,"success":true,"score":80,"durationSeconds":12.5,"retryCount":0}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UnityGameResultService unityGameResultService;
+
+    @Test
+    @DisplayName("JWT 없이 sessionToken만으로 게임 결과 일괄 저장이 허용된다")
+    void saveResults_withoutJwt_ok() throws Exception {
+        when(unityGameResultService.saveResults(any())).thenReturn(UnityGameResultBatchResponseDTO.builder()
+                .acceptedCount(1)
+                .acks(List.of())
+                .build());
+
+        mockMvc.perform(post("/api/unity/game-results/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sessionToken\":\"session-token\",\"results\":[" + RESULT_ITEM + "]}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("JWT 없이 sessionToken만으로 게임 결과 단건 저장이 허용된다")
+    void saveResult_withoutJwt_ok() throws Exception {
+        when(unityGameResultService.saveResult(any())).thenReturn(UnityGameResultSaveResponseDTO.builder()
+                .missionId(1)
+                .build());
+
+        mockMvc.perform(post("/api/unity/game-results")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(singleResultBody()))
+                .andExpect(status().isOk());
+    }
+
+    private String singleResultBody() {
+        return RESULT_ITEM.trim().replace("{\"clientResultId\":\"r-1\",", "{\"sessionToken\":\"session-token\",");
+    }
+}
@@ -0,0 +1,53 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 테스트용 Redis pub/sub 대체 구현 (여러 노드가 하나의 브로커를 공유, 메시지는 동기 전달)
+ */
+class InMemoryRealtimeNotificationBroker {
+
+    private final Map<UUID, Map<NodeBus, Consumer<String>>> channels = new ConcurrentHashMap<>();
+    final AtomicInteger publishCount = new AtomicInteger();
+
+    RealtimeNotificationBus newNode() {
+        return new NodeBus();
+    }
+
+    private class NodeBus implements RealtimeNotificationBus {
+
+        private final Map<UUID, Consumer<String>> subscriptions = new ConcurrentHashMap<>();
+
+        @Override
+        public void publish(UUID userId, String message) {
+            publishCount.incrementAndGet();
+            channels.getOrDefault(userId, Map.of()).values().forEach(listener -> listener.accept(message));
+        }
+
+        @Override
+        public void subscribe(UUID userId, Consumer<String> listener) {
+            if (subscriptions.putIfAbsent(userId, listener) == null) {
+                channels.computeIfAbsent(userId, id -> new ConcurrentHashMap<>()).put(this, listener);
+            }
+        }
+
+        @Override
+        public void unsubscribe(UUID userId) {
+            if (subscriptions.remove(userId) != null) {
+                channels.computeIfPresent(userId, (id, listeners) -> {
+                    listeners.remove(this);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
+
+        @Override
+        public int subscriptionCount() {
+            return subscriptions.size();
+        }
+    }
+}
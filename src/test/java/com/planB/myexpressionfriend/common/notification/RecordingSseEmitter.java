@@ -0,0 +1,44 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 전송된 SSE 이벤트를 문자열로 기록하는 테스트용 SseEmitter (전송 실패/지연 흉내 가능)
+ */
+class RecordingSseEmitter extends SseEmitter {
+
+    final List<String> sentEvents = new CopyOnWriteArrayList<>();
+    volatile boolean failOnSend;
+    volatile CountDownLatch blockUntil;
+    final CountDownLatch sendStarted = new CountDownLatch(1);
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        if (failOnSend) {
+            throw new IOException("broken pipe");
+        }
+        sendStarted.countDown();
+        CountDownLatch latch = blockUntil;
+        if (latch != null) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        sentEvents.add(builder.build().stream()
+                .map(data -> String.valueOf(data.getData()))
+                .collect(Collectors.joining()));
+    }
+
+    boolean received(String text) {
+        return sentEvents.stream().anyMatch(event -> event.contains(text));
+    }
+}
@@ -0,0 +1,86 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SseConnectionRegistryClusterTest {
+
+    private InMemoryRealtimeNotificationBroker redis;
+    private OpsMetricService metricsA;
+    private OpsMetricService metricsB;
+    private SseConnectionRegistry nodeA;
+    private SseConnectionRegistry nodeB;
+
+    @BeforeEach
+    void setUp() {
+        redis = new InMemoryRealtimeNotificationBroker();
+        metricsA = new OpsMetricService();
+        metricsB = new OpsMetricService();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        nodeA = new SseConnectionRegistry(
+                redis.newNode(), new SseDispatcher(metricsA, Runnable::run), objectMapper, metricsA, 5, 100);
+        nodeB = new SseConnectionRegistry(
+                redis.newNode(), new SseDispatcher(metricsB, Runnable::run), objectMapper, metricsB, 5, 100);
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결된 사용자에게도 알림이 전달되고, 연결을 가진 노드만 전송한다")
+    void send_fromOtherNode_deliveredByOwningNode() {
+        UUID userId = UUID.randomUUID();
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        nodeB.register(userId, emitter);
+
+        nodeA.send(userId, null, "notification", Map.of("title", "미션 완료 알림"));
+
+        assertEquals(1, emitter.sentEvents.size());
+        assertTrue(emitter.received("미션 완료 알림"));
+        assertTrue(emitter.received("event:notification"));
+        assertEquals(1L, metricsA.snapshot().get("ssePublishedCount"));
+        assertEquals(0L, metricsA.snapshot().get("sseDeliveredCount"));
+        assertEquals(1L, metricsB.snapshot().get("sseDeliveredCount"));
+        assertEquals(1L, metricsB.snapshot().get("sseConnectedUserCount"));
+        assertEquals(0L, metricsA.snapshot().get("sseSubscribedChannelCount"));
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 다른 노드로 재연결하면 새 노드로 전달된다")
+    void reconnectToOtherNode_followsConnection() {
+        UUID userId = UUID.randomUUID();
+        RecordingSseEmitter first = new RecordingSseEmitter();
+        nodeA.register(userId, first);
+        first.failOnSend = true;
+        nodeB.send(userId, null, "notification", "ping");
+        assertFalse(nodeA.isConnected(userId));
+
+        RecordingSseEmitter second = new RecordingSseEmitter();
+        nodeB.register(userId, second);
+        nodeA.send(userId, null, "notification", "hello");
+
+        assertTrue(second.received("hello"));
+        assertEquals(1L, metricsA.snapshot().get("sseSendFailureCount"));
+        assertEquals(0L, metricsA.snapshot().get("sseSubscribedChannelCount"));
+    }
+
+    @Test
+    @DisplayName("연결이 없는 사용자에게 보낸 알림은 어느 노드도 전송하지 않는다")
+    void send_withoutConnection_dropped() {
+        UUID userId = UUID.randomUUID();
+
+        nodeA.send(userId, null, "notification", "hello");
+
+        assertEquals(1, redis.publishCount.get());
+        assertEquals(0L, metricsA.snapshot().get("sseDeliveredCount"));
+        assertEquals(0L, metricsB.snapshot().get("sseDeliveredCount"));
+    }
+}
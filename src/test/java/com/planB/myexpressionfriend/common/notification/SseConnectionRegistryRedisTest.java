@@ -0,0 +1,167 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.Subscription;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 RedisMessageListenerContainer를 거치는 레지스트리 테스트 (Redis 연결만 mock)
+ *
+ * mock 연결은 SUBSCRIBE 확인을 onSubscribing 훅이 끝난 뒤에 보내므로,
+ * 구독 확인을 기다리는 동안 레지스트리가 막히는지 확인할 수 있습니다.
+ */
+class SseConnectionRegistryRedisTest {
+
+    private static final String CHANNEL_PREFIX = "notifications:user:";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AtomicReference<MessageListener> redisListener = new AtomicReference<>();
+    private volatile Runnable onSubscribing = () -> {
+    };
+
+    private RedisConnection connection;
+    private RedisMessageListenerContainer container;
+    private OpsMetricService opsMetricService;
+    private SseConnectionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        connection = mock(RedisConnection.class);
+        Subscription subscription = mock(Subscription.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.getSubscription()).thenReturn(subscription);
+        when(subscription.isAlive()).thenReturn(true);
+        doAnswer(invocation -> {
+            redisListener.set(invocation.getArgument(0));
+            onSubscribing.run();
+            confirmSubscribed(invocation.getArguments(), 1);
+            return null;
+        }).when(connection).subscribe(any(), any(byte[][].class));
+        doAnswer(invocation -> {
+            onSubscribing.run();
+            confirmSubscribed(invocation.getArguments(), 0);
+            return null;
+        }).when(subscription).subscribe(any(byte[][].class));
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(new SyncTaskExecutor());
+        container.afterPropertiesSet();
+        container.start();
+
+        opsMetricService = new OpsMetricService();
+        registry = new SseConnectionRegistry(
+                new RedisRealtimeNotificationBus(new StringRedisTemplate(connectionFactory), container, CHANNEL_PREFIX),
+                new SseDispatcher(opsMetricService, Runnable::run),
+                objectMapper,
+                opsMetricService,
+                5,
+                100
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.destroy();
+    }
+
+    @Test
+    @DisplayName("Redis 구독 확인을 기다리는 동안에도 같은 사용자의 다른 연결 등록이 막히지 않는다")
+    void register_whileRedisSubscribing_doesNotBlockRegistry() throws Exception {
+        UUID userId = UUID.randomUUID();
+        RecordingSseEmitter laptop = new RecordingSseEmitter();
+        RecordingSseEmitter phone = new RecordingSseEmitter();
+        AtomicBoolean registeredWhileSubscribing = new AtomicBoolean();
+        onSubscribing = () -> {
+            onSubscribing = () -> {
+            };
+            CompletableFuture<SseConnection> concurrent =
+                    CompletableFuture.supplyAsync(() -> registry.register(userId, phone));
+            try {
+                concurrent.get(1, TimeUnit.SECONDS);
+                registeredWhileSubscribing.set(true);
+            } catch (Exception e) {
+                registeredWhileSubscribing.set(false);
+            }
+        };
+
+        registry.register(userId, laptop);
+        publishFromRedis(userId, "n-1", "hello");
+
+        assertTrue(registeredWhileSubscribing.get());
+        verify(connection, times(1)).subscribe(any(), any(byte[][].class));
+        assertTrue(laptop.received("hello"));
+        assertTrue(phone.received("hello"));
+        assertEquals(2L, opsMetricService.snapshot().get("sseConnectionCount"));
+        assertEquals(1L, opsMetricService.snapshot().get("sseSubscribedChannelCount"));
+    }
+
+    @Test
+    @DisplayName("마지막 연결이 끊기면 컨테이너에서 채널 리스너가 제거되어 이후 메시지가 전달되지 않는다")
+    void lastConnectionRemoved_unsubscribesFromContainer() throws Exception {
+        UUID userId = UUID.randomUUID();
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        registry.register(userId, emitter);
+
+        emitter.failOnSend = true;
+        publishFromRedis(userId, "n-1", "broken");
+
+        assertFalse(registry.isConnected(userId));
+        assertEquals(0L, opsMetricService.snapshot().get("sseSubscribedChannelCount"));
+
+        emitter.failOnSend = false;
+        publishFromRedis(userId, "n-2", "after-close");
+
+        assertFalse(emitter.received("after-close"));
+        assertEquals(0L, opsMetricService.snapshot().get("sseNoConnectionCount"));
+        assertEquals(1L, opsMetricService.snapshot().get("sseSendFailureCount"));
+    }
+
+    private void confirmSubscribed(Object[] arguments, int channelIndex) {
+        if (!(redisListener.get() instanceof SubscriptionListener subscriptionListener)) {
+            return;
+        }
+        for (int i = channelIndex; i < arguments.length; i++) {
+            subscriptionListener.onChannelSubscribed((byte[]) arguments[i], i - channelIndex + 1);
+        }
+    }
+
+    private void publishFromRedis(UUID userId, String eventId, String data) throws Exception {
+        String body = objectMapper.writeValueAsString(
+                new SseConnectionRegistry.RealtimeMessage(eventId, "notification", data));
+        redisListener.get().onMessage(new DefaultMessage(
+                (CHANNEL_PREFIX + userId).getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+}
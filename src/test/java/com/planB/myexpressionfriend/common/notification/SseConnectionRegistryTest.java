@@ -0,0 +1,114 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SseConnectionRegistryTest {
+
+    private OpsMetricService opsMetricService;
+    private SseConnectionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        opsMetricService = new OpsMetricService();
+        registry = new SseConnectionRegistry(
+                new LocalRealtimeNotificationBus(),
+                new SseDispatcher(opsMetricService, Runnable::run),
+                Jackson2ObjectMapperBuilder.json().build(),
+                opsMetricService,
+                2,
+                2
+        );
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 여러 연결이 모두 알림을 받고, 최대 연결 수를 넘으면 가장 오래된 연결만 정리된다")
+    void multipleConnections_allReceive_oldestEvicted() {
+        UUID userId = UUID.randomUUID();
+        RecordingSseEmitter laptop = new RecordingSseEmitter();
+        RecordingSseEmitter tablet = new RecordingSseEmitter();
+        SseConnection laptopConnection = registry.register(userId, laptop);
+        SseConnection tabletConnection = registry.register(userId, tablet);
+
+        registry.send(userId, "n-1", "notification", "hello");
+
+        assertTrue(laptop.received("hello"));
+        assertTrue(tablet.received("hello"));
+        assertTrue(laptop.received("id:n-1"));
+        assertFalse(laptopConnection.getConnectionId().equals(tabletConnection.getConnectionId()));
+
+        RecordingSseEmitter phone = new RecordingSseEmitter();
+        registry.register(userId, phone);
+        registry.send(userId, "n-2", "notification", "second");
+
+        assertFalse(laptop.received("second"));
+        assertTrue(tablet.received("second"));
+        assertTrue(phone.received("second"));
+        assertEquals(2L, opsMetricService.snapshot().get("sseConnectionCount"));
+        assertEquals(1L, opsMetricService.snapshot().get("sseEvictedConnectionCount"));
+    }
+
+    @Test
+    @DisplayName("느린 연결은 다른 연결을 막지 않고, 큐가 넘치면 가장 오래된 이벤트를 버린다")
+    void slowConnection_dropsOldestWithoutBlockingOthers() throws Exception {
+        UUID userId = UUID.randomUUID();
+        RecordingSseEmitter slow = new RecordingSseEmitter();
+        CountDownLatch release = new CountDownLatch(1);
+        slow.blockUntil = release;
+        registry.register(userId, slow);
+
+        CompletableFuture<Void> firstSend = CompletableFuture.runAsync(
+                () -> registry.send(userId, "n-1", "notification", "event-1"));
+        assertTrue(slow.sendStarted.await(5, TimeUnit.SECONDS));
+
+        for (int i = 2; i <= 5; i++) {
+            registry.send(userId, "n-" + i, "notification", "event-" + i);
+        }
+        release.countDown();
+        firstSend.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(true, false, false, true, true), List.of(
+                slow.received("event-1"),
+                slow.received("event-2"),
+                slow.received("event-3"),
+                slow.received("event-4"),
+                slow.received("event-5")
+        ));
+        assertEquals(2L, opsMetricService.snapshot().get("sseDroppedEventCount"));
+    }
+
+    @Test
+    @DisplayName("밀려 있는 heartbeat는 하나로 합쳐진다")
+    void pendingHeartbeats_coalesced() throws Exception {
+        UUID userId = UUID.randomUUID();
+        RecordingSseEmitter slow = new RecordingSseEmitter();
+        CountDownLatch release = new CountDownLatch(1);
+        slow.blockUntil = release;
+        registry.register(userId, slow);
+
+        CompletableFuture<Void> firstSend = CompletableFuture.runAsync(
+                () -> registry.send(userId, "n-1", "notification", "event-1"));
+        assertTrue(slow.sendStarted.await(5, TimeUnit.SECONDS));
+
+        registry.send(userId, null, "heartbeat", "ping");
+        registry.send(userId, null, "heartbeat", "ping");
+        release.countDown();
+        firstSend.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, slow.sentEvents.size());
+        assertEquals(1L, opsMetricService.snapshot().get("sseCoalescedEventCount"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.planB.myexpressionfriend.common.notification;
+
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SseDispatcherTest {
+
+    private ExecutorService executor;
+    private OpsMetricService opsMetricService;
+    private SseConnectionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        opsMetricService = new OpsMetricService();
+        registry = new SseConnectionRegistry(
+                new LocalRealtimeNotificationBus(),
+                new SseDispatcher(opsMetricService, executor),
+                Jackson2ObjectMapperBuilder.json().build(),
+                opsMetricService,
+                5,
+                100
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("느린 클라이언트에 쓰는 동안에도 알림 발행 스레드는 기다리지 않고, 다른 사용자 전송도 진행된다")
+    void slowClient_doesNotBlockPublisherOrOthers() throws Exception {
+        UUID slowUserId = UUID.randomUUID();
+        UUID fastUserId = UUID.randomUUID();
+        RecordingSseEmitter slow = new RecordingSseEmitter();
+        RecordingSseEmitter fast = new RecordingSseEmitter();
+        CountDownLatch release = new CountDownLatch(1);
+        slow.blockUntil = release;
+        registry.register(slowUserId, slow);
+        registry.register(fastUserId, fast);
+
+        registry.send(slowUserId, "n-1", "notification", "slow-1");
+        assertTrue(slow.sendStarted.await(5, TimeUnit.SECONDS));
+        registry.send(slowUserId, "n-2", "notification", "slow-2");
+        registry.send(fastUserId, "n-3", "notification", "fast-1");
+
+        assertTrue(fast.sendStarted.await(5, TimeUnit.SECONDS));
+        assertFalse(slow.received("slow-1"));
+        assertEquals(1L, opsMetricService.snapshot().get("sseQueuedEventCount"));
+
+        release.countDown();
+        waitUntil(() -> opsMetricService.snapshot().get("sseDispatcherSentCount") == 3L);
+        assertTrue(slow.received("slow-2"));
+        assertTrue(opsMetricService.snapshot().get("sseMaxQueueLagMs") >= 0);
+    }
+
+    @Test
+    @DisplayName("heartbeat 타이머 휠은 한 바퀴 동안 모든 연결에 한 번씩 heartbeat를 보낸다")
+    void heartbeatWheel_pingsEveryConnectionOncePerRound() throws Exception {
+        RecordingSseEmitter first = new RecordingSseEmitter();
+        RecordingSseEmitter second = new RecordingSseEmitter();
+        registry.register(UUID.randomUUID(), first);
+        registry.register(UUID.randomUUID(), second);
+        SseHeartbeatScheduler heartbeatScheduler =
+                new SseHeartbeatScheduler(registry, opsMetricService, 25_000, 4);
+
+        for (int i = 0; i < 4; i++) {
+            heartbeatScheduler.tick();
+        }
+
+        waitUntil(() -> first.sentEvents.size() == 1 && second.sentEvents.size() == 1);
+        assertTrue(first.received("event:heartbeat"));
+        assertTrue(second.received("event:heartbeat"));
+        assertEquals(2L, opsMetricService.snapshot().get("sseHeartbeatCount"));
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
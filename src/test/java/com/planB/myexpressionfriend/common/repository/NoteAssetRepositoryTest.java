@@ -144,26 +144,13 @@ public class NoteAssetRepositoryTest {
     }
 
     @Test
-    @DisplayName("권한이 있으면 첨부파일 상세 조회 성공")
-    void findByIdWithAuth_WithPermission_Success() {
-        Optional<NoteAsset> result = assetRepository.findByIdWithAuth(
-                imageAsset.getAssetId(),
-                primaryParent.getUserId()
-        );
+    @DisplayName("첨부파일 상세 조회 시 노트와 아동을 함께 가져온다")
+    void findByIdWithNote_Success() {
+        Optional<NoteAsset> result = assetRepository.findByIdWithNote(imageAsset.getAssetId());
 
         assertThat(result).isPresent();
         assertThat(result.get().getOriginalFileName()).isEqualTo("test-image.jpg");
-    }
-
-    @Test
-    @DisplayName("권한이 없으면 첨부파일 상세 조회 실패")
-    void findByIdWithAuth_NoPermission_Empty() {
-        Optional<NoteAsset> result = assetRepository.findByIdWithAuth(
-                imageAsset.getAssetId(),
-                unauthorizedUser.getUserId()
-        );
-
-        assertThat(result).isEmpty();
+        assertThat(result.get().getNote().getChild().getChildId()).isNotNull();
     }
 
     // ============= 타입별 조회 =============
@@ -0,0 +1,81 @@
+package com.planB.myexpressionfriend.common.scheduler;
+
+import com.planB.myexpressionfriend.common.domain.report.GeneratedReport;
+import com.planB.myexpressionfriend.common.domain.report.ReportStatus;
+import com.planB.myexpressionfriend.common.event.ReportFailedEvent;
+import com.planB.myexpressionfriend.common.repository.GeneratedReportRepository;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StalePendingReportCleanupSchedulerTest {
+
+    private static final long STALE_PENDING_MILLIS = 1_800_000L;
+
+    @Mock
+    private GeneratedReportRepository generatedReportRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private OpsMetricService opsMetricService;
+    private StalePendingReportCleanupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        opsMetricService = new OpsMetricService();
+        scheduler = new StalePendingReportCleanupScheduler(
+                generatedReportRepository, eventPublisher, opsMetricService, STALE_PENDING_MILLIS);
+    }
+
+    @Test
+    @DisplayName("기준 시간보다 오래된 PENDING 리포트는 FAILED로 바뀌고 실패 이벤트가 발행된다")
+    void failStalePendingReports_marksFailedAndPublishes() {
+        GeneratedReport stale = GeneratedReport.builder()
+                .reportId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .targetChildId(UUID.randomUUID())
+                .build();
+        when(generatedReportRepository.findStalePendingForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(stale));
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        scheduler.failStalePendingReports();
+
+        ArgumentCaptor<LocalDateTime> cutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(generatedReportRepository).findStalePendingForUpdate(cutoffCaptor.capture(), anyInt());
+        assertTrue(cutoffCaptor.getValue().isBefore(startedAt.minusMinutes(29)));
+        assertEquals(ReportStatus.FAILED, stale.getStatus());
+        verify(eventPublisher).publishEvent(eq(new ReportFailedEvent(stale.getReportId(), stale.getUserId())));
+    }
+
+    @Test
+    @DisplayName("오래된 PENDING 리포트가 없으면 이벤트를 발행하지 않는다")
+    void failStalePendingReports_nothingStale_noEvent() {
+        when(generatedReportRepository.findStalePendingForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of());
+
+        scheduler.failStalePendingReports();
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,84 @@
+package com.planB.myexpressionfriend.common.security;
+
+import com.planB.myexpressionfriend.common.dto.game.CachedGameSession;
+import com.planB.myexpressionfriend.common.repository.GameSessionRepository;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameSessionTokenCacheTest {
+
+    @Mock
+    private GameSessionRepository sessionRepository;
+
+    private OpsMetricService opsMetricService;
+    private GameSessionTokenCache sessionTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        opsMetricService = new OpsMetricService();
+        sessionTokenCache = new GameSessionTokenCache(sessionRepository, opsMetricService, 100, 300);
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 반복 조회하면 DB는 한 번만 조회된다")
+    void findValidSession_repeated_hitsDatabaseOnce() {
+        UUID childId = UUID.randomUUID();
+        String token = UUID.randomUUID().toString();
+        when(sessionRepository.findValidSessionSummaryByToken(eq(token), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new CachedGameSession(UUID.randomUUID(), childId, LocalDateTime.now().plusHours(1), true)));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(childId, sessionTokenCache.findValidSession(token).orElseThrow().childId());
+        }
+
+        verify(sessionRepository, times(1)).findValidSessionSummaryByToken(eq(token), any(LocalDateTime.class));
+        assertEquals(4L, opsMetricService.snapshot().get("gameSessionCacheHitCount"));
+        assertEquals(1L, opsMetricService.snapshot().get("gameSessionCacheMissCount"));
+    }
+
+    @Test
+    @DisplayName("아동 단위 무효화 후에는 DB를 다시 조회한다")
+    void invalidateChild_forcesReload() {
+        UUID childId = UUID.randomUUID();
+        String token = UUID.randomUUID().toString();
+        when(sessionRepository.findValidSessionSummaryByToken(eq(token), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new CachedGameSession(UUID.randomUUID(), childId, LocalDateTime.now().plusHours(1), true)))
+                .thenReturn(Optional.empty());
+
+        sessionTokenCache.findValidSession(token);
+        sessionTokenCache.invalidateChild(childId);
+
+        assertTrue(sessionTokenCache.findValidSession(token).isEmpty());
+        verify(sessionRepository, times(2)).findValidSessionSummaryByToken(eq(token), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("캐시된 세션이라도 만료 시각이 지나면 인증에 사용되지 않는다")
+    void findValidSession_expiredEntry_returnsEmpty() {
+        String token = UUID.randomUUID().toString();
+        when(sessionRepository.findValidSessionSummaryByToken(eq(token), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new CachedGameSession(UUID.randomUUID(), UUID.randomUUID(), LocalDateTime.now().minusSeconds(1), true)));
+
+        sessionTokenCache.findValidSession(token);
+
+        assertTrue(sessionTokenCache.findValidSession(token).isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package com.planB.myexpressionfriend.common.security;
+
+import com.planB.myexpressionfriend.common.exception.ServiceBusyException;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService hashingService;
+
+    @AfterEach
+    void tearDown() {
+        if (hashingService != null) {
+            hashingService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("PIN은 설정된 cost로 인코딩되고 기존 cost의 해시도 검증된다")
+    void pinEncoder_usesConfiguredStrength_andMatchesLegacyHash() {
+        OpsMetricService opsMetricService = new OpsMetricService();
+        hashingService = new PasswordHashingService(opsMetricService, 1, 4, 5000, 10, 4);
+
+        String encoded = hashingService.pinEncoder().encode("1234");
+        String legacy = new BCryptPasswordEncoder(10).encode("1234");
+
+        assertTrue(encoded.startsWith("$2a$04$"));
+        assertTrue(hashingService.pinEncoder().matches("1234", encoded));
+        assertTrue(hashingService.pinEncoder().matches("1234", legacy));
+        assertFalse(hashingService.pinEncoder().matches("0000", encoded));
+        assertEquals(4L, opsMetricService.snapshot().get("passwordHashCompletedCount"));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 503 예외로 즉시 거절한다")
+    void matches_queueFull_rejectsWithServiceBusy() {
+        OpsMetricService opsMetricService = new OpsMetricService();
+        hashingService = new PasswordHashingService(opsMetricService, 1, 1, 10000, 14, 4);
+        String encoded = new BCryptPasswordEncoder(14).encode("password");
+
+        ExecutorService requestThreads = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<Boolean>> requests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            requests.add(CompletableFuture.supplyAsync(
+                    () -> hashingService.passwordEncoder().matches("password", encoded), requestThreads));
+        }
+
+        long rejected = requests.stream()
+                .filter(request -> {
+                    try {
+                        request.join();
+                        return false;
+                    } catch (CompletionException e) {
+                        assertInstanceOf(ServiceBusyException.class, e.getCause());
+                        return true;
+                    }
+                })
+                .count();
+        requestThreads.shutdown();
+
+        assertTrue(rejected >= 2);
+        assertEquals(rejected, opsMetricService.snapshot().get("passwordHashRejectedCount"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.config.GeminiProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingReportLlmClientTest {
+
+    @Mock
+    private ResilientReportLlmClient delegate;
+
+    private OpsMetricService opsMetricService;
+    private CachingReportLlmClient client;
+
+    @BeforeEach
+    void setUp() {
+        opsMetricService = new OpsMetricService();
+        client = new CachingReportLlmClient(delegate, new GeminiProperties(), opsMetricService, true, 100, 600);
+    }
+
+    @Test
+    @DisplayName("같은 모델/프롬프트/maxTokens 요청은 캐시된 응답을 반환하고 절약 토큰을 기록한다")
+    void generateReport_samePrompt_servedFromCache() {
+        when(delegate.generateReport("prompt", 100, "default")).thenReturn("response");
+
+        assertEquals("response", client.generateReport("prompt", 100, "default"));
+        assertEquals("response", client.generateReport("prompt", 100, "default"));
+
+        verify(delegate, times(1)).generateReport("prompt", 100, "default");
+        assertEquals(1L, opsMetricService.snapshot().get("llmResponseCacheHitCount"));
+        assertEquals(1L, opsMetricService.snapshot().get("llmResponseCacheMissCount"));
+        assertEquals(50L, opsMetricService.snapshot().get("llmResponseCacheHitRatePercent"));
+        assertEquals(("prompt".length() + "response".length()) / 4L,
+                opsMetricService.snapshot().get("llmResponseCacheSavedTokenEstimate"));
+    }
+
+    @Test
+    @DisplayName("maxTokens가 다르면 다른 키로 취급한다")
+    void generateReport_differentMaxTokens_callsDelegate() {
+        when(delegate.generateReport("prompt", 100, "default")).thenReturn("short");
+        when(delegate.generateReport("prompt", 200, "default")).thenReturn("long");
+
+        assertEquals("short", client.generateReport("prompt", 100, "default"));
+        assertEquals("long", client.generateReport("prompt", 200, "default"));
+    }
+
+    @Test
+    @DisplayName("useCache=false이면 캐시를 건너뛰고 새 응답으로 갱신한다")
+    void generateReport_optOut_bypassesCache() {
+        when(delegate.generateReport("prompt", 100, "default")).thenReturn("first", "second");
+
+        assertEquals("first", client.generateReport("prompt", 100, "default"));
+        assertEquals("second", client.generateReport("prompt", 100, "default", false));
+        assertEquals("second", client.generateReport("prompt", 100, "default"));
+
+        verify(delegate, times(2)).generateReport("prompt", 100, "default");
+        assertEquals(1L, opsMetricService.snapshot().get("llmResponseCacheBypassCount"));
+    }
+
+    @Test
+    @DisplayName("제거된 응답과 실패한 호출은 다시 LLM을 호출한다")
+    void generateReport_evictedOrFailed_callsDelegateAgain() {
+        when(delegate.generateReport("prompt", 100, "default"))
+                .thenThrow(new IllegalStateException("timeout"))
+                .thenReturn("broken", "fixed");
+
+        assertThrows(IllegalStateException.class, () -> client.generateReport("prompt", 100, "default"));
+        assertEquals("broken", client.generateReport("prompt", 100, "default"));
+        client.evictCachedResponse("prompt", 100, "default");
+        assertEquals("fixed", client.generateReport("prompt", 100, "default"));
+
+        verify(delegate, times(3)).generateReport("prompt", 100, "default");
+    }
+}
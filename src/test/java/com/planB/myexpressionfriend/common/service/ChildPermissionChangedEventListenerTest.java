@@ -0,0 +1,146 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import com.planB.myexpressionfriend.common.event.ChildPermissionChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig(ChildPermissionChangedEventListenerTest.Config.class)
+class ChildPermissionChangedEventListenerTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ChildPermissionDecisionCache decisionCache;
+    @Autowired
+    private ChildPermissionIndexService permissionIndexService;
+
+    private TransactionTemplate transactionTemplate;
+    private UUID childId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(permissionIndexService);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        childId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        decisionCache.get(childId, userId, ChildPermissionType.VIEW_REPORT, () -> true);
+    }
+
+    @Test
+    @DisplayName("권한 해제 이벤트는 커밋된 뒤에 사용자 판정과 권한 인덱스를 무효화한다")
+    void revoke_evictsAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(ChildPermissionChangedEvent.ofUser(childId, userId));
+
+            assertTrue(isCachedAsAllowed());
+            verify(permissionIndexService, never()).evictUser(any());
+        });
+
+        assertFalse(isCachedAsAllowed());
+        verify(permissionIndexService).evictUser(userId);
+    }
+
+    @Test
+    @DisplayName("주 보호자 양도 이벤트는 커밋된 뒤에 아동의 모든 판정과 권한 인덱스를 무효화한다")
+    void transfer_evictsChildAfterCommit() {
+        UUID otherUserId = UUID.randomUUID();
+        decisionCache.get(childId, otherUserId, ChildPermissionType.VIEW_REPORT, () -> true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(ChildPermissionChangedEvent.ofChild(childId));
+
+            assertTrue(isCachedAsAllowed());
+            verify(permissionIndexService, never()).evictChild(any());
+        });
+
+        assertFalse(isCachedAsAllowed());
+        assertFalse(decisionCache.get(childId, otherUserId, ChildPermissionType.VIEW_REPORT, () -> false));
+        verify(permissionIndexService).evictChild(childId);
+    }
+
+    @Test
+    @DisplayName("롤백된 권한 변경은 캐시를 무효화하지 않는다")
+    void rollback_keepsCache() {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(ChildPermissionChangedEvent.ofUser(childId, userId));
+            status.setRollbackOnly();
+        });
+
+        assertTrue(isCachedAsAllowed());
+        verify(permissionIndexService, never()).evictUser(any());
+    }
+
+    private boolean isCachedAsAllowed() {
+        return decisionCache.get(childId, userId, ChildPermissionType.VIEW_REPORT, () -> false);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(ChildPermissionChangedEventListener.class)
+    static class Config {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new NoOpTransactionManager();
+        }
+
+        @Bean
+        ChildPermissionDecisionCache decisionCache() {
+            return new ChildPermissionDecisionCache(new OpsMetricService(), 100, 60);
+        }
+
+        @Bean
+        ChildPermissionIndexService permissionIndexService() {
+            return Mockito.mock(ChildPermissionIndexService.class);
+        }
+    }
+
+    /**
+     * 트랜잭션 동기화(커밋/롤백 콜백)만 제공하는 테스트용 트랜잭션 매니저
+     */
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChildPermissionDecisionCacheTest {
+
+    private OpsMetricService opsMetricService;
+    private ChildPermissionDecisionCache decisionCache;
+
+    @BeforeEach
+    void setUp() {
+        opsMetricService = new OpsMetricService();
+        decisionCache = new ChildPermissionDecisionCache(opsMetricService, 100, 60);
+    }
+
+    @Test
+    @DisplayName("같은 판정은 한 번만 적재하고 적중/실패 횟수를 지표로 남긴다")
+    void get_recordsHitAndMissGauges() {
+        UUID childId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertTrue(decisionCache.get(childId, userId, ChildPermissionType.VIEW_REPORT, () -> {
+            loads.incrementAndGet();
+            return true;
+        }));
+        assertTrue(decisionCache.get(childId, userId, ChildPermissionType.VIEW_REPORT, () -> {
+            loads.incrementAndGet();
+            return false;
+        }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1L, opsMetricService.snapshot().get("permissionDecisionCacheHitCount"));
+        assertEquals(1L, opsMetricService.snapshot().get("permissionDecisionCacheMissCount"));
+        assertEquals(1L, opsMetricService.snapshot().get("permissionDecisionCacheSize"));
+    }
+
+    @Test
+    @DisplayName("사용자 무효화는 그 사용자의 판정만, 아동 무효화는 아동의 모든 판정을 제거한다")
+    void evict_removesMatchingDecisionsOnly() {
+        UUID childId = UUID.randomUUID();
+        UUID revokedUserId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        decisionCache.get(childId, revokedUserId, ChildPermissionType.VIEW_REPORT, () -> true);
+        decisionCache.get(childId, revokedUserId, ChildPermissionType.PLAY_GAME, () -> true);
+        decisionCache.get(childId, otherUserId, ChildPermissionType.VIEW_REPORT, () -> true);
+
+        decisionCache.evict(childId, revokedUserId);
+
+        assertFalse(decisionCache.get(childId, revokedUserId, ChildPermissionType.VIEW_REPORT, () -> false));
+        assertFalse(decisionCache.get(childId, revokedUserId, ChildPermissionType.PLAY_GAME, () -> false));
+        assertTrue(decisionCache.get(childId, otherUserId, ChildPermissionType.VIEW_REPORT, () -> false));
+
+        decisionCache.evictChild(childId);
+
+        assertFalse(decisionCache.get(childId, otherUserId, ChildPermissionType.VIEW_REPORT, () -> false));
+    }
+}
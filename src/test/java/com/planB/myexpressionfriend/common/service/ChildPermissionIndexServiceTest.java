@@ -0,0 +1,81 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.domain.child.Child;
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import com.planB.myexpressionfriend.common.domain.child.ChildrenAuthorizedUser;
+import com.planB.myexpressionfriend.common.repository.ChildrenAuthorizedUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChildPermissionIndexServiceTest {
+
+    @Mock
+    private ChildrenAuthorizedUserRepository authorizedUserRepository;
+
+    private ChildPermissionIndexService permissionIndexService;
+
+    @BeforeEach
+    void setUp() {
+        permissionIndexService = new ChildPermissionIndexService(authorizedUserRepository, 100, 600);
+    }
+
+    @Test
+    @DisplayName("주 보호자는 모든 권한, 일반 권한자는 부여된 권한만 색인된다")
+    void getAccessibleChildIds_primaryAndGranted() {
+        UUID userId = UUID.randomUUID();
+        Child primaryChild = Child.builder().childId(UUID.randomUUID()).name("primary").build();
+        Child grantedChild = Child.builder().childId(UUID.randomUUID()).name("granted").build();
+
+        when(authorizedUserRepository.findActiveWithPermissionsByUserId(userId)).thenReturn(List.of(
+                ChildrenAuthorizedUser.builder().child(primaryChild).isPrimary(true).build(),
+                ChildrenAuthorizedUser.builder()
+                        .child(grantedChild)
+                        .permissions(Set.of(ChildPermissionType.PLAY_GAME))
+                        .build()
+        ));
+
+        assertEquals(Set.of(primaryChild.getChildId()),
+                permissionIndexService.getAccessibleChildIds(userId, ChildPermissionType.VIEW_REPORT));
+        assertEquals(Set.of(primaryChild.getChildId(), grantedChild.getChildId()),
+                permissionIndexService.getAccessibleChildIds(userId, ChildPermissionType.PLAY_GAME));
+        assertFalse(permissionIndexService.hasPermission(userId, grantedChild.getChildId(), ChildPermissionType.VIEW_REPORT));
+
+        verify(authorizedUserRepository, times(1)).findActiveWithPermissionsByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("사용자 인덱스 무효화 후에는 변경된 권한이 다시 적재된다")
+    void evictUser_reloadsPermissions() {
+        UUID userId = UUID.randomUUID();
+        Child child = Child.builder().childId(UUID.randomUUID()).name("child").build();
+
+        when(authorizedUserRepository.findActiveWithPermissionsByUserId(userId))
+                .thenReturn(List.of())
+                .thenReturn(List.of(ChildrenAuthorizedUser.builder()
+                        .child(child)
+                        .permissions(Set.of(ChildPermissionType.VIEW_REPORT))
+                        .build()));
+
+        assertFalse(permissionIndexService.hasPermission(userId, child.getChildId(), ChildPermissionType.VIEW_REPORT));
+
+        permissionIndexService.evictUser(userId);
+
+        assertTrue(permissionIndexService.hasPermission(userId, child.getChildId(), ChildPermissionType.VIEW_REPORT));
+    }
+}
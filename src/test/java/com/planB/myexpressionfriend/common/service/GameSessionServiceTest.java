@@ -0,0 +1,97 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.domain.child.Child;
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import com.planB.myexpressionfriend.common.domain.game.GameSession;
+import com.planB.myexpressionfriend.common.domain.user.User;
+import com.planB.myexpressionfriend.common.dto.game.GameSessionDTO;
+import com.planB.myexpressionfriend.common.exception.ServiceBusyException;
+import com.planB.myexpressionfriend.common.repository.ChildRepository;
+import com.planB.myexpressionfriend.common.repository.GameSessionRepository;
+import com.planB.myexpressionfriend.common.repository.UserRepository;
+import com.planB.myexpressionfriend.common.security.GameSessionTokenCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameSessionServiceTest {
+
+    @Mock
+    private GameSessionRepository sessionRepository;
+    @Mock
+    private ChildRepository childRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private GameSessionTokenCache sessionTokenCache;
+
+    @InjectMocks
+    private GameSessionService gameSessionService;
+
+    @Test
+    @DisplayName("다른 노드가 먼저 활성 세션을 만들면 기존 세션을 다시 종료한 뒤 삽입한다")
+    void createSession_conflict_retriesAfterTerminating() {
+        UUID childId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Child child = playableChild(childId, userId);
+        when(child.getChildId()).thenReturn(childId);
+        when(sessionRepository.insertActiveSessionIfAbsent(
+                any(UUID.class), anyString(), eq(childId), eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0)
+                .thenReturn(1);
+        when(sessionRepository.findBySessionToken(anyString()))
+                .thenAnswer(invocation -> Optional.of(GameSession.builder()
+                        .sessionToken(invocation.getArgument(0))
+                        .child(child)
+                        .authenticatedBy(User.builder().userId(userId).build())
+                        .expiresAt(LocalDateTime.now().plusHours(GameSession.SESSION_DURATION_HOURS))
+                        .build()));
+
+        GameSessionDTO session = gameSessionService.createSession(childId, userId);
+
+        assertEquals(childId, session.getChildId());
+        verify(sessionRepository, times(2)).terminateAllSessionsByChildId(childId);
+        verify(sessionTokenCache).invalidateChild(childId);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수 내에 삽입하지 못하면 503 예외로 실패한다")
+    void createSession_persistentConflict_throwsServiceBusy() {
+        UUID childId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        playableChild(childId, userId);
+        when(sessionRepository.insertActiveSessionIfAbsent(
+                any(UUID.class), anyString(), eq(childId), eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        assertThrows(ServiceBusyException.class, () -> gameSessionService.createSession(childId, userId));
+        verify(sessionRepository, never()).findBySessionToken(anyString());
+    }
+
+    private Child playableChild(UUID childId, UUID userId) {
+        Child child = mock(Child.class);
+        when(child.hasPermission(userId, ChildPermissionType.PLAY_GAME)).thenReturn(true);
+        when(childRepository.findById(childId)).thenReturn(Optional.of(child));
+        when(userRepository.existsById(userId)).thenReturn(true);
+        return child;
+    }
+}
@@ -0,0 +1,75 @@
+package com.planB.myexpressionfriend.common.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameSessionTouchBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private OpsMetricService opsMetricService;
+    private GameSessionTouchBuffer touchBuffer;
+
+    @BeforeEach
+    void setUp() {
+        opsMetricService = new OpsMetricService();
+        touchBuffer = new GameSessionTouchBuffer(jdbcTemplate, opsMetricService, 500);
+    }
+
+    @Test
+    @DisplayName("같은 세션의 반복 하트비트는 최신 시각 한 건으로 합쳐 한 번의 배치로 반영된다")
+    @SuppressWarnings("unchecked")
+    void flush_coalescesTouchesPerSession() {
+        LocalDateTime base = LocalDateTime.now();
+        for (int i = 0; i < 100; i++) {
+            touchBuffer.touch("session-a", base.plusSeconds(i));
+            touchBuffer.touch("session-b", base.plusSeconds(i));
+        }
+
+        touchBuffer.flush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        List<Object[]> rows = captor.getValue();
+        assertEquals(2, rows.size());
+        rows.forEach(row -> assertEquals(Timestamp.valueOf(base.plusSeconds(99)), row[0]));
+        assertEquals(0L, opsMetricService.snapshot().get("gameSessionTouchPending"));
+        assertEquals(200L, opsMetricService.snapshot().get("gameSessionTouchCount"));
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 기록은 다음 flush에서 다시 시도된다")
+    void flush_failure_requeuesTouches() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(new int[]{1});
+        touchBuffer.touch("session-a", LocalDateTime.now());
+
+        touchBuffer.flush();
+        assertEquals(1L, opsMetricService.snapshot().get("gameSessionTouchPending"));
+
+        touchBuffer.flush();
+        assertEquals(0L, opsMetricService.snapshot().get("gameSessionTouchPending"));
+        assertEquals(1L, opsMetricService.snapshot().get("gameSessionTouchFlushedCount"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planB.myexpressionfriend.common.config.GeminiProperties;
+import com.planB.myexpressionfriend.common.config.LlmHttpClientConfig;
+import com.planB.myexpressionfriend.common.exception.LlmQuotaExceededException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeminiReportLlmClientTest {
+
+    private static final String SUCCESS_BODY = """
+            {"candidates":[{"content":{"parts":[{"text":"  생성된 리포트  "}]}}]}
+            """;
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile int status = 200;
+    private volatile String body = SUCCESS_BODY;
+    private volatile long bodyDelayMs = 0;
+
+    private GeminiProperties properties;
+    private OpsMetricService opsMetricService;
+    private GeminiReportLlmClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        properties = new GeminiProperties();
+        properties.setEnabled(true);
+        properties.setApiKey("test-key");
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setTimeoutMs(2000);
+        properties.setConnectTimeoutMs(1000);
+        properties.setReadTimeoutMs(1000);
+        opsMetricService = new OpsMetricService();
+        client = new GeminiReportLlmClient(
+                properties,
+                new ObjectMapper(),
+                new LlmHttpClientConfig().llmHttpClient(properties),
+                opsMetricService
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("연속 호출은 같은 keep-alive 연결을 재사용하고 첫 바이트/전체 지연을 따로 기록한다")
+    void generateReport_reusesConnectionAndRecordsLatency() {
+        bodyDelayMs = 300;
+
+        assertEquals("생성된 리포트", client.generateReport("prompt", 100, "default"));
+        assertEquals("생성된 리포트", client.generateReport("prompt", 100, "default"));
+
+        assertEquals(1, clientPorts.size());
+        assertEquals(2L, opsMetricService.snapshot().get("geminiRequestCount"));
+        long timeToFirstByteMs = opsMetricService.snapshot().get("geminiLastTimeToFirstByteMs");
+        long latencyMs = opsMetricService.snapshot().get("geminiLastLatencyMs");
+        assertTrue(latencyMs >= 300, "latency=" + latencyMs);
+        assertTrue(timeToFirstByteMs < latencyMs, "ttfb=" + timeToFirstByteMs + ", latency=" + latencyMs);
+    }
+
+    @Test
+    @DisplayName("429 응답은 재시도 대기 시간을 담은 한도 초과 예외로 변환한다")
+    void generateReport_tooManyRequests_throwsQuotaExceeded() {
+        status = 429;
+        body = "{\"error\":{\"details\":[{\"retryDelay\":\"12s\"}]}}";
+
+        LlmQuotaExceededException exception = assertThrows(
+                LlmQuotaExceededException.class,
+                () -> client.generateReport("prompt", 100, "default")
+        );
+        assertEquals(12, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("본문 수신이 전체 제한 시간을 넘으면 시간 초과로 실패한다")
+    void generateReport_slowBody_timesOut() {
+        properties.setTimeoutMs(300);
+        bodyDelayMs = 2000;
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> client.generateReport("prompt", 100, "default")
+        );
+        assertTrue(exception.getMessage().contains("timeoutMs=300"));
+        assertEquals(1L, opsMetricService.snapshot().get("geminiTimeoutCount"));
+        assertEquals(0L, opsMetricService.snapshot().get("geminiInFlightCount"));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        int half = bytes.length / 2;
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes, 0, half);
+            output.flush();
+            sleep(bodyDelayMs);
+            output.write(bytes, half, bytes.length - half);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
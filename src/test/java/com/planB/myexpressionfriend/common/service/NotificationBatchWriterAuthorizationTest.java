@@ -0,0 +1,124 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.domain.mission.AssignedMission;
+import com.planB.myexpressionfriend.common.domain.notification.NotificationType;
+import com.planB.myexpressionfriend.common.notification.SseConnectionRegistry;
+import com.planB.myexpressionfriend.common.repository.AssignedMissionRepository;
+import com.planB.myexpressionfriend.common.repository.ChildrenAuthorizedUserRepository;
+import com.planB.myexpressionfriend.common.repository.GeneratedReportRepository;
+import com.planB.myexpressionfriend.common.repository.NotificationRepository;
+import com.planB.myexpressionfriend.common.service.NotificationBatchWriter.PendingNotification;
+import com.planB.myexpressionfriend.common.service.NotificationBatchWriter.SavedNotification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationBatchWriterAuthorizationTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private AssignedMissionRepository assignedMissionRepository;
+    @Mock
+    private GeneratedReportRepository generatedReportRepository;
+    @Mock
+    private SseConnectionRegistry sseConnectionRegistry;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ChildrenAuthorizedUserRepository authorizedUserRepository;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    private OpsMetricService opsMetricService;
+    private NotificationBatchWriter batchWriter;
+
+    @BeforeEach
+    void setUp() {
+        opsMetricService = new OpsMetricService();
+        batchWriter = new NotificationBatchWriter(
+                jdbcTemplate, authorizedUserRepository, notificationService, opsMetricService);
+    }
+
+    @Test
+    @DisplayName("권한 없는 사용자에게는 미션 알림을 저장하지 않는다")
+    void saveAll_missionUnauthorized_skips() {
+        UUID receiverUserId = UUID.randomUUID();
+        UUID missionId = UUID.randomUUID();
+
+        when(assignedMissionRepository.findByIdWithAuth(missionId, receiverUserId))
+                .thenReturn(Optional.empty());
+
+        List<SavedNotification> saved = batchWriter.saveAll(List.of(PendingNotification.toReceiver(
+                receiverUserId, NotificationType.MISSION_COMPLETED, "title", "message", missionId)));
+
+        assertTrue(saved.isEmpty());
+        verify(jdbcTemplate, never()).batchUpdate(
+                anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(1L, opsMetricService.snapshot().get("notificationWriteSkippedCount"));
+    }
+
+    @Test
+    @DisplayName("권한 없는 사용자에게는 리포트 알림을 저장하지 않는다")
+    void saveAll_reportUnauthorized_skips() {
+        UUID receiverUserId = UUID.randomUUID();
+        UUID reportId = UUID.randomUUID();
+
+        when(generatedReportRepository.findAuthorizedByReportId(reportId, receiverUserId))
+                .thenReturn(Optional.empty());
+
+        List<SavedNotification> saved = batchWriter.saveAll(List.of(PendingNotification.toReceiver(
+                receiverUserId, NotificationType.REPORT_GENERATED, "title", "message", reportId)));
+
+        assertTrue(saved.isEmpty());
+        verify(jdbcTemplate, never()).batchUpdate(
+                anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(1L, opsMetricService.snapshot().get("notificationWriteSkippedCount"));
+    }
+
+    @Test
+    @DisplayName("권한 있는 사용자에게는 미션 알림을 저장한다")
+    @SuppressWarnings("unchecked")
+    void saveAll_missionAuthorized_saves() {
+        UUID receiverUserId = UUID.randomUUID();
+        UUID missionId = UUID.randomUUID();
+
+        when(assignedMissionRepository.findByIdWithAuth(missionId, receiverUserId))
+                .thenReturn(Optional.of(mock(AssignedMission.class)));
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDateTime.class))).thenReturn(LocalDateTime.now());
+
+        List<SavedNotification> saved = batchWriter.saveAll(List.of(PendingNotification.toReceiver(
+                receiverUserId, NotificationType.MISSION_COMPLETED, "title", "message", missionId)));
+
+        assertEquals(1, saved.size());
+        assertEquals(receiverUserId, saved.get(0).receiverUserId());
+        verify(jdbcTemplate).batchUpdate(
+                anyString(), anyCollection(), eq(1), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(1L, opsMetricService.snapshot().get("notificationWrittenCount"));
+    }
+}
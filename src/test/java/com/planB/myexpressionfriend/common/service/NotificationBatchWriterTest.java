@@ -0,0 +1,134 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import com.planB.myexpressionfriend.common.domain.child.ChildrenAuthorizedUser;
+import com.planB.myexpressionfriend.common.domain.notification.NotificationType;
+import com.planB.myexpressionfriend.common.domain.user.User;
+import com.planB.myexpressionfriend.common.dto.notification.NotificationDTO;
+import com.planB.myexpressionfriend.common.repository.ChildrenAuthorizedUserRepository;
+import com.planB.myexpressionfriend.common.service.NotificationBatchWriter.PendingNotification;
+import com.planB.myexpressionfriend.common.service.NotificationBatchWriter.SavedNotification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ChildrenAuthorizedUserRepository authorizedUserRepository;
+    @Mock
+    private NotificationService notificationService;
+
+    private OpsMetricService opsMetricService;
+    private NotificationBatchWriter batchWriter;
+
+    @BeforeEach
+    void setUp() {
+        opsMetricService = new OpsMetricService();
+        batchWriter = new NotificationBatchWriter(
+                jdbcTemplate, authorizedUserRepository, notificationService, opsMetricService);
+    }
+
+    @Test
+    @DisplayName("같은 아동의 노트 알림은 수신자를 한 번만 조회하고 한 번의 배치로 저장한다")
+    @SuppressWarnings("unchecked")
+    void saveAll_childViewers_resolvesOncePerChildAndBatchesInsert() {
+        UUID childId = UUID.randomUUID();
+        UUID actorUserId = UUID.randomUUID();
+        UUID therapistUserId = UUID.randomUUID();
+        UUID parentUserId = UUID.randomUUID();
+        UUID commentId = UUID.randomUUID();
+        UUID noteId = UUID.randomUUID();
+        LocalDateTime dbNow = LocalDateTime.now().minusSeconds(1);
+
+        when(jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class)).thenReturn(dbNow);
+        when(notificationService.isReferenceOfChild(NotificationType.NOTE_COMMENT_ADDED, commentId, childId))
+                .thenReturn(true);
+        when(notificationService.isReferenceOfChild(NotificationType.NOTE_ASSET_UPLOADED, noteId, childId))
+                .thenReturn(true);
+        when(authorizedUserRepository.findByChildIdAndPermission(childId, ChildPermissionType.VIEW_REPORT))
+                .thenReturn(List.of(viewer(actorUserId), viewer(therapistUserId), viewer(parentUserId)));
+
+        List<SavedNotification> saved = batchWriter.saveAll(List.of(
+                PendingNotification.toChildViewers(childId, actorUserId,
+                        NotificationType.NOTE_COMMENT_ADDED, "title", "message", commentId),
+                PendingNotification.toChildViewers(childId, actorUserId,
+                        NotificationType.NOTE_ASSET_UPLOADED, "title", "message", noteId)
+        ));
+
+        verify(authorizedUserRepository, times(1))
+                .findByChildIdAndPermission(childId, ChildPermissionType.VIEW_REPORT);
+        verify(notificationService, never()).isAuthorizedReceiver(any(), any(), any());
+
+        ArgumentCaptor<Collection<?>> rowsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(
+                anyString(), rowsCaptor.capture(), eq(4), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(4, rowsCaptor.getValue().size());
+        assertEquals(4, saved.size());
+        assertTrue(saved.stream().noneMatch(row -> row.receiverUserId().equals(actorUserId)));
+        assertTrue(saved.stream().allMatch(row -> dbNow.equals(row.notification().getCreatedAt())));
+        assertEquals(4L, opsMetricService.snapshot().get("notificationWrittenCount"));
+
+        batchWriter.publishAll(saved);
+
+        verify(notificationService, times(2)).publish(eq(therapistUserId), any(NotificationDTO.class));
+        verify(notificationService, times(2)).publish(eq(parentUserId), any(NotificationDTO.class));
+    }
+
+    @Test
+    @DisplayName("참조 대상이 아동에 속하지 않으면 저장하지 않는다")
+    @SuppressWarnings("unchecked")
+    void saveAll_referenceOutsideChild_skipsNotification() {
+        UUID childId = UUID.randomUUID();
+        UUID commentId = UUID.randomUUID();
+
+        when(notificationService.isReferenceOfChild(NotificationType.NOTE_COMMENT_ADDED, commentId, childId))
+                .thenReturn(false);
+
+        List<SavedNotification> saved = batchWriter.saveAll(List.of(PendingNotification.toChildViewers(
+                childId, UUID.randomUUID(), NotificationType.NOTE_COMMENT_ADDED,
+                "title", "message", commentId)));
+
+        assertTrue(saved.isEmpty());
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(LocalDateTime.class));
+        verify(authorizedUserRepository, never()).findByChildIdAndPermission(any(), any());
+        verify(jdbcTemplate, never()).batchUpdate(
+                anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(1L, opsMetricService.snapshot().get("notificationWriteSkippedCount"));
+    }
+
+    private ChildrenAuthorizedUser viewer(UUID userId) {
+        User user = mock(User.class);
+        when(user.getUserId()).thenReturn(userId);
+        ChildrenAuthorizedUser authorizedUser = mock(ChildrenAuthorizedUser.class);
+        when(authorizedUser.getUser()).thenReturn(user);
+        return authorizedUser;
+    }
+}
@@ -0,0 +1,200 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planB.myexpressionfriend.common.domain.notification.NotificationType;
+import com.planB.myexpressionfriend.common.dto.notification.NotificationDTO;
+import com.planB.myexpressionfriend.common.event.ChildPermissionChangedEvent;
+import com.planB.myexpressionfriend.common.event.MissionCompletedEvent;
+import com.planB.myexpressionfriend.common.event.NoteCommentCreatedEvent;
+import com.planB.myexpressionfriend.common.service.NotificationBatchWriter.PendingNotification;
+import com.planB.myexpressionfriend.common.service.NotificationBatchWriter.SavedNotification;
+import com.planB.myexpressionfriend.common.service.NotificationOutbox.OutboxRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private NotificationBatchWriter batchWriter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OpsMetricService opsMetricService;
+    private NotificationOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        opsMetricService = new OpsMetricService();
+        outbox = new NotificationOutbox(
+                jdbcTemplate, transactionManager, batchWriter, objectMapper, opsMetricService, 200, 1000L, 3, 1000L);
+    }
+
+    @Test
+    @DisplayName("이벤트는 유형과 JSON 본문으로 아웃박스에 기록된다")
+    void append_writesEventTypeAndPayload() throws Exception {
+        MissionCompletedEvent event = new MissionCompletedEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        outbox.append(event);
+
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(anyString(), any(UUID.class), eq("MissionCompletedEvent"),
+                payloadCaptor.capture(), any(Timestamp.class));
+        assertEquals(event, objectMapper.readValue((String) payloadCaptor.getValue(), MissionCompletedEvent.class));
+        assertEquals(1L, opsMetricService.snapshot().get("notificationOutboxAppendedCount"));
+    }
+
+    @Test
+    @DisplayName("알림 대상이 아닌 이벤트는 아웃박스에 기록할 수 없다")
+    void append_unsupportedEvent_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> outbox.append(ChildPermissionChangedEvent.ofChild(UUID.randomUUID())));
+    }
+
+    @Test
+    @DisplayName("릴레이는 가져온 행을 알림으로 저장하고 삭제한 뒤 전송하며, 읽을 수 없는 행은 폐기한다")
+    @SuppressWarnings("unchecked")
+    void relayBatch_savesNotificationsDeletesRowsAndPublishes() throws Exception {
+        NoteCommentCreatedEvent event = new NoteCommentCreatedEvent(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), true);
+        LocalDateTime createdAt = LocalDateTime.now().minusSeconds(5);
+        List<OutboxRow> rows = List.of(
+                new OutboxRow(UUID.randomUUID(), "NoteCommentCreatedEvent",
+                        objectMapper.writeValueAsString(event), createdAt, 0),
+                new OutboxRow(UUID.randomUUID(), "NoteCommentCreatedEvent", "{broken", createdAt, 0)
+        );
+        List<SavedNotification> saved = List.of(new SavedNotification(
+                UUID.randomUUID(), NotificationDTO.builder().notificationId(UUID.randomUUID()).build()));
+
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Timestamp.class), anyInt())).thenReturn(rows);
+        when(batchWriter.saveAll(anyList())).thenReturn(saved);
+
+        int relayed = outbox.relayBatch();
+
+        assertEquals(2, relayed);
+        ArgumentCaptor<List<PendingNotification>> pendingCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter).saveAll(pendingCaptor.capture());
+        PendingNotification pending = pendingCaptor.getValue().get(0);
+        assertEquals(1, pendingCaptor.getValue().size());
+        assertEquals(NotificationType.NOTE_REPLY_ADDED, pending.type());
+        assertEquals(event.childId(), pending.childId());
+        assertEquals(event.commentId(), pending.referenceId());
+
+        ArgumentCaptor<Collection<?>> deleteCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(
+                anyString(), deleteCaptor.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(2, deleteCaptor.getValue().size());
+        verify(batchWriter).publishAll(saved);
+        assertEquals(1L, opsMetricService.snapshot().get("notificationOutboxDiscardedCount"));
+        assertEquals(2L, opsMetricService.snapshot().get("notificationOutboxRelayedCount"));
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 건별로 다시 처리해 문제 행만 남기고 나머지는 저장한다")
+    @SuppressWarnings("unchecked")
+    void relayBatch_batchFailure_isolatesFailingRow() throws Exception {
+        MissionCompletedEvent goodEvent = new MissionCompletedEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        MissionCompletedEvent badEvent = new MissionCompletedEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        OutboxRow good = new OutboxRow(UUID.randomUUID(), "MissionCompletedEvent",
+                objectMapper.writeValueAsString(goodEvent), LocalDateTime.now(), 0);
+        OutboxRow bad = new OutboxRow(UUID.randomUUID(), "MissionCompletedEvent",
+                objectMapper.writeValueAsString(badEvent), LocalDateTime.now(), 0);
+        List<SavedNotification> saved = List.of(new SavedNotification(
+                goodEvent.therapistUserId(), NotificationDTO.builder().notificationId(UUID.randomUUID()).build()));
+
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Timestamp.class), anyInt()))
+                .thenReturn(List.of(good, bad));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(good.outboxId()))).thenReturn(List.of(good));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(bad.outboxId()))).thenReturn(List.of(bad));
+        when(batchWriter.saveAll(anyList())).thenAnswer(invocation -> {
+            List<PendingNotification> pending = invocation.getArgument(0);
+            if (pending.stream().anyMatch(p -> p.referenceId().equals(badEvent.missionId()))) {
+                throw new DataIntegrityViolationException("fk violation");
+            }
+            return saved;
+        });
+
+        int relayed = outbox.relayBatch();
+
+        assertEquals(1, relayed);
+        verify(jdbcTemplate).update(anyString(), eq(good.outboxId()));
+        verify(jdbcTemplate, never()).update(anyString(), eq(bad.outboxId()));
+        verify(jdbcTemplate).update(anyString(), eq("fk violation"), any(Timestamp.class), eq(3),
+                any(Timestamp.class), eq(bad.outboxId()));
+        verify(batchWriter).publishAll(saved);
+        assertEquals(1L, opsMetricService.snapshot().get("notificationOutboxRelayedCount"));
+        assertEquals(1L, opsMetricService.snapshot().get("notificationOutboxFailedCount"));
+        assertEquals(0L, opsMetricService.snapshot().get("notificationOutboxParkedCount"));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 행은 parked로 빠진다")
+    @SuppressWarnings("unchecked")
+    void relayBatch_maxAttemptsReached_parksRow() throws Exception {
+        MissionCompletedEvent event = new MissionCompletedEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        OutboxRow row = new OutboxRow(UUID.randomUUID(), "MissionCompletedEvent",
+                objectMapper.writeValueAsString(event), LocalDateTime.now(), 2);
+
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Timestamp.class), anyInt()))
+                .thenReturn(List.of(row));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(row.outboxId()))).thenReturn(List.of(row));
+        when(batchWriter.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("fk violation"));
+
+        int relayed = outbox.relayBatch();
+
+        assertEquals(0, relayed);
+        verify(jdbcTemplate).update(anyString(), eq("fk violation"), any(Timestamp.class), eq(3),
+                any(Timestamp.class), eq(row.outboxId()));
+        verify(batchWriter, never()).publishAll(any());
+        assertEquals(1L, opsMetricService.snapshot().get("notificationOutboxParkedCount"));
+    }
+
+    @Test
+    @DisplayName("아웃박스 조회에 실패하면 행을 삭제하지 않고 전송하지 않는다")
+    @SuppressWarnings("unchecked")
+    void relayBatch_queryFailure_keepsRowsForRetry() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Timestamp.class), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        int relayed = outbox.relayBatch();
+
+        assertEquals(0, relayed);
+        verify(jdbcTemplate, never()).batchUpdate(
+                anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(batchWriter, never()).saveAll(anyList());
+        verify(batchWriter, never()).publishAll(any());
+        assertEquals(1L, opsMetricService.snapshot().get("notificationOutboxFailedCount"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import com.planB.myexpressionfriend.common.domain.report.GeneratedReport;
+import com.planB.myexpressionfriend.common.domain.report.ReportPreference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportAutoPublishSchedulerTest {
+
+    @Mock
+    private ReportPreferenceService reportPreferenceService;
+    @Mock
+    private GeneratedReportService generatedReportService;
+    @Mock
+    private ReportLlmClient reportLlmClient;
+    @Mock
+    private ChildAuthorizationService childAuthorizationService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private OpsMetricService opsMetricService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ReportGenerationExecutor reportGenerationExecutor;
+    @Mock
+    private ResilientReportLlmClient resilientReportLlmClient;
+
+    private ReportAutoPublishScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReportGenerationService reportGenerationService = new ReportGenerationService(
+                reportPreferenceService, generatedReportService, reportLlmClient, childAuthorizationService,
+                eventPublisher, opsMetricService, transactionManager, reportGenerationExecutor);
+        scheduler = new ReportAutoPublishScheduler(
+                reportPreferenceService, reportGenerationService, resilientReportLlmClient);
+        ReflectionTestUtils.setField(scheduler, "schedulerEnabled", true);
+    }
+
+    @Test
+    @DisplayName("생성 대기열이 가득 차면 남은 대상은 다음 주기로 미루고 실패 처리는 거절된 한 건만 한다")
+    void publishScheduledReports_queueFull_stopsAfterFirstRejection() {
+        List<ReportPreference> targets = List.of(preference(), preference(), preference());
+        UUID rejectedReportId = UUID.randomUUID();
+
+        when(resilientReportLlmClient.isCircuitOpen()).thenReturn(false);
+        when(reportPreferenceService.findIssuablePreferences(any())).thenReturn(targets);
+        when(childAuthorizationService.hasPermission(any(), any(), eq(ChildPermissionType.VIEW_REPORT)))
+                .thenReturn(true);
+        when(generatedReportService.createPendingReport(any(), any(), any(), any(), any()))
+                .thenReturn(GeneratedReport.builder().reportId(rejectedReportId).build());
+        when(reportGenerationExecutor.submit(any())).thenThrow(new RejectedExecutionException("queue full"));
+
+        scheduler.publishScheduledReports();
+
+        verify(generatedReportService, times(1)).createPendingReport(any(), any(), any(), any(), any());
+        verify(generatedReportService, times(1)).markFailed(eq(rejectedReportId), anyString());
+        verify(reportPreferenceService, times(1)).postponeNextIssue(eq(targets.get(0).getUserId()), any());
+    }
+
+    private ReportPreference preference() {
+        return ReportPreference.builder()
+                .userId(UUID.randomUUID())
+                .targetChildId(UUID.randomUUID())
+                .modelName("default")
+                .maxTokens(1200)
+                .build();
+    }
+}
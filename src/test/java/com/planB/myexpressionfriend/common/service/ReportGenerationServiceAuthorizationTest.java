@@ -3,6 +3,9 @@ package com.planB.myexpressionfriend.common.service;
 import com.planB.myexpressionfriend.common.domain.report.GeneratedReport;
 import com.planB.myexpressionfriend.common.domain.report.ReportPreference;
 import com.planB.myexpressionfriend.common.dto.report.GeneratedReportDTO;
+import com.planB.myexpressionfriend.common.event.ReportFailedEvent;
+import com.planB.myexpressionfriend.common.event.ReportGeneratedEvent;
+import com.planB.myexpressionfriend.common.exception.ServiceBusyException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,16 +14,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,13 +47,19 @@ class ReportGenerationServiceAuthorizationTest {
     private ChildAuthorizationService childAuthorizationService;
     @Mock
     private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private OpsMetricService opsMetricService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ReportGenerationExecutor reportGenerationExecutor;
 
     @InjectMocks
     private ReportGenerationService reportGenerationService;
 
     @Test
     @DisplayName("VIEW_REPORT 권한이 없으면 테스트 리포트 생성이 거부된다")
-    void generateTestReport_withoutViewReport_throwsAccessDenied() {
+    void requestTestReport_withoutViewReport_throwsAccessDenied() {
         UUID userId = UUID.randomUUID();
         UUID childId = UUID.randomUUID();
 
@@ -63,15 +78,16 @@ class ReportGenerationServiceAuthorizationTest {
         )).thenReturn(false);
 
         assertThrows(AccessDeniedException.class,
-                () -> reportGenerationService.generateTestReport(userId, childId, null, null));
+                () -> reportGenerationService.requestTestReport(userId, childId, null, null));
 
         verify(generatedReportService, never()).createPendingReport(any(), any(), any(), any(), any());
-        verify(reportLlmClient, never()).generateReport(anyString(), anyInt(), anyString());
+        verify(reportGenerationExecutor, never()).submit(any());
+        verify(reportLlmClient, never()).generateReport(anyString(), anyInt(), anyString(), anyBoolean());
     }
 
     @Test
     @DisplayName("VIEW_REPORT 권한이 있으면 테스트 리포트 생성이 허용된다")
-    void generateTestReport_withViewReport_ok() {
+    void requestTestReport_withViewReport_ok() {
         UUID userId = UUID.randomUUID();
         UUID childId = UUID.randomUUID();
         UUID reportId = UUID.randomUUID();
@@ -110,16 +126,106 @@ class ReportGenerationServiceAuthorizationTest {
                 com.planB.myexpressionfriend.common.domain.child.ChildPermissionType.VIEW_REPORT
         )).thenReturn(true);
         when(generatedReportService.createPendingReport(any(), any(), any(), any(), any())).thenReturn(pending);
-        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString())).thenReturn("body");
+        when(generatedReportService.getUserReport(userId, reportId)).thenReturn(pending);
+        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString(), anyBoolean())).thenReturn("body");
         when(generatedReportService.markGenerated(any(), any(), any(), any(), any(), any(), any()))
                 .thenReturn(generated);
         when(reportPreferenceService.calculateNextIssueAt(any(), any())).thenReturn(LocalDateTime.now().plusDays(7));
+        when(reportGenerationExecutor.submit(any())).thenAnswer(invocation -> {
+            Supplier<?> task = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(task.get());
+        });
 
-        GeneratedReportDTO result = reportGenerationService.generateTestReport(userId, childId, null, null);
+        GeneratedReportDTO result = reportGenerationService.requestTestReport(userId, childId, null, null);
 
         assertNotNull(result);
         assertEquals(reportId, result.getReportId());
         verify(generatedReportService).createPendingReport(any(), any(), any(), any(), any());
-        verify(reportLlmClient).generateReport(anyString(), anyInt(), anyString());
+        verify(reportLlmClient).generateReport(anyString(), anyInt(), anyString(), anyBoolean());
+        verify(eventPublisher).publishEvent(eq(new ReportGeneratedEvent(reportId, userId)));
+    }
+
+    @Test
+    @DisplayName("생성 대기열이 가득 차면 리포트를 FAILED 처리하고 503(ServiceBusyException)으로 거절한다")
+    void requestTestReport_queueFull_throwsServiceBusy() {
+        UUID userId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        UUID reportId = UUID.randomUUID();
+
+        ReportPreference preference = ReportPreference.builder()
+                .userId(userId)
+                .targetChildId(childId)
+                .modelName("default")
+                .maxTokens(1200)
+                .build();
+
+        GeneratedReport pending = GeneratedReport.builder()
+                .reportId(reportId)
+                .userId(userId)
+                .targetChildId(childId)
+                .build();
+
+        when(reportPreferenceService.getOrCreate(userId)).thenReturn(preference);
+        when(childAuthorizationService.hasPermission(
+                childId,
+                userId,
+                com.planB.myexpressionfriend.common.domain.child.ChildPermissionType.VIEW_REPORT
+        )).thenReturn(true);
+        when(generatedReportService.createPendingReport(any(), any(), any(), any(), any())).thenReturn(pending);
+        when(reportGenerationExecutor.submit(any())).thenThrow(new RejectedExecutionException("queue full"));
+
+        assertThrows(ServiceBusyException.class,
+                () -> reportGenerationService.requestTestReport(userId, childId, null, null));
+
+        verify(generatedReportService).markFailed(eq(reportId), anyString());
+        verify(eventPublisher).publishEvent(eq(new ReportFailedEvent(reportId, userId)));
+        verify(reportLlmClient, never()).generateReport(anyString(), anyInt(), anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 PENDING 리포트를 반환하고, LLM 실패 시 FAILED 처리와 실패 이벤트를 발행한다")
+    void requestTestReport_llmFailure_marksFailedAndPublishesEvent() {
+        UUID userId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        UUID reportId = UUID.randomUUID();
+
+        ReportPreference preference = ReportPreference.builder()
+                .userId(userId)
+                .targetChildId(childId)
+                .modelName("default")
+                .maxTokens(1200)
+                .build();
+
+        GeneratedReport pending = GeneratedReport.builder()
+                .reportId(reportId)
+                .userId(userId)
+                .targetChildId(childId)
+                .build();
+
+        when(reportPreferenceService.getOrCreate(userId)).thenReturn(preference);
+        when(childAuthorizationService.hasPermission(
+                childId,
+                userId,
+                com.planB.myexpressionfriend.common.domain.child.ChildPermissionType.VIEW_REPORT
+        )).thenReturn(true);
+        when(generatedReportService.createPendingReport(any(), any(), any(), any(), any())).thenReturn(pending);
+        when(generatedReportService.getUserReport(userId, reportId)).thenReturn(pending);
+        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString(), anyBoolean()))
+                .thenThrow(new IllegalStateException("LLM timeout"));
+        when(reportGenerationExecutor.submit(any())).thenAnswer(invocation -> {
+            Supplier<?> task = invocation.getArgument(0);
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+
+        GeneratedReportDTO result = reportGenerationService.requestTestReport(userId, childId, null, null);
+
+        assertEquals(reportId, result.getReportId());
+        verify(generatedReportService).markFailed(reportId, "LLM timeout");
+        verify(eventPublisher).publishEvent(eq(new ReportFailedEvent(reportId, userId)));
+        verify(generatedReportService, never()).markGenerated(any(), any(), any(), any(), any(), any(), any());
     }
 }
@@ -0,0 +1,121 @@
+package com.planB.myexpressionfriend.common.service;
+
+import com.planB.myexpressionfriend.common.config.GeminiProperties;
+import com.planB.myexpressionfriend.common.exception.LlmQuotaExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientReportLlmClientTest {
+
+    @Mock
+    private ReportLlmClient delegate;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private OpsMetricService opsMetricService;
+    private LlmConcurrencyLimiter concurrencyLimiter;
+    private ResilientReportLlmClient client;
+
+    @BeforeEach
+    void setUp() {
+        GeminiProperties properties = new GeminiProperties();
+        properties.setEnabled(true);
+        opsMetricService = new OpsMetricService();
+        concurrencyLimiter = new LlmConcurrencyLimiter(4, 1, 20, 1000);
+        client = new ResilientReportLlmClient(
+                delegate,
+                properties,
+                opsMetricService,
+                new LlmCircuitBreaker(2, 30, nanoTime::get),
+                concurrencyLimiter,
+                new LlmRateBudget(3, 100_000, nanoTime::get),
+                0
+        );
+    }
+
+    @Test
+    @DisplayName("429 응답이면 retryAfterSeconds 동안 서킷을 열고, 이후 시험 호출이 성공하면 닫는다")
+    void quotaExceeded_opensCircuitUntilRetryAfter() {
+        when(delegate.generateReport(anyString(), anyInt(), anyString()))
+                .thenThrow(new LlmQuotaExceededException("quota", 10))
+                .thenReturn("ok");
+
+        assertThrows(LlmQuotaExceededException.class, () -> client.generateReport("prompt", 100, "default"));
+        assertTrue(client.isCircuitOpen());
+
+        LlmQuotaExceededException rejected = assertThrows(LlmQuotaExceededException.class,
+                () -> client.generateReport("prompt", 100, "default"));
+        assertEquals(10, rejected.getRetryAfterSeconds());
+        verify(delegate, times(1)).generateReport(anyString(), anyInt(), anyString());
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals("ok", client.generateReport("prompt", 100, "default"));
+        assertFalse(client.isCircuitOpen());
+        assertEquals(1L, opsMetricService.snapshot().get("llmCircuitRejectedCount"));
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 서킷을 열고 동시 호출 한도를 줄인다")
+    void consecutiveFailures_openCircuitAndShrinkLimit() {
+        when(delegate.generateReport(anyString(), anyInt(), anyString()))
+                .thenThrow(new IllegalStateException("timeout"));
+
+        assertThrows(IllegalStateException.class, () -> client.generateReport("prompt", 100, "default"));
+        assertEquals(2, concurrencyLimiter.limit());
+        assertThrows(IllegalStateException.class, () -> client.generateReport("prompt", 100, "default"));
+        assertEquals(1, concurrencyLimiter.limit());
+
+        assertTrue(client.isCircuitOpen());
+        assertThrows(LlmQuotaExceededException.class, () -> client.generateReport("prompt", 100, "default"));
+        verify(delegate, times(2)).generateReport(anyString(), anyInt(), anyString());
+        assertEquals(0, concurrencyLimiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("분당 요청 예산을 모두 쓰면 호출하지 않고 거절하며, 시간이 지나면 다시 허용한다")
+    void requestBudgetExhausted_rejectsUntilRefilled() {
+        when(delegate.generateReport(anyString(), anyInt(), anyString())).thenReturn("ok");
+
+        for (int i = 0; i < 3; i++) {
+            client.generateReport("prompt", 100, "default");
+        }
+        LlmQuotaExceededException rejected = assertThrows(LlmQuotaExceededException.class,
+                () -> client.generateReport("prompt", 100, "default"));
+        assertEquals(20, rejected.getRetryAfterSeconds());
+        assertEquals(1L, opsMetricService.snapshot().get("llmBudgetRejectedCount"));
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(21));
+        assertEquals("ok", client.generateReport("prompt", 100, "default"));
+        verify(delegate, times(4)).generateReport(anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도가 차 있으면 대기 시간 내에 자리가 없을 때 거절한다")
+    void concurrencyLimitReached_rejects() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(concurrencyLimiter.tryAcquire(0));
+        }
+
+        assertThrows(LlmQuotaExceededException.class, () -> client.generateReport("prompt", 100, "default"));
+        verify(delegate, never()).generateReport(anyString(), anyInt(), anyString());
+        assertEquals(1L, opsMetricService.snapshot().get("llmConcurrencyRejectedCount"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.dto.game.CachedGameSession;
+import com.planB.myexpressionfriend.common.exception.InvalidRequestException;
+import com.planB.myexpressionfriend.common.repository.GameSessionRepository;
+import com.planB.myexpressionfriend.common.security.GameSessionTokenCache;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultAckDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultBatchRequestDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultBatchResponseDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityGameResultItemDTO;
+import com.planB.myexpressionfriend.unity.repository.UnityGameResultRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnityGameResultServiceBatchTest {
+
+    @Mock
+    private UnityGameResultRepository unityGameResultRepository;
+    @Mock
+    private GameSessionRepository gameSessionRepository;
+    @Mock
+    private GameSessionTokenCache gameSessionTokenCache;
+    @Mock
+    private UnityGameResultWriteQueue writeQueue;
+    @Mock
+    private UnityGameStatsService statsService;
+
+    private UnityGameResultService unityGameResultService;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        unityGameResultService = new UnityGameResultService(
+                unityGameResultRepository, gameSessionRepository, gameSessionTokenCache, writeQueue, statsService, validator);
+    }
+
+    @Test
+    @DisplayName("세션은 한 번만 검증하고 항목별로 접수/거절 ack를 반환한다")
+    void saveResults_returnsPerItemAcks() {
+        UUID childId = UUID.randomUUID();
+        when(gameSessionTokenCache.findValidSession("token"))
+                .thenReturn(Optional.of(new CachedGameSession(
+                        UUID.randomUUID(), childId, LocalDateTime.now().plusHours(1), true)));
+        when(writeQueue.offer(any())).thenReturn(true, false);
+
+        UnityGameResultBatchResponseDTO response = unityGameResultService.saveResults(
+                UnityGameResultBatchRequestDTO.builder()
+                        .sessionToken("token")
+                        .results(List.of(item("a", 80), item("b", 150), item("c", 90)))
+                        .build());
+
+        assertEquals(childId, response.getChildId());
+        assertEquals(1, response.getAcceptedCount());
+        assertEquals(2, response.getRejectedCount());
+        assertEquals(UnityGameResultAckDTO.Status.ACCEPTED, response.getAcks().get(0).getStatus());
+        assertEquals(UnityGameResultAckDTO.Status.REJECTED, response.getAcks().get(1).getStatus());
+        assertEquals("c", response.getAcks().get(2).getClientResultId());
+        assertEquals(UnityGameResultAckDTO.Status.REJECTED, response.getAcks().get(2).getStatus());
+        verify(gameSessionTokenCache, times(1)).findValidSession("token");
+        verify(writeQueue, times(2)).offer(any());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 세션이면 항목을 적재하지 않는다")
+    void saveResults_invalidSession_throws() {
+        when(gameSessionTokenCache.findValidSession("expired")).thenReturn(Optional.empty());
+
+        assertThrows(InvalidRequestException.class, () -> unityGameResultService.saveResults(
+                UnityGameResultBatchRequestDTO.builder()
+                        .sessionToken("expired")
+                        .results(List.of(item("a", 80)))
+                        .build()));
+        verify(writeQueue, never()).offer(any());
+    }
+
+    private UnityGameResultItemDTO item(String clientResultId, int score) {
+        return UnityGameResultItemDTO.builder()
+                .clientResultId(clientResultId)
+                .missionId(1)
+                .success(true)
+                .score(score)
+                .durationSeconds(12.5f)
+                .retryCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnityGameResultWriteQueueTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private UnityGameStatsService statsService;
+
+    private OpsMetricService opsMetricService;
+    private UnityGameResultWriteQueue writeQueue;
+
+    @BeforeEach
+    void setUp() {
+        opsMetricService = new OpsMetricService();
+        writeQueue = new UnityGameResultWriteQueue(
+                jdbcTemplate, transactionManager, statsService, opsMetricService,
+                100, 500, 60_000L, 2, 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("배치 중 한 행이 제약 조건을 위반하면 건별 저장으로 전환해 나머지 행은 저장한다")
+    @SuppressWarnings("unchecked")
+    void write_constraintViolation_isolatesBadRow() {
+        UnityGameResultWriteQueue.PendingGameResult good1 = pending(1);
+        UnityGameResultWriteQueue.PendingGameResult bad = pending(999);
+        UnityGameResultWriteQueue.PendingGameResult good2 = pending(2);
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<UnityGameResultWriteQueue.PendingGameResult> rows = invocation.getArgument(1);
+                    if (rows.contains(bad)) {
+                        throw new DataIntegrityViolationException("fk violation");
+                    }
+                    return new int[][]{{1}};
+                });
+
+        writeQueue.write(List.of(good1, bad, good2));
+
+        ArgumentCaptor<List<UnityGameResultWriteQueue.PendingGameResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(statsService, times(2)).recordResults(captor.capture());
+        assertEquals(List.of(List.of(good1), List.of(good2)), captor.getAllValues());
+        assertEquals(2L, opsMetricService.snapshot().get("unityResultFlushedCount"));
+        assertEquals(1L, opsMetricService.snapshot().get("unityResultFailedCount"));
+        assertEquals(0L, opsMetricService.snapshot().get("unityResultRetriedCount"));
+    }
+
+    @Test
+    @DisplayName("일시적 DB 오류는 배치 단위로 재시도해 저장한다")
+    @SuppressWarnings("unchecked")
+    void write_transientFailure_retriesBatch() {
+        AtomicInteger calls = new AtomicInteger();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    if (calls.incrementAndGet() == 1) {
+                        throw new QueryTimeoutException("timeout");
+                    }
+                    return new int[][]{{1, 1}};
+                });
+
+        writeQueue.write(List.of(pending(1), pending(2)));
+
+        assertEquals(2, calls.get());
+        verify(statsService, times(1)).recordResults(any());
+        assertEquals(2L, opsMetricService.snapshot().get("unityResultFlushedCount"));
+        assertEquals(1L, opsMetricService.snapshot().get("unityResultRetriedCount"));
+        assertEquals(0L, opsMetricService.snapshot().get("unityResultFailedCount"));
+    }
+
+    private UnityGameResultWriteQueue.PendingGameResult pending(int missionId) {
+        return new UnityGameResultWriteQueue.PendingGameResult(
+                UUID.randomUUID(), UUID.randomUUID(), missionId, true, 80, 10.0f, 0, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,166 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import com.planB.myexpressionfriend.common.service.ChildAuthorizationService;
+import com.planB.myexpressionfriend.unity.domain.UnityGameDailyStat;
+import com.planB.myexpressionfriend.unity.dto.UnityGameStatsResponseDTO;
+import com.planB.myexpressionfriend.unity.repository.UnityGameDailyStatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnityGameStatsServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private UnityGameDailyStatRepository dailyStatRepository;
+    @Mock
+    private ChildAuthorizationService childAuthorizationService;
+
+    private UnityGameStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new UnityGameStatsService(jdbcTemplate, dailyStatRepository, childAuthorizationService);
+    }
+
+    @Test
+    @DisplayName("같은 (아동, 미션, 날짜) 결과는 하나의 UPSERT 행으로 합쳐진다")
+    @SuppressWarnings("unchecked")
+    void recordResults_mergesSameKey() throws SQLException {
+        UUID childId = UUID.randomUUID();
+        LocalDateTime morning = LocalDateTime.of(2026, 3, 2, 9, 0);
+        List<UnityGameResultWriteQueue.PendingGameResult> results = List.of(
+                pending(childId, 1, true, 80, morning),
+                pending(childId, 1, false, 40, morning.plusHours(1)),
+                pending(childId, 2, true, 90, morning),
+                pending(childId, 1, true, 70, morning.plusDays(1))
+        );
+
+        statsService.recordResults(results);
+
+        ArgumentCaptor<Collection<Object>> rows = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Object>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), anyInt(), setter.capture());
+        assertEquals(3, rows.getValue().size());
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, rows.getValue().iterator().next());
+        verify(ps).setInt(6, 2);
+        verify(ps).setInt(7, 1);
+        verify(ps).setLong(8, 120L);
+        verify(ps).setInt(9, 80);
+        verify(ps).setLong(11, 2L);
+        verify(ps).setTimestamp(12, Timestamp.valueOf(morning.plusHours(1)));
+    }
+
+    @Test
+    @DisplayName("일별 집계 행으로 합계, 감정별/미션별 통계, 재시도, 연속 성공일을 계산한다")
+    void getChildStats_summarizesDailyRows() {
+        UUID childId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        LocalDate to = LocalDate.of(2026, 3, 10);
+        when(childAuthorizationService.hasPermission(childId, userId, ChildPermissionType.VIEW_REPORT)).thenReturn(true);
+        when(dailyStatRepository.findByChildIdAndStatDateBetweenOrderByStatDateAsc(childId, to.minusDays(29), to))
+                .thenReturn(List.of(
+                        stat(childId, 1, "HAPPY", to.minusDays(5), 2, 1, 150, 2),
+                        stat(childId, 1, "HAPPY", to.minusDays(4), 1, 1, 90, 0),
+                        stat(childId, 2, "SAD", to.minusDays(4), 1, 0, 30, 3),
+                        stat(childId, 2, "SAD", to.minusDays(3), 1, 1, 70, 1),
+                        stat(childId, 2, null, to.minusDays(1), 2, 0, 60, 0),
+                        stat(childId, 1, "HAPPY", to, 1, 1, 100, 1)
+                ));
+
+        UnityGameStatsResponseDTO stats = statsService.getChildStats(childId, userId, null, to);
+
+        assertEquals(8, stats.getTotalAttempts());
+        assertEquals(4, stats.getTotalSuccesses());
+        assertEquals(0.5, stats.getSuccessRate(), 1e-9);
+        assertEquals(62.5, stats.getAverageScore(), 1e-9);
+        assertEquals(7, stats.getTotalRetries());
+        assertEquals(0.875, stats.getAverageRetries(), 1e-9);
+        assertEquals(5, stats.getActiveDays());
+        assertEquals(3, stats.getLongestStreakDays());
+        assertEquals(1, stats.getCurrentStreakDays());
+        assertEquals("HAPPY", stats.getByEmotion().get(0).getTargetEmotion());
+        assertEquals(4, stats.getByEmotion().get(0).getAttempts());
+        assertEquals(3, stats.getByEmotion().get(0).getTotalRetries());
+        assertEquals(0.75, stats.getByEmotion().get(0).getAverageRetries(), 1e-9);
+        assertEquals("SAD", stats.getByEmotion().get(1).getTargetEmotion());
+        assertEquals(2.0, stats.getByEmotion().get(1).getAverageRetries(), 1e-9);
+        assertEquals(UnityGameStatsService.UNKNOWN_EMOTION, stats.getByEmotion().get(2).getTargetEmotion());
+        assertEquals("SAD", stats.getByMission().get(1).getTargetEmotion());
+        assertEquals(3, stats.getByMission().get(0).getTotalRetries());
+        assertEquals(4, stats.getByMission().get(1).getTotalRetries());
+        assertEquals(1.0, stats.getByMission().get(1).getAverageRetries(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("VIEW_REPORT 권한이 없으면 집계를 조회하지 않는다")
+    void getChildStats_withoutPermission_throws() {
+        UUID childId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        when(childAuthorizationService.hasPermission(childId, userId, ChildPermissionType.VIEW_REPORT)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class,
+                () -> statsService.getChildStats(childId, userId, null, null));
+        verify(dailyStatRepository, never()).findByChildIdAndStatDateBetweenOrderByStatDateAsc(any(), any(), any());
+    }
+
+    private UnityGameResultWriteQueue.PendingGameResult pending(
+            UUID childId, int missionId, boolean success, int score, LocalDateTime createdAt
+    ) {
+        return new UnityGameResultWriteQueue.PendingGameResult(
+                UUID.randomUUID(), childId, missionId, success, score, 10.0f, 1, createdAt);
+    }
+
+    private UnityGameDailyStat stat(
+            UUID childId, int missionId, String emotion, LocalDate date,
+            int attempts, int successes, long scoreSum, long retrySum
+    ) {
+        UnityGameDailyStat stat = BeanUtils.instantiateClass(UnityGameDailyStat.class);
+        ReflectionTestUtils.setField(stat, "childId", childId);
+        ReflectionTestUtils.setField(stat, "missionId", missionId);
+        ReflectionTestUtils.setField(stat, "targetEmotion", emotion);
+        ReflectionTestUtils.setField(stat, "statDate", date);
+        ReflectionTestUtils.setField(stat, "attemptCount", attempts);
+        ReflectionTestUtils.setField(stat, "successCount", successes);
+        ReflectionTestUtils.setField(stat, "scoreSum", scoreSum);
+        ReflectionTestUtils.setField(stat, "maxScore", (int) scoreSum);
+        ReflectionTestUtils.setField(stat, "durationSecondsSum", 10.0 * attempts);
+        ReflectionTestUtils.setField(stat, "retrySum", retrySum);
+        ReflectionTestUtils.setField(stat, "lastPlayedAt", date.atTime(12, 0));
+        return stat;
+    }
+}
@@ -0,0 +1,46 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.unity.dto.UnityMissionResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UnityMissionCatalogCacheTest {
+
+    @Test
+    @DisplayName("버전이 바뀌기 전까지는 캐시된 카탈로그를 반환한다")
+    void get_reusesSnapshotUntilInvalidated() {
+        UnityMissionCatalogCache cache = new UnityMissionCatalogCache(60);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<UnityMissionResponseDTO>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of(UnityMissionResponseDTO.builder().missionId(loads.get()).build());
+        };
+
+        assertEquals(1, cache.get(loader).get(0).getMissionId());
+        assertEquals(1, cache.get(loader).get(0).getMissionId());
+        assertEquals(1, loads.get());
+
+        cache.invalidate();
+
+        assertEquals(2, cache.get(loader).get(0).getMissionId());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 버전이 같아도 다시 적재한다")
+    void get_reloadsAfterTtl() {
+        UnityMissionCatalogCache cache = new UnityMissionCatalogCache(0);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(() -> List.of(UnityMissionResponseDTO.builder().missionId(loads.incrementAndGet()).build()));
+        cache.get(() -> List.of(UnityMissionResponseDTO.builder().missionId(loads.incrementAndGet()).build()));
+
+        assertEquals(2, loads.get());
+    }
+}
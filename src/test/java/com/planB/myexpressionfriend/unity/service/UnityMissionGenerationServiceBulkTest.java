@@ -0,0 +1,170 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.exception.InvalidRequestException;
+import com.planB.myexpressionfriend.common.exception.ServiceBusyException;
+import com.planB.myexpressionfriend.common.service.ReportLlmClient;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionGenerationType;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionImportRequestDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionImportResultDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionItemDTO;
+import com.planB.myexpressionfriend.unity.dto.prompt.UnityMissionChildPromptContextDTO;
+import com.planB.myexpressionfriend.unity.dto.prompt.UnityMissionPromptContextDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnityMissionGenerationServiceBulkTest {
+
+    private static final UUID CHILD_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UnityMissionChildPromptContextDTO CHILD_CONTEXT = UnityMissionChildPromptContextDTO.builder()
+            .promptContext(UnityMissionPromptContextDTO.builder().build())
+            .allowedTargetEmotions(Set.of("Happiness"))
+            .build();
+
+    @Mock
+    private ReportLlmClient reportLlmClient;
+    @Mock
+    private UnityMissionLlmParsingService parsingService;
+    @Mock
+    private UnityMissionService unityMissionService;
+    @Mock
+    private UnityMissionPromptBuilderService promptBuilderService;
+
+    private UnityMissionGenerationService generationService;
+
+    @BeforeEach
+    void setUp() {
+        generationService = new UnityMissionGenerationService(
+                reportLlmClient, parsingService, unityMissionService, promptBuilderService, 5, 20, 60_000L);
+        when(promptBuilderService.buildChildContext(CHILD_ID, USER_ID)).thenReturn(CHILD_CONTEXT);
+        when(promptBuilderService.buildPrompt(eq(CHILD_CONTEXT), anyInt(), any()))
+                .thenAnswer(invocation -> "prompt-" + invocation.getArgument(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        generationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("LLM 호출을 동시에 수행하고 결과를 요청 순서대로 한 번에 저장한다")
+    void generateBulkMissionsForChild_fansOutAndPersistsOnce() {
+        CountDownLatch allInFlight = new CountDownLatch(5);
+        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString())).thenAnswer(invocation -> {
+            allInFlight.countDown();
+            if (!allInFlight.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("LLM calls were not issued concurrently");
+            }
+            return invocation.getArgument(0);
+        });
+        when(parsingService.parseMissionBatch(anyString(), any(), eq(CHILD_CONTEXT.getAllowedTargetEmotions())))
+                .thenAnswer(invocation -> missionFor(invocation.getArgument(0)));
+        when(unityMissionService.importMissionsForChild(any(), eq(CHILD_ID), eq(LocalDate.now())))
+                .thenReturn(UnityMissionImportResultDTO.builder()
+                        .requestedCount(5).savedCount(5).savedIds(List.of(1L, 2L, 3L, 4L, 5L)).build());
+
+        UnityMissionImportResultDTO result =
+                generationService.generateBulkMissionsForChild(CHILD_ID, USER_ID, 2, 3, 4000, "default");
+
+        assertEquals(5, result.getSavedCount());
+        verify(promptBuilderService).buildChildContext(CHILD_ID, USER_ID);
+        verify(promptBuilderService).buildPrompt(CHILD_CONTEXT, 2, UnityMissionGenerationType.EXPRESSION);
+        verify(promptBuilderService).buildPrompt(CHILD_CONTEXT, 3, UnityMissionGenerationType.SITUATION);
+
+        ArgumentCaptor<UnityMissionImportRequestDTO> captor = ArgumentCaptor.forClass(UnityMissionImportRequestDTO.class);
+        verify(unityMissionService).importMissionsForChild(captor.capture(), eq(CHILD_ID), eq(LocalDate.now()));
+        assertEquals(
+                List.of("prompt-1", "prompt-2", "prompt-3", "prompt-4", "prompt-5"),
+                captor.getValue().getMissions().stream().map(UnityMissionItemDTO::getMissionName).toList()
+        );
+    }
+
+    @Test
+    @DisplayName("하나라도 검증에 실패하면 아무것도 저장하지 않고 예외를 전달한다")
+    void generateBulkMissionsForChild_failureSavesNothing() {
+        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(parsingService.parseMissionBatch(anyString(), any(), any())).thenAnswer(invocation -> {
+            if ("prompt-2".equals(invocation.getArgument(0))) {
+                throw new InvalidRequestException("invalid json");
+            }
+            return missionFor(invocation.getArgument(0));
+        });
+
+        assertThrows(InvalidRequestException.class,
+                () -> generationService.generateBulkMissionsForChild(CHILD_ID, USER_ID, 2, 1, 4000, "default"));
+        verify(unityMissionService, never()).importMissionsForChild(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("공용 대기열이 가득 차면 기다리지 않고 503으로 거절하며 아무것도 저장하지 않는다")
+    void generateBulkMissionsForChild_queueFull_throwsServiceBusy() {
+        UnityMissionGenerationService saturated = new UnityMissionGenerationService(
+                reportLlmClient, parsingService, unityMissionService, promptBuilderService, 1, 1, 60_000L);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+
+        try {
+            assertThrows(ServiceBusyException.class,
+                    () -> saturated.generateBulkMissionsForChild(CHILD_ID, USER_ID, 2, 1, 4000, "default"));
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+        }
+        verify(unityMissionService, never()).importMissionsForChild(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 LLM 호출이 끝나지 않으면 요청 스레드는 더 기다리지 않고 503으로 거절한다")
+    void generateBulkMissionsForChild_deadlineExceeded_throwsServiceBusy() {
+        UnityMissionGenerationService impatient = new UnityMissionGenerationService(
+                reportLlmClient, parsingService, unityMissionService, promptBuilderService, 5, 20, 200L);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+
+        try {
+            assertThrows(ServiceBusyException.class,
+                    () -> impatient.generateBulkMissionsForChild(CHILD_ID, USER_ID, 1, 1, 4000, "default"));
+        } finally {
+            release.countDown();
+            impatient.shutdown();
+        }
+        verify(unityMissionService, never()).importMissionsForChild(any(), any(), any());
+    }
+
+    private UnityMissionImportRequestDTO missionFor(String title) {
+        return UnityMissionImportRequestDTO.builder()
+                .missions(List.of(UnityMissionItemDTO.builder().missionName(title).build()))
+                .build();
+    }
+}
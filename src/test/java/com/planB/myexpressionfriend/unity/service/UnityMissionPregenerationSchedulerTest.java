@@ -0,0 +1,73 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.service.ResilientReportLlmClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnityMissionPregenerationSchedulerTest {
+
+    @Mock
+    private UnityMissionPregenerationService pregenerationService;
+    @Mock
+    private ResilientReportLlmClient resilientReportLlmClient;
+
+    private UnityMissionPregenerationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new UnityMissionPregenerationScheduler(pregenerationService, resilientReportLlmClient);
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("재개 실행이 진행 중이어도 다음날 체크포인트는 만들고 처리만 건너뛴다")
+    void pregenerateNextDay_whileResumeRunning_stillSeedsCheckpoints() {
+        when(resilientReportLlmClient.isCircuitOpen()).thenReturn(false);
+        when(pregenerationService.resumePending()).thenReturn(new CompletableFuture<>());
+        scheduler.resumePending();
+
+        scheduler.pregenerateNextDay();
+
+        LocalDate missionDate = LocalDate.now().plusDays(1);
+        verify(pregenerationService).seedForDate(missionDate);
+        verify(pregenerationService, never()).processFromDate(any());
+    }
+
+    @Test
+    @DisplayName("LLM 서킷이 열려 있어도 다음날 체크포인트는 만들어 두고 처리는 재개 주기에 맡긴다")
+    void pregenerateNextDay_circuitOpen_stillSeedsCheckpoints() {
+        when(resilientReportLlmClient.isCircuitOpen()).thenReturn(true);
+
+        scheduler.pregenerateNextDay();
+
+        verify(pregenerationService).seedForDate(LocalDate.now().plusDays(1));
+        verify(pregenerationService, never()).processFromDate(any());
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업이 없으면 체크포인트를 만든 뒤 다음날 항목을 처리한다")
+    void pregenerateNextDay_idle_seedsAndProcesses() {
+        LocalDate missionDate = LocalDate.now().plusDays(1);
+        when(resilientReportLlmClient.isCircuitOpen()).thenReturn(false);
+        when(pregenerationService.processFromDate(missionDate)).thenReturn(CompletableFuture.completedFuture(3));
+
+        scheduler.pregenerateNextDay();
+
+        verify(pregenerationService).seedForDate(missionDate);
+        verify(pregenerationService).processFromDate(missionDate);
+    }
+}
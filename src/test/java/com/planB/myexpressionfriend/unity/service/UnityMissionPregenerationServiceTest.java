@@ -0,0 +1,218 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.domain.child.Child;
+import com.planB.myexpressionfriend.common.exception.InvalidRequestException;
+import com.planB.myexpressionfriend.common.exception.LlmQuotaExceededException;
+import com.planB.myexpressionfriend.common.repository.ChildRepository;
+import com.planB.myexpressionfriend.common.service.OpsMetricService;
+import com.planB.myexpressionfriend.common.service.ReportLlmClient;
+import com.planB.myexpressionfriend.common.service.ResilientReportLlmClient;
+import com.planB.myexpressionfriend.unity.domain.UnityMissionPregenerationCheckpoint;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionGenerationType;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionImportRequestDTO;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionItemDTO;
+import com.planB.myexpressionfriend.unity.dto.prompt.UnityMissionChildPromptContextDTO;
+import com.planB.myexpressionfriend.unity.dto.prompt.UnityMissionPromptContextDTO;
+import com.planB.myexpressionfriend.unity.repository.UnityMissionPregenerationCheckpointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class UnityMissionPregenerationServiceTest {
+
+    private static final Long CHECKPOINT_ID = 7L;
+    private static final UUID CHILD_ID = UUID.randomUUID();
+    private static final UUID PARENT_ID = UUID.randomUUID();
+    private static final LocalDate MISSION_DATE = LocalDate.of(2026, 3, 2);
+    private static final UnityMissionChildPromptContextDTO CHILD_CONTEXT = UnityMissionChildPromptContextDTO.builder()
+            .promptContext(UnityMissionPromptContextDTO.builder().build())
+            .allowedTargetEmotions(Set.of("Happiness"))
+            .build();
+
+    @Mock
+    private UnityMissionPregenerationCheckpointRepository checkpointRepository;
+    @Mock
+    private ChildRepository childRepository;
+    @Mock
+    private UnityMissionPromptBuilderService promptBuilderService;
+    @Mock
+    private UnityMissionLlmParsingService parsingService;
+    @Mock
+    private UnityMissionService unityMissionService;
+    @Mock
+    private ReportLlmClient reportLlmClient;
+    @Mock
+    private ResilientReportLlmClient resilientReportLlmClient;
+
+    private UnityMissionPregenerationService pregenerationService;
+
+    @BeforeEach
+    void setUp() {
+        pregenerationService = new UnityMissionPregenerationService(
+                checkpointRepository, childRepository, promptBuilderService, parsingService,
+                unityMissionService, reportLlmClient, resilientReportLlmClient, mock(PlatformTransactionManager.class),
+                new OpsMetricService(), 1, 2, 3, 3, 2, 900, 4000, "default");
+    }
+
+    @AfterEach
+    void tearDown() {
+        pregenerationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("체크포인트에 기록된 진행분 이후부터 이어서 생성하고 완료 처리한다")
+    void processCheckpoint_resumesFromRecordedProgress() {
+        givenClaimedCheckpoint(2, 1);
+        givenPrimaryParent();
+        when(promptBuilderService.buildChildContext(CHILD_ID, PARENT_ID)).thenReturn(CHILD_CONTEXT);
+        when(promptBuilderService.buildPrompt(eq(CHILD_CONTEXT), anyInt(), any())).thenReturn("prompt");
+        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString())).thenReturn("raw");
+        when(parsingService.parseMissionBatch(eq("raw"), any(), any())).thenReturn(oneMission());
+
+        pregenerationService.processCheckpoint(CHECKPOINT_ID);
+
+        verify(promptBuilderService).buildChildContext(CHILD_ID, PARENT_ID);
+        verify(promptBuilderService, never())
+                .buildPrompt(any(UnityMissionChildPromptContextDTO.class), anyInt(), eq(UnityMissionGenerationType.EXPRESSION));
+        verify(promptBuilderService).buildPrompt(CHILD_CONTEXT, 4, UnityMissionGenerationType.SITUATION);
+        verify(promptBuilderService).buildPrompt(CHILD_CONTEXT, 5, UnityMissionGenerationType.SITUATION);
+        verify(unityMissionService, times(2)).importMissionsForChild(any(), eq(CHILD_ID), eq(MISSION_DATE));
+        verify(checkpointRepository, times(2)).advance(eq(CHECKPOINT_ID), eq(0), eq(1), any(), any());
+        verify(checkpointRepository).finish(eq(CHECKPOINT_ID), eq("COMPLETED"), isNull(), any());
+    }
+
+    @Test
+    @DisplayName("검증 실패가 재시도 횟수를 넘으면 저장 없이 실패로 기록한다")
+    void processCheckpoint_marksFailedAfterRetries() {
+        givenClaimedCheckpoint(0, 0);
+        givenPrimaryParent();
+        when(promptBuilderService.buildChildContext(CHILD_ID, PARENT_ID)).thenReturn(CHILD_CONTEXT);
+        when(promptBuilderService.buildPrompt(eq(CHILD_CONTEXT), anyInt(), any())).thenReturn("prompt");
+        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString())).thenReturn("broken");
+        when(parsingService.parseMissionBatch(eq("broken"), any(), any()))
+                .thenThrow(new InvalidRequestException("invalid json"));
+
+        pregenerationService.processCheckpoint(CHECKPOINT_ID);
+
+        verify(reportLlmClient, times(2)).generateReport(anyString(), anyInt(), anyString());
+        verify(unityMissionService, never()).importMissionsForChild(any(), any(), any());
+        verify(checkpointRepository).finish(eq(CHECKPOINT_ID), eq("FAILED"), eq("invalid json"), any());
+    }
+
+    @Test
+    @DisplayName("서킷이 열린 상태의 쿼터 거절은 실패로 세지 않고 체크포인트를 반납한 뒤 남은 아동 처리를 멈춘다")
+    void processCheckpoint_circuitOpen_releasesAndPauses() {
+        givenClaimedCheckpoint(0, 0);
+        givenPrimaryParent();
+        when(promptBuilderService.buildChildContext(CHILD_ID, PARENT_ID)).thenReturn(CHILD_CONTEXT);
+        when(promptBuilderService.buildPrompt(eq(CHILD_CONTEXT), anyInt(), any())).thenReturn("prompt");
+        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString()))
+                .thenThrow(new LlmQuotaExceededException("circuit open", 30));
+        when(resilientReportLlmClient.isCircuitOpen()).thenReturn(false, true);
+
+        pregenerationService.processCheckpoint(CHECKPOINT_ID);
+        pregenerationService.processCheckpoint(8L);
+
+        verify(reportLlmClient, times(1)).generateReport(anyString(), anyInt(), anyString());
+        verify(checkpointRepository).release(eq(CHECKPOINT_ID), eq("circuit open"), any());
+        verify(checkpointRepository, never()).finish(any(), any(), any(), any());
+        verify(checkpointRepository, never()).claim(eq(8L), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("짧은 쿼터 거절은 시도 횟수에 넣지 않고 기다렸다가 다시 호출한다")
+    void processCheckpoint_shortQuotaRejection_retriesWithoutCountingAttempt() {
+        givenClaimedCheckpoint(2, 2);
+        givenPrimaryParent();
+        when(promptBuilderService.buildChildContext(CHILD_ID, PARENT_ID)).thenReturn(CHILD_CONTEXT);
+        when(promptBuilderService.buildPrompt(eq(CHILD_CONTEXT), anyInt(), any())).thenReturn("prompt");
+        when(reportLlmClient.generateReport(anyString(), anyInt(), anyString()))
+                .thenThrow(new LlmQuotaExceededException("limited", 0))
+                .thenThrow(new LlmQuotaExceededException("limited", 0))
+                .thenThrow(new LlmQuotaExceededException("limited", 0))
+                .thenReturn("raw");
+        when(parsingService.parseMissionBatch(eq("raw"), any(), any())).thenReturn(oneMission());
+
+        pregenerationService.processCheckpoint(CHECKPOINT_ID);
+
+        verify(reportLlmClient, times(4)).generateReport(anyString(), anyInt(), anyString());
+        verify(checkpointRepository).finish(eq(CHECKPOINT_ID), eq("COMPLETED"), isNull(), any());
+        verify(checkpointRepository, never()).release(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 실행이 먼저 선점한 체크포인트는 건너뛴다")
+    void processCheckpoint_skipsWhenClaimLost() {
+        when(checkpointRepository.claim(eq(CHECKPOINT_ID), anyInt(), any(), any())).thenReturn(0);
+
+        pregenerationService.processCheckpoint(CHECKPOINT_ID);
+
+        verify(checkpointRepository, never()).findById(any());
+        verify(reportLlmClient, never()).generateReport(anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("주보호자가 없는 아동은 생성하지 않고 SKIPPED로 기록한다")
+    void processCheckpoint_skipsChildWithoutPrimaryParent() {
+        givenClaimedCheckpoint(0, 0);
+        Child child = mock(Child.class);
+        when(child.getPrimaryParentId()).thenReturn(Optional.empty());
+        when(childRepository.findByIdWithAuthorizedUsers(CHILD_ID)).thenReturn(Optional.of(child));
+
+        pregenerationService.processCheckpoint(CHECKPOINT_ID);
+
+        verify(reportLlmClient, never()).generateReport(anyString(), anyInt(), anyString());
+        verify(checkpointRepository).finish(eq(CHECKPOINT_ID), eq("SKIPPED"), anyString(), any());
+    }
+
+    private void givenClaimedCheckpoint(int expressionDone, int situationDone) {
+        UnityMissionPregenerationCheckpoint checkpoint =
+                mock(UnityMissionPregenerationCheckpoint.class, withSettings().strictness(Strictness.LENIENT));
+        when(checkpoint.getChildId()).thenReturn(CHILD_ID);
+        when(checkpoint.getMissionDate()).thenReturn(MISSION_DATE);
+        when(checkpoint.getExpressionDone()).thenReturn(expressionDone);
+        when(checkpoint.getExpressionTarget()).thenReturn(2);
+        when(checkpoint.getSituationDone()).thenReturn(situationDone);
+        when(checkpoint.getSituationTarget()).thenReturn(3);
+        when(checkpoint.getCheckpointId()).thenReturn(CHECKPOINT_ID);
+        when(checkpointRepository.claim(eq(CHECKPOINT_ID), anyInt(), any(), any())).thenReturn(1);
+        when(checkpointRepository.findById(CHECKPOINT_ID)).thenReturn(Optional.of(checkpoint));
+    }
+
+    private void givenPrimaryParent() {
+        Child child = mock(Child.class);
+        when(child.getPrimaryParentId()).thenReturn(Optional.of(PARENT_ID));
+        when(childRepository.findByIdWithAuthorizedUsers(CHILD_ID)).thenReturn(Optional.of(child));
+    }
+
+    private UnityMissionImportRequestDTO oneMission() {
+        return UnityMissionImportRequestDTO.builder()
+                .missions(List.of(UnityMissionItemDTO.builder().build()))
+                .build();
+    }
+}
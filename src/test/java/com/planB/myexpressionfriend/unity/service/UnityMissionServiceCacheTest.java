@@ -0,0 +1,136 @@
+package com.planB.myexpressionfriend.unity.service;
+
+import com.planB.myexpressionfriend.common.domain.child.Child;
+import com.planB.myexpressionfriend.common.domain.child.ChildPermissionType;
+import com.planB.myexpressionfriend.common.repository.ChildRepository;
+import com.planB.myexpressionfriend.common.security.GameSessionTokenCache;
+import com.planB.myexpressionfriend.unity.domain.UnityMission;
+import com.planB.myexpressionfriend.unity.domain.UnityMissionApprovalStatus;
+import com.planB.myexpressionfriend.unity.dto.UnityMissionSetSummary;
+import com.planB.myexpressionfriend.unity.repository.UnityMissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnityMissionServiceCacheTest {
+
+    @Mock
+    private UnityMissionRepository unityMissionRepository;
+    @Mock
+    private ChildRepository childRepository;
+    @Mock
+    private GameSessionTokenCache gameSessionTokenCache;
+
+    private Cache approvedMissions;
+    private Cache approvedMissionsEtag;
+    private UnityMissionService unityMissionService;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("approvedMissions", "approvedMissionsEtag");
+        approvedMissions = cacheManager.getCache("approvedMissions");
+        approvedMissionsEtag = cacheManager.getCache("approvedMissionsEtag");
+        unityMissionService = new UnityMissionService(
+                unityMissionRepository, childRepository, gameSessionTokenCache, cacheManager,
+                new UnityMissionCatalogCache(60));
+    }
+
+    @Test
+    @DisplayName("승인 시 해당 아동과 미션 날짜의 캐시만 무효화한다")
+    void approveMission_evictsOnlyAffectedKey() {
+        UUID userId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        UUID otherChildId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        givenMission(1L, childId, userId, today);
+
+        approvedMissions.put(childId + ":" + today, List.of());
+        approvedMissions.put(childId + ":" + today.plusDays(1), List.of());
+        approvedMissions.put(otherChildId + ":" + today, List.of());
+        approvedMissionsEtag.put(childId + ":" + today, "\"old\"");
+        approvedMissionsEtag.put(otherChildId + ":" + today, "\"other\"");
+
+        unityMissionService.approveMission(1L, userId);
+
+        assertNull(approvedMissions.get(childId + ":" + today));
+        assertNull(approvedMissionsEtag.get(childId + ":" + today));
+        assertNotNull(approvedMissionsEtag.get(otherChildId + ":" + today));
+        assertNotNull(approvedMissions.get(childId + ":" + today.plusDays(1)));
+        assertNotNull(approvedMissions.get(otherChildId + ":" + today));
+    }
+
+    @Test
+    @DisplayName("거절 시에도 다른 아동의 캐시는 유지된다")
+    void rejectMission_keepsOtherChildren() {
+        UUID userId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        UUID otherChildId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        givenMission(2L, childId, userId, today);
+
+        approvedMissions.put(childId + ":" + today, List.of());
+        approvedMissions.put(otherChildId + ":" + today, List.of());
+
+        unityMissionService.rejectMission(2L, userId, "부적절한 상황");
+
+        assertNull(approvedMissions.get(childId + ":" + today));
+        assertNotNull(approvedMissions.get(otherChildId + ":" + today));
+    }
+
+    @Test
+    @DisplayName("ETag는 승인 미션 건수나 최종 수정 시각이 바뀔 때만 달라진다")
+    void getApprovedMissionsEtag_changesWithSummary() {
+        UUID childId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 3, 1, 9, 0);
+        when(unityMissionRepository.summarizeByChildAndApprovalStatusAndMissionDate(
+                childId, UnityMissionApprovalStatus.APPROVED, today))
+                .thenReturn(new UnityMissionSetSummary(2, updatedAt))
+                .thenReturn(new UnityMissionSetSummary(2, updatedAt))
+                .thenReturn(new UnityMissionSetSummary(3, updatedAt))
+                .thenReturn(new UnityMissionSetSummary(2, updatedAt.plusSeconds(1)));
+
+        String first = unityMissionService.getApprovedMissionsEtag(childId, today);
+
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+        assertEquals(first, unityMissionService.getApprovedMissionsEtag(childId, today));
+        assertNotEquals(first, unityMissionService.getApprovedMissionsEtag(childId, today));
+        assertNotEquals(first, unityMissionService.getApprovedMissionsEtag(childId, today));
+    }
+
+    private void givenMission(Long missionId, UUID childId, UUID userId, LocalDate missionDate) {
+        Child child = mock(Child.class);
+        when(child.getChildId()).thenReturn(childId);
+        when(child.hasPermission(userId, ChildPermissionType.PLAY_GAME)).thenReturn(true);
+        UnityMission mission = UnityMission.builder()
+                .child(child)
+                .missionId(1)
+                .missionName("웃는 얼굴 따라하기")
+                .missionTypeString("EXPRESSION")
+                .targetKeyword("웃음")
+                .targetEmotionString("HAPPY")
+                .missionDate(missionDate)
+                .build();
+        when(unityMissionRepository.findById(missionId)).thenReturn(Optional.of(mission));
+    }
+}